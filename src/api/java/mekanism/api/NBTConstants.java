@@ -202,6 +202,10 @@ public final class NBTConstants {
     public static final String OVERRIDE = "override";
     public static final String OWNER_UUID = "owner";
     public static final String PARTIAL_WASTE = "partialWaste";
+    /**
+     * @since 10.6.0
+     */
+    public static final String PATH = "path";
     public static final String PATH_TYPE = "pathType";
     /** @since 10.4.0 */
     public static final String PERSONAL_STORAGE_ID = "personalStorageId";
@@ -67,4 +67,17 @@ public interface IQIOFrequency extends IFrequency {
      * @implNote Negative amounts will lead to nothing being extracted rather than causing the item to be inserted.
      */
     long massExtract(ItemStack type, long amount, Action action);
+
+    /**
+     * Creates a new batch of transfers for this QIO Frequency. Queueing many inserts and extracts in a batch and committing them together is cheaper than calling
+     * {@link #massInsert(ItemStack, long, Action)} and {@link #massExtract(ItemStack, long, Action)} for each of them.
+     *
+     * @return A new empty batch.
+     *
+     * @implNote The default implementation doesn't combine any transfers, and instead just performs each queued transfer one at a time.
+     * @since 10.6.0
+     */
+    default IQIOTransferBatch createTransferBatch() {
+        return new PassThroughQIOTransferBatch(this);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,74 @@
+package mekanism.api.inventory.qio;
+
+import net.minecraft.world.item.ItemStack;
+
+/**
+ * A batch of item transfers to perform on a QIO Frequency. Transfers are queued, and then either simulated or committed together. Committing a batch only updates
+ * each affected drive and notifies any players viewing the frequency once, instead of once per transfer.
+ *
+ * <p>Transfers of the same item type in the same direction are combined into a single transfer. The amount each combined transfer moves is distributed to the queued
+ * transfers it was combined from in the order they were queued. Combined transfers are performed in the order that the first transfer of each was queued.</p>
+ *
+ * @see IQIOFrequency#createTransferBatch()
+ * @since 10.6.0
+ */
+public interface IQIOTransferBatch {
+
+    /**
+     * Queues inserting a given item type into the frequency.
+     *
+     * @param type   Type of {@link ItemStack} to insert; this stack will not be modified and the count is ignored.
+     * @param amount Amount to insert.
+     *
+     * @return Index of this transfer in the results of {@link #simulate()} and {@link #commit()}.
+     *
+     * @implNote Negative amounts will lead to nothing being inserted rather than causing the item to be extracted.
+     */
+    int queueInsert(ItemStack type, long amount);
+
+    /**
+     * Queues extracting a given item type from the frequency.
+     *
+     * @param type   Type of {@link ItemStack} to extract; this stack will not be modified and the count is ignored.
+     * @param amount Amount to extract.
+     *
+     * @return Index of this transfer in the results of {@link #simulate()} and {@link #commit()}.
+     *
+     * @implNote Negative amounts will lead to nothing being extracted rather than causing the item to be inserted.
+     */
+    int queueExtract(ItemStack type, long amount);
+
+    /**
+     * @return Number of transfers that have been queued.
+     */
+    int size();
+
+    /**
+     * @return {@code true} if no transfers have been queued.
+     */
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Simulates the queued transfers without changing the frequency or clearing the queue.
+     *
+     * @return The amount each queued transfer would insert or extract, indexed by the values returned when queueing them.
+     *
+     * @apiNote Each combined transfer is simulated against the current contents of the frequency, so the results don't account for how transfers of other item types
+     * would change the available space.
+     */
+    long[] simulate();
+
+    /**
+     * Performs the queued transfers and clears the queue, so that this batch can be reused.
+     *
+     * @return The amount each queued transfer inserted or extracted, indexed by the values returned when queueing them.
+     */
+    long[] commit();
+
+    /**
+     * Clears the queued transfers without performing them.
+     */
+    void clear();
+}
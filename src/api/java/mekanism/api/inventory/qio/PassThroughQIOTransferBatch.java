@@ -0,0 +1,81 @@
+package mekanism.api.inventory.qio;
+
+import java.util.ArrayList;
+import java.util.List;
+import mekanism.api.Action;
+import mekanism.api.annotations.NothingNullByDefault;
+import net.minecraft.world.item.ItemStack;
+
+/**
+ * Default implementation of {@link IQIOTransferBatch} for frequencies that don't provide their own, which performs each queued transfer one at a time using
+ * {@link IQIOFrequency#massInsert(ItemStack, long, Action)} and {@link IQIOFrequency#massExtract(ItemStack, long, Action)}.
+ *
+ * @since 10.6.0
+ */
+@NothingNullByDefault
+class PassThroughQIOTransferBatch implements IQIOTransferBatch {
+
+    private final IQIOFrequency frequency;
+    private final List<Transfer> transfers = new ArrayList<>();
+
+    PassThroughQIOTransferBatch(IQIOFrequency frequency) {
+        this.frequency = frequency;
+    }
+
+    @Override
+    public int queueInsert(ItemStack type, long amount) {
+        return queue(type, amount, true);
+    }
+
+    @Override
+    public int queueExtract(ItemStack type, long amount) {
+        return queue(type, amount, false);
+    }
+
+    private int queue(ItemStack type, long amount, boolean insert) {
+        //Copy the type so that changes to the passed in stack after queueing it don't affect the transfer
+        transfers.add(new Transfer(type.copyWithCount(1), amount, insert));
+        return transfers.size() - 1;
+    }
+
+    @Override
+    public int size() {
+        return transfers.size();
+    }
+
+    @Override
+    public long[] simulate() {
+        return perform(Action.SIMULATE);
+    }
+
+    @Override
+    public long[] commit() {
+        long[] results = perform(Action.EXECUTE);
+        clear();
+        return results;
+    }
+
+    private long[] perform(Action action) {
+        long[] results = new long[transfers.size()];
+        for (int i = 0; i < results.length; i++) {
+            Transfer transfer = transfers.get(i);
+            if (transfer.type.isEmpty() || transfer.amount <= 0) {
+                continue;
+            }
+            if (transfer.insert) {
+                results[i] = frequency.massInsert(transfer.type, transfer.amount, action);
+            } else {
+                results[i] = frequency.massExtract(transfer.type, transfer.amount, action);
+            }
+        }
+        return results;
+    }
+
+    @Override
+    public void clear() {
+        transfers.clear();
+    }
+
+    private record Transfer(ItemStack type, long amount, boolean insert) {
+    }
+}
@@ -227,6 +227,22 @@ public class FloatingLong extends Number implements Comparable<FloatingLong> {
         return this;
     }
 
+    /**
+     * Sets this {@link FloatingLong} to the value of the given {@link FloatingLong}.
+     *
+     * @param other The {@link FloatingLong} to copy the value of.
+     *
+     * @throws IllegalStateException if this {@link FloatingLong} is a constant.
+     * @apiNote Only for use by {@link FloatingLongAccumulator}, which owns the mutable {@link FloatingLong} it sets.
+     */
+    void set(FloatingLong other) {
+        if (isConstant) {
+            throw new IllegalStateException("Constant floating longs cannot be set");
+        }
+        this.value = other.value;
+        this.decimal = other.decimal;
+    }
+
     /**
      * Internal helper to clamp a decimal to the range [0, {@link #MAX_DECIMAL}].
      *
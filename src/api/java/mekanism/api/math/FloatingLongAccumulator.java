@@ -0,0 +1,246 @@
+package mekanism.api.math;
+
+import mekanism.api.annotations.NothingNullByDefault;
+
+/**
+ * A mutable running total of {@link FloatingLong} values. Unlike calling {@link FloatingLong#plusEqual(FloatingLong)} and the other in place operations directly, this
+ * can never accidentally be backed by a constant, so operations always modify the accumulator instead of returning new objects that then have to be assigned back.
+ * Adding, subtracting, dividing by a long, and comparing never create any objects.
+ *
+ * @apiNote The value of an accumulator is never exposed directly, use {@link #toFloatingLong()} or {@link #toConst()} to get a copy of the current value.
+ * @since 10.6.0
+ */
+@NothingNullByDefault
+public final class FloatingLongAccumulator {
+
+    private final FloatingLong value = FloatingLong.create(0);
+
+    /**
+     * Creates an accumulator starting at zero.
+     */
+    public FloatingLongAccumulator() {
+    }
+
+    /**
+     * Creates an accumulator starting at the given value.
+     *
+     * @param initial The value to start at.
+     */
+    public FloatingLongAccumulator(FloatingLong initial) {
+        value.set(initial);
+    }
+
+    /**
+     * Sets the value of this accumulator.
+     *
+     * @param toSet The value to set.
+     *
+     * @return This accumulator.
+     */
+    public FloatingLongAccumulator set(FloatingLong toSet) {
+        value.set(toSet);
+        return this;
+    }
+
+    /**
+     * Resets this accumulator to zero.
+     *
+     * @return This accumulator.
+     */
+    public FloatingLongAccumulator setZero() {
+        value.set(FloatingLong.ZERO);
+        return this;
+    }
+
+    /**
+     * Adds the given value to this accumulator, clamping at {@link FloatingLong#MAX_VALUE}.
+     *
+     * @param toAdd The value to add.
+     *
+     * @return This accumulator.
+     */
+    public FloatingLongAccumulator add(FloatingLong toAdd) {
+        value.plusEqual(toAdd);
+        return this;
+    }
+
+    /**
+     * Adds the given unsigned long to this accumulator, clamping at {@link FloatingLong#MAX_VALUE}.
+     *
+     * @param toAdd The value to add represented as an unsigned long.
+     *
+     * @return This accumulator.
+     */
+    public FloatingLongAccumulator add(long toAdd) {
+        value.plusEqual(toAdd);
+        return this;
+    }
+
+    /**
+     * Subtracts the given value from this accumulator, clamping at {@link FloatingLong#ZERO}.
+     *
+     * @param toSubtract The value to subtract.
+     *
+     * @return This accumulator.
+     */
+    public FloatingLongAccumulator subtract(FloatingLong toSubtract) {
+        value.minusEqual(toSubtract);
+        return this;
+    }
+
+    /**
+     * Subtracts the given unsigned long from this accumulator, clamping at {@link FloatingLong#ZERO}.
+     *
+     * @param toSubtract The value to subtract represented as an unsigned long.
+     *
+     * @return This accumulator.
+     */
+    public FloatingLongAccumulator subtract(long toSubtract) {
+        value.minusEqual(toSubtract);
+        return this;
+    }
+
+    /**
+     * Multiplies this accumulator by the given value, clamping at {@link FloatingLong#MAX_VALUE}.
+     *
+     * @param toMultiply The value to multiply by.
+     *
+     * @return This accumulator.
+     *
+     * @implNote Multiplying still creates intermediary objects, see {@link FloatingLong#timesEqual(FloatingLong)}.
+     */
+    public FloatingLongAccumulator multiply(FloatingLong toMultiply) {
+        value.timesEqual(toMultiply);
+        return this;
+    }
+
+    /**
+     * Multiplies this accumulator by the given unsigned long, clamping at {@link FloatingLong#MAX_VALUE}.
+     *
+     * @param toMultiply The value to multiply by represented as an unsigned long.
+     *
+     * @return This accumulator.
+     *
+     * @implNote Multiplying still creates intermediary objects, see {@link FloatingLong#timesEqual(long)}.
+     */
+    public FloatingLongAccumulator multiply(long toMultiply) {
+        value.timesEqual(toMultiply);
+        return this;
+    }
+
+    /**
+     * Divides this accumulator by the given unsigned long, rounding to the nearest 0.0001.
+     *
+     * @param toDivide The value to divide by represented as an unsigned long.
+     *
+     * @return This accumulator.
+     *
+     * @throws ArithmeticException if {@code toDivide} is zero.
+     */
+    public FloatingLongAccumulator divide(long toDivide) {
+        value.divideEquals(toDivide);
+        return this;
+    }
+
+    /**
+     * Divides this accumulator by the given value, rounding to the nearest 0.0001.
+     *
+     * @param toDivide The value to divide by.
+     *
+     * @return This accumulator.
+     *
+     * @throws ArithmeticException if {@code toDivide} is zero.
+     */
+    public FloatingLongAccumulator divide(FloatingLong toDivide) {
+        value.divideEquals(toDivide);
+        return this;
+    }
+
+    /**
+     * Lowers this accumulator to the given value if it is currently larger.
+     *
+     * @param other The value to clamp to.
+     *
+     * @return This accumulator.
+     */
+    public FloatingLongAccumulator min(FloatingLong other) {
+        if (value.greaterThan(other)) {
+            value.set(other);
+        }
+        return this;
+    }
+
+    /**
+     * Raises this accumulator to the given value if it is currently smaller.
+     *
+     * @param other The value to clamp to.
+     *
+     * @return This accumulator.
+     */
+    public FloatingLongAccumulator max(FloatingLong other) {
+        if (value.smallerThan(other)) {
+            value.set(other);
+        }
+        return this;
+    }
+
+    /**
+     * @return {@code true} if this accumulator is zero.
+     */
+    public boolean isZero() {
+        return value.isZero();
+    }
+
+    /**
+     * Compares this accumulator to the given value.
+     *
+     * @param toCompare The value to compare to.
+     *
+     * @see FloatingLong#compareTo(FloatingLong)
+     */
+    public int compareTo(FloatingLong toCompare) {
+        return value.compareTo(toCompare);
+    }
+
+    public boolean smallerThan(FloatingLong toCompare) {
+        return value.smallerThan(toCompare);
+    }
+
+    public boolean smallerOrEqual(FloatingLong toCompare) {
+        return value.smallerOrEqual(toCompare);
+    }
+
+    public boolean greaterThan(FloatingLong toCompare) {
+        return value.greaterThan(toCompare);
+    }
+
+    public boolean greaterOrEqual(FloatingLong toCompare) {
+        return value.greaterOrEqual(toCompare);
+    }
+
+    /**
+     * @return {@code true} if this accumulator is equal in value to the given {@link FloatingLong}.
+     */
+    public boolean valueEquals(FloatingLong other) {
+        return value.equals(other);
+    }
+
+    /**
+     * @return A new mutable {@link FloatingLong} holding the current value of this accumulator.
+     */
+    public FloatingLong toFloatingLong() {
+        return value.copy();
+    }
+
+    /**
+     * @return A constant {@link FloatingLong} holding the current value of this accumulator, or {@link FloatingLong#ZERO} if this accumulator is zero.
+     */
+    public FloatingLong toConst() {
+        return value.isZero() ? FloatingLong.ZERO : value.copyAsConst();
+    }
+
+    @Override
+    public String toString() {
+        return value.toString();
+    }
+}
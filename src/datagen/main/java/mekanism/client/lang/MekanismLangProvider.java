@@ -987,6 +987,12 @@ public class MekanismLangProvider extends BaseLanguageProvider {
         add(MekanismLang.COMMAND_CHUNK_LOADED, "Loaded chunk (%1$s).");
         add(MekanismLang.COMMAND_CHUNK_UNLOADED, "Unloaded chunk (%1$s).");
         add(MekanismLang.COMMAND_DEBUG, "Toggled debug mode: %1$s.");
+        add(MekanismLang.COMMAND_DEBUG_NETWORKS, "Transmitter networks over the last %1$s ticks: %2$s invalidated transmitters, %3$s orphans, %4$s networks formed, %5$s merged, %6$s split, %7$s positions visited.");
+        add(MekanismLang.COMMAND_DEBUG_NETWORKS_PHASE, "%1$s: %2$s ms/tick average, %3$s ms max.");
+        add(MekanismLang.COMMAND_DEBUG_NETWORKS_HOTSPOT, "Chunk (%1$s) in %2$s: %3$s orphans.");
+        add(MekanismLang.COMMAND_DEBUG_NETWORKS_EXPORTED, "Exported transmitter network metrics to: %1$s.");
+        add(MekanismLang.COMMAND_DEBUG_NETWORKS_RESET, "Reset transmitter network metrics.");
+        add(MekanismLang.COMMAND_ERROR_DEBUG_NETWORKS_EXPORT, "Failed to export transmitter network metrics, see the log for details.");
         add(MekanismLang.COMMAND_TEST_RULES, "Enabled keepInventory, and disabled doMobSpawning, doDaylightCycle, doWeatherCycle and mobGriefing!");
         add(MekanismLang.COMMAND_TP, "Teleported to (%1$s) - saved last position on stack.");
         add(MekanismLang.COMMAND_TPOP, "Returned to (%1$s); %2$s positions on stack.");
@@ -0,0 +1,71 @@
+package mekanism.common.tests.lib;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+import mekanism.common.lib.math.voxel.ChunkSectionCache;
+import mekanism.common.tests.MekanismTests;
+import mekanism.common.tests.helpers.MekGameTestHelper;
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.entity.BarrelBlockEntity;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.levelgen.structure.templatesystem.StructureTemplate;
+import net.neoforged.testframework.annotation.ForEachTest;
+import net.neoforged.testframework.annotation.RegisterStructureTemplate;
+import net.neoforged.testframework.annotation.TestHolder;
+import net.neoforged.testframework.gametest.StructureTemplateBuilder;
+
+@ForEachTest(groups = "lib.chunk_cache")
+public class ChunkSectionCacheTest {
+
+    private static final String MIXED_BLOCKS = MekanismTests.MODID + ":mixed_blocks";
+    //Note: The template is larger than a chunk section in both horizontal directions, so that it always spans multiple sections
+    @RegisterStructureTemplate(MIXED_BLOCKS)
+    public static final Supplier<StructureTemplate> MIXED_BLOCKS_TEMPLATE = StructureTemplateBuilder.lazy(18, 2, 18, builder -> builder
+          .fill(0, 0, 0, 17, 0, 17, Blocks.STONE.defaultBlockState())
+          .fill(0, 1, 0, 17, 1, 0, Blocks.BARREL.defaultBlockState())
+          .fill(0, 1, 17, 17, 1, 17, Blocks.GLASS.defaultBlockState())
+    );
+
+    @GameTest(template = MIXED_BLOCKS)
+    @TestHolder(description = "Tests that looking up blocks and tiles through a chunk section cache matches looking them up directly from the level.")
+    public static void matchesLevel(final MekGameTestHelper helper) {
+        ServerLevel level = helper.getLevel();
+        ChunkSectionCache cache = new ChunkSectionCache(level);
+        List<BlockPos> positions = new ArrayList<>();
+        helper.forEveryBlockInStructure(relativePos -> positions.add(helper.absolutePos(relativePos)));
+        //Check the positions in order, so that the cached section is reused, and then shuffled, so that the cached section keeps changing
+        checkPositions(helper, level, cache, positions);
+        Collections.shuffle(positions, new Random(0));
+        checkPositions(helper, level, cache, positions);
+
+        BlockPos start = positions.getFirst();
+        if (cache.getBlockState(new BlockPos(start.getX(), level.getMaxBuildHeight(), start.getZ())) != null) {
+            helper.fail("Expected positions outside the world to not be loaded");
+        }
+        BlockPos unloaded = start.offset(1_000_000, 0, 0);
+        if (!level.hasChunkAt(unloaded) && (cache.getBlockState(unloaded) != null || cache.getTileEntity(unloaded) != null)) {
+            helper.fail("Expected positions in unloaded chunks to not be loaded");
+        }
+        helper.succeed();
+    }
+
+    private static void checkPositions(MekGameTestHelper helper, ServerLevel level, ChunkSectionCache cache, List<BlockPos> positions) {
+        for (BlockPos pos : positions) {
+            if (cache.getBlockState(pos) != level.getBlockState(pos)) {
+                helper.fail("Cached block state does not match the level", helper.relativePos(pos));
+            }
+            BlockEntity tile = level.getBlockEntity(pos);
+            if (cache.getTileEntity(pos) != tile) {
+                helper.fail("Cached tile does not match the level", helper.relativePos(pos));
+            } else if ((cache.getTileEntity(BarrelBlockEntity.class, pos) == null) == tile instanceof BarrelBlockEntity) {
+                helper.fail("Cached typed tile does not match the level", helper.relativePos(pos));
+            }
+        }
+    }
+}
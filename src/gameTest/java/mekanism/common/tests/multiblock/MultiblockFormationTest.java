@@ -0,0 +1,70 @@
+package mekanism.common.tests.multiblock;
+
+import java.util.function.Supplier;
+import mekanism.common.registries.MekanismBlocks;
+import mekanism.common.tests.MekanismTests;
+import mekanism.common.tests.helpers.MekGameTestHelper;
+import mekanism.common.tile.prefab.TileEntityMultiblock;
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.levelgen.structure.templatesystem.StructureTemplate;
+import net.neoforged.testframework.annotation.ForEachTest;
+import net.neoforged.testframework.annotation.RegisterStructureTemplate;
+import net.neoforged.testframework.annotation.TestHolder;
+import net.neoforged.testframework.gametest.StructureTemplateBuilder;
+
+@ForEachTest(groups = "multiblock.formation")
+public class MultiblockFormationTest {
+
+    private static final String EVAPORATION_TOWER = MekanismTests.MODID + ":evaporation_tower";
+    //Note: Our template is lazy so that we ensure the evaporation blocks are registered
+    @RegisterStructureTemplate(EVAPORATION_TOWER)
+    public static final Supplier<StructureTemplate> EVAPORATION_TOWER_TEMPLATE = StructureTemplateBuilder.lazy(4, 3, 4, builder -> builder
+          .fill(0, 0, 0, 3, 2, 3, MekanismBlocks.THERMAL_EVAPORATION_BLOCK.defaultState())
+          //Hollow out the inside, leaving the top open
+          .fill(1, 1, 1, 2, 2, 2, Blocks.AIR.defaultBlockState())
+          .set(1, 1, 0, MekanismBlocks.THERMAL_EVAPORATION_CONTROLLER.defaultState())
+    );
+    private static final String DYNAMIC_TANK = MekanismTests.MODID + ":dynamic_tank";
+    //Note: Our template is lazy so that we ensure the dynamic tank blocks are registered
+    @RegisterStructureTemplate(DYNAMIC_TANK)
+    public static final Supplier<StructureTemplate> DYNAMIC_TANK_TEMPLATE = StructureTemplateBuilder.lazy(3, 3, 3, builder -> builder
+          .fill(0, 0, 0, 2, 2, 2, MekanismBlocks.DYNAMIC_TANK.defaultState())
+          .set(1, 1, 1, Blocks.AIR.defaultBlockState())
+    );
+
+    @GameTest(template = EVAPORATION_TOWER)
+    @TestHolder(description = "Tests that a formed evaporation tower reforms after a block inside it changes, "
+                              + "even though the validator only finds the controller while validating the casing.")
+    public static void reformEvaporationTower(final MekGameTestHelper helper) {
+        reformAfterInnerChange(helper, new BlockPos(1, 2, 0), new BlockPos(1, 2, 1));
+    }
+
+    @GameTest(template = DYNAMIC_TANK)
+    @TestHolder(description = "Tests that a formed dynamic tank reforms after a block inside it changes, by only rechecking the changed position.")
+    public static void reformDynamicTank(final MekGameTestHelper helper) {
+        reformAfterInnerChange(helper, new BlockPos(0, 1, 0), new BlockPos(1, 2, 1));
+    }
+
+    private static void reformAfterInnerChange(MekGameTestHelper helper, BlockPos casingPos, BlockPos innerPos) {
+        helper.startSequence()
+              .thenWaitUntil(() -> assertFormed(helper, casingPos))
+              //Place and then remove a block inside the structure in the same tick, so that the structure is marked as having inner changes,
+              // but the inside is valid again by the time it reforms
+              .thenExecute(() -> {
+                  helper.setBlock(innerPos, Blocks.STONE);
+                  helper.setBlock(innerPos, Blocks.AIR);
+              })
+              //Wait 5 ticks to ensure it has time to process everything (expected to only take a single tick)
+              .thenIdle(5)
+              .thenExecute(() -> assertFormed(helper, casingPos))
+              .thenSucceed();
+    }
+
+    private static void assertFormed(MekGameTestHelper helper, BlockPos casingPos) {
+        if (!helper.requireBlockEntity(casingPos, TileEntityMultiblock.class).getMultiblock().isFormed()) {
+            helper.fail("Multiblock is not formed", casingPos);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package mekanism.common.tests.qio;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import mekanism.api.Action;
+import mekanism.common.attachments.qio.DriveContents;
+import mekanism.common.content.qio.QIODriveData;
+import mekanism.common.content.qio.QIODriveData.QIODriveKey;
+import mekanism.common.content.qio.QIOGlobalItemLookup;
+import mekanism.common.inventory.slot.QIODriveSlot;
+import mekanism.common.lib.inventory.HashedItem;
+import mekanism.common.registries.MekanismBlocks;
+import mekanism.common.registries.MekanismDataComponents;
+import mekanism.common.registries.MekanismItems;
+import mekanism.common.tests.MekanismTests;
+import mekanism.common.tests.helpers.MekGameTestHelper;
+import mekanism.common.tile.qio.TileEntityQIODriveArray;
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.nbt.NbtOps;
+import net.minecraft.nbt.Tag;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.level.levelgen.structure.templatesystem.StructureTemplate;
+import net.neoforged.testframework.annotation.ForEachTest;
+import net.neoforged.testframework.annotation.RegisterStructureTemplate;
+import net.neoforged.testframework.annotation.TestHolder;
+import net.neoforged.testframework.gametest.StructureTemplateBuilder;
+
+@ForEachTest(groups = "qio.drive_data")
+public class QIODriveDataTest {
+
+    private static final String DRIVE_ARRAY = MekanismTests.MODID + ":drive_array";
+    //Note: Our template is lazy so that we ensure the drive array is registered
+    @RegisterStructureTemplate(DRIVE_ARRAY)
+    public static final Supplier<StructureTemplate> DRIVE_ARRAY_TEMPLATE = StructureTemplateBuilder.lazy(1, 1, 1, builder -> builder
+          .set(0, 0, 0, MekanismBlocks.QIO_DRIVE_ARRAY.defaultState())
+    );
+    private static final BlockPos DRIVE_ARRAY_POS = new BlockPos(0, 1, 0);
+
+    private static final HashedItem STONE = HashedItem.create(new ItemStack(Items.STONE));
+    private static final HashedItem DIRT = HashedItem.create(new ItemStack(Items.DIRT));
+    private static final HashedItem SAND = HashedItem.create(new ItemStack(Items.SAND));
+    private static final HashedItem GRAVEL = HashedItem.create(new ItemStack(Items.GRAVEL));
+    private static final HashedItem COBBLESTONE = HashedItem.create(new ItemStack(Items.COBBLESTONE));
+    private static final List<HashedItem> ALL_TYPES = List.of(STONE, DIRT, SAND, GRAVEL, COBBLESTONE);
+
+    @GameTest(template = DRIVE_ARRAY)
+    @TestHolder(description = "Tests that saving a QIO drive only rewriting the entries that changed produces the same contents as entirely reserializing the drive.")
+    public static void savesChangedEntries(final MekGameTestHelper helper) {
+        QIODriveSlot slot = helper.requireBlockEntity(DRIVE_ARRAY_POS, TileEntityQIODriveArray.class).getDriveSlots().getFirst();
+        //Note: As the drive array isn't on a frequency, this won't create any drive data for the drive
+        slot.setStackUnchecked(MekanismItems.BASE_QIO_DRIVE.getItemStack());
+        QIODriveKey key = slot.getKey();
+        QIODriveData data = new QIODriveData(key);
+
+        //Add types to an empty drive
+        data.add(STONE, 10, Action.EXECUTE);
+        data.add(DIRT, 20, Action.EXECUTE);
+        data.add(SAND, 30, Action.EXECUTE);
+        data.add(GRAVEL, 40, Action.EXECUTE);
+        saveAndCheck(helper, key, data);
+
+        //Only change the first type
+        data.add(STONE, 5, Action.EXECUTE);
+        saveAndCheck(helper, key, data);
+
+        //Only change the count of a type in the middle without removing it
+        data.remove(SAND, 10, Action.EXECUTE);
+        saveAndCheck(helper, key, data);
+
+        //Remove a type in the middle, which moves the last type into its place
+        data.remove(DIRT, 20, Action.EXECUTE);
+        saveAndCheck(helper, key, data);
+
+        //Remove the last type, which shrinks the contents without any type being moved
+        data.remove(SAND, 20, Action.EXECUTE);
+        saveAndCheck(helper, key, data);
+
+        //Re-add a type that was removed, and add a new type
+        data.add(DIRT, 7, Action.EXECUTE);
+        data.add(COBBLESTONE, 3, Action.EXECUTE);
+        saveAndCheck(helper, key, data);
+
+        //Remove and re-add a type before saving, and remove the first type
+        data.remove(GRAVEL, 40, Action.EXECUTE);
+        data.add(GRAVEL, 1, Action.EXECUTE);
+        data.remove(STONE, 15, Action.EXECUTE);
+        saveAndCheck(helper, key, data);
+
+        //Remove everything
+        for (HashedItem type : ALL_TYPES) {
+            data.remove(type, Long.MAX_VALUE, Action.EXECUTE);
+        }
+        saveAndCheck(helper, key, data);
+        helper.assertValueEqual(0, data.getTotalTypes(), "types after removing everything");
+        helper.succeed();
+    }
+
+    @GameTest(template = DRIVE_ARRAY)
+    @TestHolder(description = "Tests that changes made to a QIO drive after it is loaded are saved on top of the contents it was loaded from.")
+    public static void savesChangesAfterLoading(final MekGameTestHelper helper) {
+        QIODriveSlot slot = helper.requireBlockEntity(DRIVE_ARRAY_POS, TileEntityQIODriveArray.class).getDriveSlots().getFirst();
+        slot.setStackUnchecked(MekanismItems.BASE_QIO_DRIVE.getItemStack());
+        QIODriveKey key = slot.getKey();
+        QIODriveData data = new QIODriveData(key);
+        data.add(STONE, 10, Action.EXECUTE);
+        data.add(DIRT, 20, Action.EXECUTE);
+        data.add(SAND, 30, Action.EXECUTE);
+        saveAndCheck(helper, key, data);
+
+        //Remove the first type from a freshly loaded drive, which moves the last type into its place
+        data = new QIODriveData(key);
+        data.remove(STONE, 10, Action.EXECUTE);
+        saveAndCheck(helper, key, data);
+
+        //Add a type to a freshly loaded drive
+        data = new QIODriveData(key);
+        data.add(GRAVEL, 40, Action.EXECUTE);
+        saveAndCheck(helper, key, data);
+        helper.succeed();
+    }
+
+    /**
+     * Saves the drive, checks the saved contents match a full reserialization of the drive both directly and after a round trip through the codec, and that loading the
+     * drive from the saved contents doesn't lose anything.
+     */
+    private static void saveAndCheck(MekGameTestHelper helper, QIODriveKey key, QIODriveData data) {
+        if (!data.hasUnsavedChanges()) {
+            helper.fail("Expected the drive to have unsaved changes");
+        }
+        key.save(data);
+        if (data.hasUnsavedChanges()) {
+            helper.fail("Expected the drive to not have unsaved changes after saving");
+        }
+        DriveContents saved = key.getDriveStack().get(MekanismDataComponents.DRIVE_CONTENTS);
+        DriveContents expected = reserialize(data);
+        helper.assertValueEqual(expected, saved, "saved contents");
+        //Saving again without any changes shouldn't recreate the contents
+        if (data.createContents() != saved) {
+            helper.fail("Expected the saved contents to be reused when nothing changed");
+        }
+
+        Tag encoded = DriveContents.CODEC.encodeStart(NbtOps.INSTANCE, saved).getOrThrow();
+        DriveContents decoded = DriveContents.CODEC.parse(NbtOps.INSTANCE, encoded).getOrThrow();
+        helper.assertValueEqual(expected, decoded, "decoded contents");
+
+        //Load the drive from what was saved, and make sure nothing was lost
+        QIODriveData loaded = new QIODriveData(key);
+        helper.assertValueEqual(data.getTotalTypes(), loaded.getTotalTypes(), "loaded types");
+        helper.assertValueEqual(data.getTotalCount(), loaded.getTotalCount(), "loaded count");
+        for (HashedItem type : ALL_TYPES) {
+            helper.assertValueEqual(data.getStored(type), loaded.getStored(type), "loaded amount of " + type.getInternalStack());
+        }
+        helper.assertValueEqual(expected, loaded.createContents(), "loaded contents");
+    }
+
+    private static DriveContents reserialize(QIODriveData data) {
+        long[] serialized = new long[3 * data.getTotalTypes()];
+        for (int i = 0, j = 0; i < data.getTotalTypes(); i++) {
+            UUID uuid = QIOGlobalItemLookup.INSTANCE.getUUIDForType(data.getType(i));
+            if (uuid == null) {
+                throw new IllegalStateException("Stored type " + data.getType(i).getInternalStack() + " has no uuid");
+            }
+            serialized[j++] = uuid.getMostSignificantBits();
+            serialized[j++] = uuid.getLeastSignificantBits();
+            serialized[j++] = data.getCount(i);
+        }
+        return DriveContents.wrap(serialized);
+    }
+}
@@ -33,6 +33,11 @@ import net.minecraft.world.level.chunk.ChunkAccess;
 
 public class FissionReactorValidator extends CuboidStructureValidator<FissionReactorMultiblockData> {
 
+    @Override
+    public boolean supportsIncrementalRebuild() {
+        return true;
+    }
+
     @Override
     protected CasingType getCasingType(BlockState state) {
         Block block = state.getBlock();
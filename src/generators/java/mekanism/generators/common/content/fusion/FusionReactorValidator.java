@@ -57,6 +57,11 @@ public class FusionReactorValidator extends CuboidStructureValidator<FusionReact
         return super.validateFrame(ctx, pos, state, type, needsFrame);
     }
 
+    @Override
+    public boolean supportsIncrementalRebuild() {
+        return true;
+    }
+
     @Override
     protected CasingType getCasingType(BlockState state) {
         Block block = state.getBlock();
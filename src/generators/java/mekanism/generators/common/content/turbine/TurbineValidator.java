@@ -6,6 +6,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import mekanism.common.content.blocktype.BlockType;
+import mekanism.common.lib.math.voxel.ChunkSectionCache;
 import mekanism.common.lib.math.voxel.VoxelCuboid;
 import mekanism.common.lib.multiblock.CuboidStructureValidator;
 import mekanism.common.lib.multiblock.FormationProtocol;
@@ -37,6 +38,11 @@ public class TurbineValidator extends CuboidStructureValidator<TurbineMultiblock
         super(new VoxelCuboid(5, 3, 5), new VoxelCuboid(17, 18, 17));
     }
 
+    @Override
+    public boolean supportsIncrementalRebuild() {
+        return true;
+    }
+
     @Override
     protected CasingType getCasingType(BlockState state) {
         Block block = state.getBlock();
@@ -169,8 +175,8 @@ public class TurbineValidator extends CuboidStructureValidator<TurbineMultiblock
         structure.blades = blades;
 
         //Explore short circuits if the start position is not valid
-        structure.coils = FormationProtocol.explore(world, chunkMap, complex.relative(Direction.UP), null,
-              (level, chunks, start, n, pos) -> WorldUtils.getTileEntity(TileEntityElectromagneticCoil.class, level, chunks, pos) != null);
+        structure.coils = FormationProtocol.explore(new ChunkSectionCache(world, chunkMap), complex.relative(Direction.UP), null,
+              (cache, start, n, pos) -> cache.getTileEntity(TileEntityElectromagneticCoil.class, pos) != null);
 
         if (coils.size() > structure.coils) {
             return FormationResult.fail(GeneratorsLang.TURBINE_INVALID_MALFORMED_COILS);
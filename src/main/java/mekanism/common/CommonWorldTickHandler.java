@@ -13,6 +13,7 @@ import mekanism.api.security.IBlockSecurityUtils;
 import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.qio.IQIOCraftingWindowHolder;
 import mekanism.common.content.qio.QIOGlobalItemLookup;
+import mekanism.common.content.transporter.TransporterManager;
 import mekanism.common.inventory.container.item.PortableQIODashboardContainer;
 import mekanism.common.lib.frequency.FrequencyManager;
 import mekanism.common.lib.multiblock.MultiblockManager;
@@ -180,6 +181,7 @@ public class CommonWorldTickHandler {
     public void onTick(ServerTickEvent.Post event) {
         FrequencyManager.tick();
         RadiationManager.get().tickServer();
+        TransporterManager.tick();
     }
 
     @SubscribeEvent
@@ -38,6 +38,7 @@ import mekanism.common.content.gear.ModuleDispenseBehavior;
 import mekanism.common.content.gear.ModuleHelper;
 import mekanism.common.content.matrix.MatrixMultiblockData;
 import mekanism.common.content.matrix.MatrixValidator;
+import mekanism.common.content.miner.MinerSearchExecutor;
 import mekanism.common.content.network.BoxedChemicalNetwork.ChemicalTransferEvent;
 import mekanism.common.content.network.EnergyNetwork.EnergyTransferEvent;
 import mekanism.common.content.network.FluidNetwork.FluidTransferEvent;
@@ -72,6 +73,7 @@ import mekanism.common.network.to_client.transmitter.PacketFluidNetworkContents;
 import mekanism.common.network.to_client.transmitter.PacketNetworkScale;
 import mekanism.common.recipe.MekanismRecipeType;
 import mekanism.common.recipe.condition.MekanismRecipeConditions;
+import mekanism.common.recipe.lookup.monitor.RecipeCacheLookupMonitor;
 import mekanism.common.registries.MekanismArmorMaterials;
 import mekanism.common.registries.MekanismAttachmentTypes;
 import mekanism.common.registries.MekanismBlocks;
@@ -317,6 +319,7 @@ public class Mekanism {
         //Reset consistent managers
         QIOGlobalItemLookup.INSTANCE.reset();
         RadiationManager.get().reset();
+        MinerSearchExecutor.shutdown();
         MultiblockManager.reset();
         FrequencyManager.reset();
         TransporterManager.reset();
@@ -430,6 +433,8 @@ public class Mekanism {
         //Make sure it is for the same modid as us
         if (config.getModId().equals(MODID) && config instanceof MekanismModConfig mekConfig) {
             mekConfig.clearCache(configEvent);
+            //Let any dormant recipes recheck if they can process now, as things like energy usage may have changed
+            RecipeCacheLookupMonitor.wakeAll();
         }
     }
 
@@ -163,6 +163,12 @@ public enum MekanismLang implements ILangEntry {
     COMMAND_CHUNK_LOADED("command", "chunk.loaded"),
     COMMAND_CHUNK_UNLOADED("command", "chunk.unloaded"),
     COMMAND_DEBUG("command", "debug"),
+    COMMAND_DEBUG_NETWORKS("command", "debug.networks"),
+    COMMAND_DEBUG_NETWORKS_PHASE("command", "debug.networks.phase"),
+    COMMAND_DEBUG_NETWORKS_HOTSPOT("command", "debug.networks.hotspot"),
+    COMMAND_DEBUG_NETWORKS_EXPORTED("command", "debug.networks.exported"),
+    COMMAND_DEBUG_NETWORKS_RESET("command", "debug.networks.reset"),
+    COMMAND_ERROR_DEBUG_NETWORKS_EXPORT("command", "error.debug.networks.export"),
     COMMAND_TEST_RULES("command", "testrules"),
     COMMAND_TP("command", "tp"),
     COMMAND_TPOP("command", "tpop"),
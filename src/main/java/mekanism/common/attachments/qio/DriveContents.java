@@ -2,69 +2,140 @@ package mekanism.common.attachments.qio;
 
 import com.mojang.serialization.Codec;
 import io.netty.buffer.ByteBuf;
+import io.netty.handler.codec.DecoderException;
 import it.unimi.dsi.fastutil.objects.Object2LongLinkedOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongSortedMap;
 import it.unimi.dsi.fastutil.objects.Object2LongSortedMaps;
+import java.util.Arrays;
 import java.util.UUID;
 import java.util.stream.LongStream;
 import mekanism.api.annotations.NothingNullByDefault;
-import mekanism.common.content.qio.QIODriveData;
-import mekanism.common.content.qio.QIOGlobalItemLookup;
-import mekanism.common.lib.inventory.HashedItem;
-import net.minecraft.core.UUIDUtil;
 import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
+import org.jetbrains.annotations.Nullable;
 
-@NothingNullByDefault//Sorted map so that the save order is consistent
-public record DriveContents(Object2LongSortedMap<UUID> namedItemMap) {
+/**
+ * Contents of a QIO drive. The contents are stored in the same compact form they are saved in, which is a single long array that stores the data in partitions of three.
+ * The first partition stores the most significant bits of the UUID that represents the stack, the second partition stores the least significant bits, and the final
+ * partition stores the amount of the item that is stored in the drive. This maxes out at using {@code 3 * types per drive size * bytes per long + bytes per int} bytes to
+ * store just the array of items to in the drive. For our max drive size this is equivalent to {@code 3 * 8,192 * 8 + 4 = 196,612} bytes.
+ *
+ * @implNote Keeping the serialized form lets {@link mekanism.common.content.qio.QIODriveData} only rewrite the entries that changed since it was last saved, instead of
+ * rebuilding the entire contents each time the drive is saved.
+ */
+@NothingNullByDefault
+public final class DriveContents {
 
-    public static final DriveContents EMPTY = new DriveContents(Object2LongSortedMaps.emptyMap());
+    public static final DriveContents EMPTY = new DriveContents(new long[0]);
 
     public static final Codec<DriveContents> CODEC = Codec.LONG_STREAM.xmap(
           stream -> readSerializedItemMap(stream.toArray()),
-          contents -> LongStream.of(contents.serializeItemMap())
+          contents -> LongStream.of(contents.serializedItemMap)
     );
-    public static final StreamCodec<ByteBuf, DriveContents> STREAM_CODEC = ByteBufCodecs.<ByteBuf, UUID, Long, Object2LongSortedMap<UUID>>map(
-                Object2LongLinkedOpenHashMap::new, UUIDUtil.STREAM_CODEC, ByteBufCodecs.VAR_LONG)
-          .map(DriveContents::new, DriveContents::namedItemMap);
+    /**
+     * Minimum number of bytes each type takes up when encoded over the network.
+     */
+    private static final int MIN_ENTRY_BYTES = 2 * Long.BYTES + 1;
+    //Note: Matches the format of a map of UUIDs to var longs
+    public static final StreamCodec<ByteBuf, DriveContents> STREAM_CODEC = StreamCodec.of(
+          (buffer, contents) -> {
+              long[] serializedItemMap = contents.serializedItemMap;
+              ByteBufCodecs.VAR_INT.encode(buffer, serializedItemMap.length / 3);
+              for (int i = 0; i < serializedItemMap.length; i += 3) {
+                  buffer.writeLong(serializedItemMap[i]);
+                  buffer.writeLong(serializedItemMap[i + 1]);
+                  ByteBufCodecs.VAR_LONG.encode(buffer, serializedItemMap[i + 2]);
+              }
+          }, buffer -> {
+              int types = ByteBufCodecs.VAR_INT.decode(buffer);
+              if (types == 0) {
+                  return EMPTY;
+              } else if (types < 0 || types > buffer.readableBytes() / MIN_ENTRY_BYTES) {
+                  //Validate the number of types before allocating, as each entry takes at least two longs and a single byte var long
+                  throw new DecoderException("Invalid number of drive content types: " + types);
+              }
+              long[] serializedItemMap = new long[3 * types];
+              for (int i = 0; i < serializedItemMap.length; i += 3) {
+                  serializedItemMap[i] = buffer.readLong();
+                  serializedItemMap[i + 1] = buffer.readLong();
+                  serializedItemMap[i + 2] = ByteBufCodecs.VAR_LONG.decode(buffer);
+              }
+              return new DriveContents(serializedItemMap);
+          }
+    );
+
+    private final long[] serializedItemMap;
+    @Nullable
+    private Object2LongSortedMap<UUID> namedItemMap;
+    private int hashCode;
+
+    private DriveContents(long[] serializedItemMap) {
+        this.serializedItemMap = serializedItemMap;
+    }
 
-    public DriveContents {
+    /**
+     * @param namedItemMap Sorted map so that the save order is consistent.
+     */
+    public DriveContents(Object2LongSortedMap<UUID> namedItemMap) {
+        this(serialize(namedItemMap));
         //Make the map unmodifiable to ensure we don't accidentally mutate it
-        namedItemMap = Object2LongSortedMaps.unmodifiable(namedItemMap);
+        this.namedItemMap = Object2LongSortedMaps.unmodifiable(namedItemMap);
     }
 
-    public static DriveContents create(QIODriveData data) {
-        Object2LongMap<HashedItem> itemMap = data.getItemMap();
-        if (itemMap.isEmpty()) {
-            return EMPTY;
-        }
-        Object2LongSortedMap<UUID> namedItemMap = new Object2LongLinkedOpenHashMap<>(itemMap.size());
-        for (Object2LongMap.Entry<HashedItem> entry : data.getItemMap().object2LongEntrySet()) {
-            namedItemMap.put(QIOGlobalItemLookup.INSTANCE.getOrTrackUUID(entry.getKey()), entry.getLongValue());
-        }
-        return new DriveContents(namedItemMap);
+    /**
+     * Creates drive contents that take ownership of the given serialized item map.
+     *
+     * @param serializedItemMap Serialized item map, in the format described by {@link DriveContents}. This array must not be modified after being passed to this
+     *                          method.
+     */
+    public static DriveContents wrap(long[] serializedItemMap) {
+        return serializedItemMap.length == 0 ? EMPTY : new DriveContents(serializedItemMap);
     }
 
-    public void loadItemMap(QIODriveData data) {
-        Object2LongMap<HashedItem> itemMap = data.getItemMap();
-        for (Object2LongMap.Entry<UUID> entry : namedItemMap.object2LongEntrySet()) {
-            HashedItem type = QIOGlobalItemLookup.INSTANCE.getTypeByUUID(entry.getKey());
-            if (type != null) {
-                //Only add the item if the item type is known. If it can't that means the mod adding the item was probably removed
-                //TODO: Eventually we may want to keep the UUID so that if the mod gets added back it exists again?
-                itemMap.put(type, entry.getLongValue());
-            }
-        }
+    /**
+     * @return The number of item types stored in these contents.
+     */
+    public int types() {
+        return serializedItemMap.length / 3;
+    }
+
+    public long getMostSignificantBits(int index) {
+        return serializedItemMap[3 * index];
+    }
+
+    public long getLeastSignificantBits(int index) {
+        return serializedItemMap[3 * index + 1];
+    }
+
+    public long getCount(int index) {
+        return serializedItemMap[3 * index + 2];
+    }
+
+    /**
+     * Copies the serialized item map, resized to hold the given number of types.
+     */
+    public long[] copySerialized(int types) {
+        return Arrays.copyOf(serializedItemMap, 3 * types);
     }
 
     /**
-     * Writes the item map in a compact form to the stack. This compact form is a single long array tag that stores the data in partitions of three. The first partition
-     * stores the most significant bits of the UUID that represents the stack, the second partition stores the least significant bits, and the final partition stores the
-     * amount of the item that is stored in the drive. This maxes out at using {@code 3 * types per drive size * bytes per long + bytes per int} bytes to store just the
-     * array of items to in the drive. For our max drive size this is equivalent to {@code 3 * 8,192 * 8 + 4 = 196,612} bytes.
+     * @return A map of the UUIDs of the stored item types, to how much of that type is stored.
+     *
+     * @implNote The map is only created the first time this is called, as most uses of the contents only need the serialized form.
      */
-    private long[] serializeItemMap() {
+    public Object2LongSortedMap<UUID> namedItemMap() {
+        if (namedItemMap == null) {
+            Object2LongSortedMap<UUID> map = new Object2LongLinkedOpenHashMap<>(types());
+            for (int i = 0; i < serializedItemMap.length; i += 3) {
+                map.mergeLong(new UUID(serializedItemMap[i], serializedItemMap[i + 1]), serializedItemMap[i + 2], Long::sum);
+            }
+            namedItemMap = Object2LongSortedMaps.unmodifiable(map);
+        }
+        return namedItemMap;
+    }
+
+    private static long[] serialize(Object2LongSortedMap<UUID> namedItemMap) {
         int i = 0;
         long[] serializedItemMap = new long[3 * namedItemMap.size()];
         for (Object2LongMap.Entry<UUID> entry : namedItemMap.object2LongEntrySet()) {
@@ -79,12 +150,30 @@ public record DriveContents(Object2LongSortedMap<UUID> namedItemMap) {
     private static DriveContents readSerializedItemMap(long[] serializedItemMap) {
         if (serializedItemMap.length > 0 && serializedItemMap.length % 3 == 0) {
             //Ensure we have valid data and not some value we don't know how to process
-            Object2LongSortedMap<UUID> namedItemMap = new Object2LongLinkedOpenHashMap<>();
-            for (int i = 0; i < serializedItemMap.length; i++) {
-                namedItemMap.put(new UUID(serializedItemMap[i++], serializedItemMap[i++]), serializedItemMap[i]);
-            }
-            return new DriveContents(namedItemMap);
+            return new DriveContents(serializedItemMap);
         }
         return EMPTY;
     }
-}
\ No newline at end of file
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        return o instanceof DriveContents other && Arrays.equals(serializedItemMap, other.serializedItemMap);
+    }
+
+    @Override
+    public int hashCode() {
+        //Cache the hash code as drives can store a lot of types, and the contents are immutable
+        if (hashCode == 0) {
+            hashCode = Arrays.hashCode(serializedItemMap);
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return "DriveContents[types=" + types() + "]";
+    }
+}
@@ -41,6 +41,7 @@ public class MekanismPermissions {
     public static final CommandPermissionNode COMMAND_CHUNK_WATCH = nodeSubCommand(COMMAND_CHUNK, "watch");
 
     public static final CommandPermissionNode COMMAND_DEBUG = nodeOpCommand("debug");
+    public static final CommandPermissionNode COMMAND_DEBUG_NETWORKS = nodeSubCommand(COMMAND_DEBUG, "networks");
     public static final CommandPermissionNode COMMAND_FORCE_RETROGEN = nodeOpCommand("force_retrogen");
 
     public static final CommandPermissionNode COMMAND_RADIATION = nodeOpCommand("radiation");
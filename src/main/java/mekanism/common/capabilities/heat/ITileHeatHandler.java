@@ -48,10 +48,7 @@ public interface ITileHeatHandler extends IMekanismHeatHandler {
         double environmentTransfer = 0;
         for (Direction side : EnumUtils.DIRECTIONS) {
             double heatCapacity = getTotalHeatCapacity(side);
-            //transfer to air otherwise
-            double invConduction = HeatAPI.AIR_INVERSE_COEFFICIENT + getTotalInverseInsulation(side) + getTotalInverseConductionCoefficient(side);
-            //transfer heat difference based on environment temperature (ambient)
-            double tempToTransfer = (getTotalTemperature(side) - getAmbientTemperature(side)) / invConduction;
+            double tempToTransfer = getEnvironmentTempToTransfer(side);
             handleHeat(-tempToTransfer * heatCapacity, side);
             if (tempToTransfer > 0) {
                 //Only count it towards environmental loss if it is hotter than the ambient temperature
@@ -67,8 +64,7 @@ public interface ITileHeatHandler extends IMekanismHeatHandler {
             IHeatHandler sink = getAdjacent(side);
             if (sink != null) {
                 double heatCapacity = getTotalHeatCapacity(side);
-                double invConduction = sink.getTotalInverseConduction() + getTotalInverseConductionCoefficient(side);
-                double tempToTransfer = (getTotalTemperature(side) - getAmbientTemperature(side)) / invConduction;
+                double tempToTransfer = getAdjacentTempToTransfer(side, sink.getTotalInverseConduction());
                 //TODO - 1.18: Try and figure out how to do this properly/I believe the below is correct
                 // but it seems to nerf the heat system quite a bit so needs more review than being able
                 // to be done just before a release is made
@@ -100,6 +96,30 @@ public interface ITileHeatHandler extends IMekanismHeatHandler {
         return adjacentTransfer;
     }
 
+    /**
+     * Calculates the temperature to transfer to the environment on the given side.
+     *
+     * @implNote Split out of {@link #simulateEnvironment()} so that heat transfers can be calculated ahead of actually applying them.
+     */
+    default double getEnvironmentTempToTransfer(Direction side) {
+        //transfer to air otherwise
+        double invConduction = HeatAPI.AIR_INVERSE_COEFFICIENT + getTotalInverseInsulation(side) + getTotalInverseConductionCoefficient(side);
+        //transfer heat difference based on environment temperature (ambient)
+        return (getTotalTemperature(side) - getAmbientTemperature(side)) / invConduction;
+    }
+
+    /**
+     * Calculates the temperature to transfer to the adjacent sink on the given side.
+     *
+     * @param sinkInverseConduction The total inverse conduction of the sink.
+     *
+     * @implNote Split out of {@link #simulateAdjacent()} so that heat transfers can be calculated ahead of actually applying them.
+     */
+    default double getAdjacentTempToTransfer(Direction side, double sinkInverseConduction) {
+        double invConduction = sinkInverseConduction + getTotalInverseConductionCoefficient(side);
+        return (getTotalTemperature(side) - getAmbientTemperature(side)) / invConduction;
+    }
+
     default double incrementAdjacentTransfer(double currentAdjacentTransfer, double tempToTransfer, Direction side) {
         return currentAdjacentTransfer + tempToTransfer;
     }
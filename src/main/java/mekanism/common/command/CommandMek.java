@@ -1,20 +1,33 @@
 package mekanism.common.command;
 
 
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
 import com.mojang.brigadier.builder.ArgumentBuilder;
 import com.mojang.brigadier.builder.LiteralArgumentBuilder;
 import com.mojang.brigadier.exceptions.SimpleCommandExceptionType;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.Map;
 import java.util.UUID;
+import mekanism.api.Chunk3D;
 import mekanism.api.MekanismAPI;
 import mekanism.api.text.EnumColor;
+import mekanism.common.Mekanism;
 import mekanism.common.MekanismLang;
 import mekanism.common.base.MekanismPermissions;
 import mekanism.common.command.builders.BuildCommand;
+import mekanism.common.lib.transmitter.NetworkMetrics.Phase;
+import mekanism.common.lib.transmitter.NetworkMetrics.Sample;
+import mekanism.common.lib.transmitter.NetworkMetrics.Summary;
+import mekanism.common.lib.transmitter.TransmitterNetworkRegistry;
 import mekanism.common.util.text.BooleanStateDisplay.OnOff;
+import mekanism.common.util.text.TextUtils;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.Commands;
 import net.minecraft.commands.arguments.coordinates.Coordinates;
@@ -25,6 +38,7 @@ import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.level.GameRules;
 import net.minecraft.world.phys.Vec3;
+import net.neoforged.fml.loading.FMLPaths;
 
 public class CommandMek {
 
@@ -55,7 +69,57 @@ public class CommandMek {
                       MekanismAPI.debug = !MekanismAPI.debug;
                       ctx.getSource().sendSuccess(() -> MekanismLang.COMMAND_DEBUG.translateColored(EnumColor.GRAY, OnOff.of(MekanismAPI.debug, true)), true);
                       return 0;
-                  });
+                  }).then(NetworksCommand.register());
+        }
+    }
+
+    private static class NetworksCommand {
+
+        private static final SimpleCommandExceptionType EXPORT_FAILED = new SimpleCommandExceptionType(MekanismLang.COMMAND_ERROR_DEBUG_NETWORKS_EXPORT.translate());
+        private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+        static ArgumentBuilder<CommandSourceStack, ?> register() {
+            return Commands.literal("networks")
+                  .requires(MekanismPermissions.COMMAND_DEBUG_NETWORKS)
+                  .executes(ctx -> {
+                      CommandSourceStack source = ctx.getSource();
+                      Summary summary = TransmitterNetworkRegistry.getInstance().getMetrics().summarize();
+                      Sample total = summary.total();
+                      source.sendSuccess(() -> MekanismLang.COMMAND_DEBUG_NETWORKS.translateColored(EnumColor.GRAY, EnumColor.INDIGO, total.getTicks(),
+                            EnumColor.INDIGO, total.getInvalidTransmitters(), EnumColor.INDIGO, total.getOrphans(), EnumColor.INDIGO, total.getNetworksFormed(),
+                            EnumColor.INDIGO, total.getNetworksMerged(), EnumColor.INDIGO, total.getNetworksSplit(), EnumColor.INDIGO, total.getNodesVisited()), false);
+                      for (Phase phase : Phase.values()) {
+                          source.sendSuccess(() -> MekanismLang.COMMAND_DEBUG_NETWORKS_PHASE.translateColored(EnumColor.GRAY, phase.getSerializedName(),
+                                EnumColor.INDIGO, TextUtils.format(total.getAverageMillis(phase)), EnumColor.INDIGO, TextUtils.format(total.getMaxMillis(phase))), false);
+                      }
+                      for (Object2IntMap.Entry<Chunk3D> hotspot : summary.hotspots()) {
+                          Chunk3D chunk = hotspot.getKey();
+                          source.sendSuccess(() -> MekanismLang.COMMAND_DEBUG_NETWORKS_HOTSPOT.translateColored(EnumColor.GRAY, EnumColor.INDIGO,
+                                MekanismLang.GENERIC_WITH_COMMA.translate(chunk.x, chunk.z), chunk.dimension.location(), EnumColor.INDIGO, hotspot.getIntValue()), false);
+                      }
+                      return total.getTicks();
+                  }).then(Commands.literal("export")
+                        .executes(ctx -> {
+                            //Overwrite the same file each time, as the report already contains the full rolling window
+                            Path path = FMLPaths.GAMEDIR.get().resolve("debug").resolve("mekanism-transmitter-networks.json");
+                            try {
+                                Files.createDirectories(path.getParent());
+                                Files.writeString(path, GSON.toJson(TransmitterNetworkRegistry.getInstance().getMetrics().toJson()));
+                            } catch (IOException e) {
+                                Mekanism.logger.error("Failed to export transmitter network metrics to {}", path, e);
+                                throw EXPORT_FAILED.create();
+                            }
+                            ctx.getSource().sendSuccess(() -> MekanismLang.COMMAND_DEBUG_NETWORKS_EXPORTED.translateColored(EnumColor.GRAY, EnumColor.INDIGO,
+                                  path.toString()), true);
+                            return 0;
+                        })
+                  ).then(Commands.literal("reset")
+                        .executes(ctx -> {
+                            TransmitterNetworkRegistry.getInstance().getMetrics().reset();
+                            ctx.getSource().sendSuccess(() -> MekanismLang.COMMAND_DEBUG_NETWORKS_RESET.translateColored(EnumColor.GRAY), true);
+                            return 0;
+                        })
+                  );
         }
     }
 
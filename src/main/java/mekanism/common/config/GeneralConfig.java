@@ -40,6 +40,7 @@ public class GeneralConfig extends BaseMekanismConfig {
     private static final String RADIATION_CATEGORY = "radiation";
     private static final String PREFILLED_CATEGORY = "prefilled";
     private static final String NUTRITIONAL_PASTE_CATEGORY = "nutritional_paste";
+    private static final String TRANSPORTER_CATEGORY = "logistical_transporter";
 
     private final ModConfigSpec configSpec;
 
@@ -56,6 +57,8 @@ public class GeneralConfig extends BaseMekanismConfig {
     public final CachedIntValue fuelwoodTickMultiplier;
     public final CachedDoubleValue resistiveHeaterEfficiency;
     public final CachedDoubleValue superheatingHeatTransfer;
+    public final CachedIntValue parallelHeatNetworkThreshold;
+    public final CachedIntValue frequencyPeriodicTickInterval;
     public final CachedIntValue maxSolarNeutronActivatorRate;
     public final CachedIntValue fluidItemFillRate;
     public final CachedLongValue chemicalItemFillRate;
@@ -91,6 +94,7 @@ public class GeneralConfig extends BaseMekanismConfig {
     public final CachedIntValue minerSilkMultiplier;
     public final CachedIntValue minerMaxRadius;
     public final CachedIntValue minerTicksPerMine;
+    public final CachedIntValue minerMaxConcurrentSearches;
     //Laser
     public final CachedBooleanValue aestheticWorldDamage;
     public final CachedIntValue laserRange;
@@ -110,6 +114,9 @@ public class GeneralConfig extends BaseMekanismConfig {
     //Security
     public final CachedBooleanValue allowProtection;
     public final CachedBooleanValue opsBypassRestrictions;
+    //Logistical Transporter
+    public final CachedIntValue transporterPathCacheSize;
+    public final CachedBooleanValue transporterNearestDestinationSearch;
     //Nutritional Paste
     public final CachedFloatValue nutritionalPasteSaturation;
     public final CachedIntValue nutritionalPasteMBPerFood;
@@ -161,6 +168,10 @@ public class GeneralConfig extends BaseMekanismConfig {
               .defineInRange("resistiveHeaterEfficiency", 0.6, 0, 1));
         superheatingHeatTransfer = CachedDoubleValue.wrap(this, builder.comment("Amount of heat each Boiler heating element produces.")
               .defineInRange("superheatingHeatTransfer", 16_000_000, 0.1, 1_024_000_000));
+        parallelHeatNetworkThreshold = CachedIntValue.wrap(this, builder.comment("Minimum number of Thermodynamic Conductors a heat network must have for the heat transfers between them to be calculated in parallel. The results are identical to calculating them on the server thread. Set to zero to disable.")
+              .defineInRange("parallelHeatNetworkThreshold", 0, 0, Integer.MAX_VALUE));
+        frequencyPeriodicTickInterval = CachedIntValue.wrap(this, builder.comment("How many ticks are between the periodic work of frequencies, such as QIO frequencies saving changed items to their drives and rechecking if players viewing their items are still trusted. The frequencies are spread out across these ticks so that they don't all do this work at once.")
+              .defineInRange("frequencyPeriodicTickInterval", 5 * SharedConstants.TICKS_PER_SECOND, 1, SharedConstants.TICKS_PER_MINUTE));
         maxSolarNeutronActivatorRate = CachedIntValue.wrap(this, builder.comment("Peak processing rate for the Solar Neutron Activator. Note: It can go higher than this value in some extreme environments.")
               .defineInRange("maxSolarNeutronActivatorRate", 64, 1, 1_024));
 
@@ -240,6 +251,8 @@ public class GeneralConfig extends BaseMekanismConfig {
               .defineInRange("maxRadius", 32, 1, Integer.MAX_VALUE));
         minerTicksPerMine = CachedIntValue.wrap(this, builder.comment("Number of ticks required to mine a single block with a Digital Miner (without any upgrades).")
               .defineInRange("ticksPerMine", 80, 1, Integer.MAX_VALUE));
+        minerMaxConcurrentSearches = CachedIntValue.wrap(this, builder.comment("Maximum number of Digital Miners that can search for blocks to mine at the same time. Any other miners that start searching will wait until one of the running searches finishes.")
+              .defineInRange("maxConcurrentSearches", 2, 1, 64));
         builder.pop();
 
         builder.comment("Laser Settings").push(LASER_SETTINGS);
@@ -287,6 +300,13 @@ public class GeneralConfig extends BaseMekanismConfig {
               .define("opsBypassRestrictions", false));
         builder.pop();
 
+        builder.comment("Logistical Transporter Settings").push(TRANSPORTER_CATEGORY);
+        transporterPathCacheSize = CachedIntValue.wrap(this, builder.comment("Maximum number of path nodes (blocks) that can be stored in the cache of calculated transporter paths across all networks. When full, the least recently used paths are evicted. Set to zero to disable caching paths.")
+              .defineInRange("pathCacheSize", 262_144, 0, Integer.MAX_VALUE));
+        transporterNearestDestinationSearch = CachedBooleanValue.wrap(this, builder.comment("Find destinations for items by searching outward from where the item is and stopping at the nearest destination that can accept it, rather than checking every destination on the network and then finding a path to each of them. This is cheaper on networks with many destinations, but it does not use or fill the path cache, and it does not limit how far out of the way the path to a destination may go.")
+              .define("nearestDestinationSearch", false));
+        builder.pop();
+
         builder.comment("Nutritional Paste Settings").push(NUTRITIONAL_PASTE_CATEGORY);
         nutritionalPasteSaturation = CachedFloatValue.wrap(this, builder.comment("Saturation level of Nutritional Paste when eaten.")
               .defineInRange("saturation", 0.8, 0, 100));
@@ -2,10 +2,11 @@ package mekanism.common.content.boiler;
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import java.util.LinkedHashSet;
-import java.util.Optional;
 import java.util.SequencedSet;
 import mekanism.common.MekanismLang;
 import mekanism.common.content.blocktype.BlockType;
+import mekanism.common.lib.math.voxel.ChunkSectionCache;
+import mekanism.common.lib.math.voxel.VoxelBitSet;
 import mekanism.common.lib.multiblock.CuboidStructureValidator;
 import mekanism.common.lib.multiblock.FormationProtocol;
 import mekanism.common.lib.multiblock.FormationProtocol.CasingType;
@@ -22,6 +23,11 @@ import net.minecraft.world.level.chunk.ChunkAccess;
 
 public class BoilerValidator extends CuboidStructureValidator<BoilerMultiblockData> {
 
+    @Override
+    public boolean supportsIncrementalRebuild() {
+        return true;
+    }
+
     @Override
     protected CasingType getCasingType(BlockState state) {
         Block block = state.getBlock();
@@ -45,14 +51,14 @@ public class BoilerValidator extends CuboidStructureValidator<BoilerMultiblockDa
     public FormationResult postcheck(BoilerMultiblockData structure, Long2ObjectMap<ChunkAccess> chunkMap) {
         SequencedSet<BlockPos> dispersers = new LinkedHashSet<>();
         SequencedSet<BlockPos> elements = new LinkedHashSet<>();
-        for (BlockPos pos : structure.internalLocations) {
+        VoxelBitSet.forEachPosition(structure.internalLocations, pos -> {
             BlockEntity tile = WorldUtils.getTileEntity(world, chunkMap, pos);
             if (tile instanceof TileEntityPressureDisperser) {
-                dispersers.add(pos);
+                dispersers.add(pos.immutable());
             } else if (tile instanceof TileEntitySuperheatingElement) {
-                elements.add(pos);
+                elements.add(pos.immutable());
             }
-        }
+        });
         //Ensure at least one disperser exists
         if (dispersers.isEmpty()) {
             return FormationResult.fail(MekanismLang.BOILER_INVALID_NO_DISPERSER);
@@ -83,8 +89,9 @@ public class BoilerValidator extends CuboidStructureValidator<BoilerMultiblockDa
             return FormationResult.fail(MekanismLang.BOILER_INVALID_EXTRA_DISPERSER);
         }
 
-        structure.superheatingElements = FormationProtocol.explore(world, chunkMap, elements.getFirst(), initDisperser,
-              (level, chunks, start, n, pos) -> pos.getY() < n.getY() && WorldUtils.getTileEntity(TileEntitySuperheatingElement.class, level, chunks, pos) != null);
+        ChunkSectionCache chunkCache = new ChunkSectionCache(world, chunkMap);
+        structure.superheatingElements = FormationProtocol.explore(chunkCache, elements.getFirst(), initDisperser,
+              (cache, start, n, pos) -> pos.getY() < n.getY() && cache.getTileEntity(TileEntitySuperheatingElement.class, pos) != null);
 
         if (elements.size() > structure.superheatingElements) {
             return FormationResult.fail(MekanismLang.BOILER_INVALID_SUPERHEATING);
@@ -99,7 +106,7 @@ public class BoilerValidator extends CuboidStructureValidator<BoilerMultiblockDa
             for (int y = structure.renderLocation.getY(); y < initDisperser.getY(); y++) {
                 for (int z = structure.renderLocation.getZ(); z < structure.renderLocation.getZ() + structure.width(); z++) {
                     mutableAir.set(x, y, z);
-                    if (isAirOrFrame(chunkMap, mutableAir)) {
+                    if (isAirOrFrame(chunkCache, mutableAir)) {
                         initAir = mutableAir.immutable();
                         totalAir++;
                     }
@@ -112,12 +119,12 @@ public class BoilerValidator extends CuboidStructureValidator<BoilerMultiblockDa
         record Data(int disperserY, BlockPos renderLoc, int volLength, int volWidth) {
         }
         Data data = new Data(initDisperser.getY(), renderLocation, structure.length(), structure.width());
-        structure.setWaterVolume(FormationProtocol.explore(world, chunkMap, initAir, data, (level, chunks, start, d, pos) -> {
+        structure.setWaterVolume(FormationProtocol.explore(chunkCache, initAir, data, (cache, start, d, pos) -> {
             BlockPos renderLoc = d.renderLoc();
             return pos.getY() >= renderLoc.getY() - 1 && pos.getY() < d.disperserY() &&
                    pos.getX() >= renderLoc.getX() && pos.getX() < renderLoc.getX() + d.volLength() &&
                    pos.getZ() >= renderLoc.getZ() && pos.getZ() < renderLoc.getZ() + d.volWidth() &&
-                   isAirOrFrame(chunks, pos);
+                   isAirOrFrame(cache, pos);
         }));
 
         //Make sure all air blocks are connected
@@ -131,9 +138,8 @@ public class BoilerValidator extends CuboidStructureValidator<BoilerMultiblockDa
         return FormationResult.SUCCESS;
     }
 
-    private boolean isAirOrFrame(Long2ObjectMap<ChunkAccess> chunkMap, BlockPos airPos) {
-        Optional<BlockState> stateOptional = WorldUtils.getBlockState(world, chunkMap, airPos);
-        return (stateOptional.isPresent() && stateOptional.get().isAir()) ||
-               isFrameCompatible(WorldUtils.getTileEntity(world, chunkMap, airPos));
+    private boolean isAirOrFrame(ChunkSectionCache chunkCache, BlockPos airPos) {
+        BlockState state = chunkCache.getBlockState(airPos);
+        return (state != null && state.isAir()) || isFrameCompatible(chunkCache.getTileEntity(airPos));
     }
 }
\ No newline at end of file
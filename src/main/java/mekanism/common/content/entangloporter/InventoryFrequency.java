@@ -229,7 +229,7 @@ public class InventoryFrequency extends Frequency implements IMekanismInventory,
 
     @Override
     public void onContentsChanged() {
-        dirty = true;
+        markDirty();
     }
 
     @Override
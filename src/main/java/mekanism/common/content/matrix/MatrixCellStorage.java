@@ -0,0 +1,109 @@
+package mekanism.common.content.matrix;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import mekanism.api.Action;
+import mekanism.api.AutomationType;
+import mekanism.api.annotations.NothingNullByDefault;
+import mekanism.api.energy.IEnergyContainer;
+import mekanism.api.math.FloatingLong;
+
+/**
+ * Keeps the cells of an induction matrix in a fixed order, filling them from the front and draining them from the back. Two cursors track the boundaries of the cells
+ * that are known to be full or empty: every cell before the fill cursor is full, and every cell at or after the drain cursor is empty. This lets each transfer start at
+ * the first cell that can actually change, instead of walking past every full or empty cell each tick.
+ *
+ * @implNote The cursors are only ever conservative, so cells that start out in an arbitrary state (such as when the matrix is first formed) are handled correctly, and
+ * the cursors converge onto the real boundaries as energy is transferred.
+ */
+@NothingNullByDefault
+class MatrixCellStorage {
+
+    private final List<IEnergyContainer> cells = new ArrayList<>();
+    //Every cell before this index is full
+    private int fillCursor;
+    //Every cell at or after this index is empty
+    private int drainCursor;
+
+    void add(IEnergyContainer cell) {
+        cells.add(cell);
+        if (!cell.isEmpty()) {
+            //Make sure the drain cursor includes the new cell if it has any energy in it
+            drainCursor = cells.size();
+        }
+    }
+
+    /**
+     * Removes all the given cells, and resets the cursors as the positions of the remaining cells may have changed.
+     */
+    void removeAll(Collection<IEnergyContainer> toRemove) {
+        if (!toRemove.isEmpty() && cells.removeAll(toRemove)) {
+            fillCursor = 0;
+            drainCursor = cells.size();
+        }
+    }
+
+    void clear() {
+        cells.clear();
+        fillCursor = 0;
+        drainCursor = 0;
+    }
+
+    int size() {
+        return cells.size();
+    }
+
+    /**
+     * Inserts the given amount of energy into the cells, starting at the first cell that isn't known to be full.
+     *
+     * @return The remainder that could not be inserted.
+     */
+    FloatingLong insert(FloatingLong energy) {
+        for (int i = fillCursor, size = cells.size(); i < size; i++) {
+            IEnergyContainer cell = cells.get(i);
+            //Note: inserting into the cell's energy container handles marking the cell for saving if it changes
+            FloatingLong remainder = cell.insert(energy, Action.EXECUTE, AutomationType.INTERNAL);
+            if (remainder.smallerThan(energy)) {
+                //Our cell accepted at least some energy, so it is no longer empty
+                drainCursor = Math.max(drainCursor, i + 1);
+            }
+            if (remainder.isZero()) {
+                if (cell.getNeeded().isZero()) {
+                    fillCursor = i + 1;
+                }
+                return FloatingLong.ZERO;
+            }
+            //The cell couldn't accept all the energy, so it is full
+            fillCursor = i + 1;
+            energy = remainder;
+        }
+        return energy;
+    }
+
+    /**
+     * Extracts the given amount of energy from the cells, starting at the last cell that isn't known to be empty.
+     *
+     * @return The amount that could not be extracted.
+     */
+    FloatingLong extract(FloatingLong energy) {
+        for (int i = drainCursor - 1; i >= 0; i--) {
+            IEnergyContainer cell = cells.get(i);
+            //Note: extracting from the cell's energy container handles marking the cell for saving if it changes
+            FloatingLong extracted = cell.extract(energy, Action.EXECUTE, AutomationType.INTERNAL);
+            if (!extracted.isZero()) {
+                //Our cell gave at least some energy, so it is no longer full
+                fillCursor = Math.min(fillCursor, i);
+                energy = energy.minusEqual(extracted);
+            }
+            if (cell.isEmpty()) {
+                //All the cells after this one were emptied before we got to this one
+                drainCursor = i;
+            }
+            if (energy.isZero()) {
+                break;
+            }
+        }
+        return energy;
+    }
+}
@@ -2,10 +2,9 @@ package mekanism.common.content.matrix;
 
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import java.util.Map;
 import java.util.Set;
-import mekanism.api.Action;
-import mekanism.api.AutomationType;
 import mekanism.api.annotations.NothingNullByDefault;
 import mekanism.api.energy.IEnergyContainer;
 import mekanism.api.math.FloatingLong;
@@ -22,6 +21,7 @@ public class MatrixEnergyContainer implements IEnergyContainer {
 
     private final Map<BlockPos, InductionProviderTier> providers = new Object2ObjectOpenHashMap<>();
     private final Map<BlockPos, IEnergyContainer> cells = new Object2ObjectOpenHashMap<>();
+    private final MatrixCellStorage cellStorage = new MatrixCellStorage();
     private final Set<BlockPos> invalidPositions = new ObjectOpenHashSet<>();
 
     //TODO: Eventually we could look into extending FloatingLong to have a "BigInt" styled implementation that is used by the class
@@ -44,7 +44,9 @@ public class MatrixEnergyContainer implements IEnergyContainer {
     public void addCell(BlockPos pos, TileEntityInductionCell cell) {
         //As we already have the two different variables just pass them instead of accessing world to get tile again
         MachineEnergyContainer<TileEntityInductionCell> energyContainer = cell.getEnergyContainer();
-        cells.put(pos, energyContainer);
+        if (cells.put(pos, energyContainer) == null) {
+            cellStorage.add(energyContainer);
+        }
         storageCap = storageCap.plusEqual(energyContainer.getMaxEnergy());
         cachedTotal = cachedTotal.plusEqual(energyContainer.getEnergy());
     }
@@ -79,6 +81,7 @@ public class MatrixEnergyContainer implements IEnergyContainer {
         tick();
         //And reset everything
         cells.clear();
+        cellStorage.clear();
         providers.clear();
         queuedOutput = FloatingLong.ZERO;
         queuedInput = FloatingLong.ZERO;
@@ -91,11 +94,16 @@ public class MatrixEnergyContainer implements IEnergyContainer {
 
     public void tick() {
         if (!invalidPositions.isEmpty()) {
+            Set<IEnergyContainer> removedCells = new ReferenceOpenHashSet<>();
             for (BlockPos invalidPosition : invalidPositions) {
-                cells.remove(invalidPosition);
+                IEnergyContainer removedCell = cells.remove(invalidPosition);
+                if (removedCell != null) {
+                    removedCells.add(removedCell);
+                }
                 providers.remove(invalidPosition);
             }
             invalidPositions.clear();
+            cellStorage.removeAll(removedCells);
         }
         int compare = queuedInput.compareTo(queuedOutput);
         if (compare < 0) {
@@ -113,35 +121,12 @@ public class MatrixEnergyContainer implements IEnergyContainer {
 
     private void addEnergy(FloatingLong energy) {
         cachedTotal = cachedTotal.plusEqual(energy);
-        for (IEnergyContainer container : cells.values()) {
-            //Note: inserting into the cell's energy container handles marking the cell for saving if it changes
-            FloatingLong remainder = container.insert(energy, Action.EXECUTE, AutomationType.INTERNAL);
-            if (remainder.smallerThan(energy)) {
-                //Our cell accepted at least some energy
-                if (remainder.isZero()) {
-                    //Check less than equal rather than just equal in case something went wrong
-                    // and break if we don't have any energy left to add
-                    break;
-                }
-                energy = remainder;
-            }
-        }
+        cellStorage.insert(energy);
     }
 
     private void removeEnergy(FloatingLong energy) {
         cachedTotal = cachedTotal.minusEqual(energy);
-        for (IEnergyContainer container : cells.values()) {
-            //Note: extracting from the cell's energy container handles marking the cell for saving if it changes
-            FloatingLong extracted = container.extract(energy, Action.EXECUTE, AutomationType.INTERNAL);
-            if (!extracted.isZero()) {
-                energy = energy.minusEqual(extracted);
-                if (energy.isZero()) {
-                    //Check less than equal rather than just equal in case something went wrong
-                    // and break if we don't need to remove any more energy
-                    break;
-                }
-            }
-        }
+        cellStorage.extract(energy);
     }
 
     /**
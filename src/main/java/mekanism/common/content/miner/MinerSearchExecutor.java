@@ -0,0 +1,76 @@
+package mekanism.common.content.miner;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import mekanism.common.Mekanism;
+import mekanism.common.config.MekanismConfig;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Shared executor that runs the searches for all Digital Miners. Instead of every miner spinning up its own thread, searches get queued and at most
+ * {@link mekanism.common.config.GeneralConfig#minerMaxConcurrentSearches} of them run at once. Idle threads time out so that no threads are kept around while nothing is
+ * searching.
+ */
+public class MinerSearchExecutor {
+
+    private static final long KEEP_ALIVE_SECONDS = 30;
+
+    @Nullable
+    private static ThreadPoolExecutor executor;
+
+    private MinerSearchExecutor() {
+    }
+
+    static synchronized void submit(ThreadMinerSearch search) {
+        int maxSearches = MekanismConfig.general.minerMaxConcurrentSearches.get();
+        if (executor == null) {
+            executor = new ThreadPoolExecutor(maxSearches, maxSearches, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), new SearchThreadFactory());
+            executor.allowCoreThreadTimeOut(true);
+        } else if (executor.getMaximumPoolSize() != maxSearches) {
+            //The config changed, adjust the pool size. The order matters as the core size may not be larger than the max size
+            if (maxSearches > executor.getMaximumPoolSize()) {
+                executor.setMaximumPoolSize(maxSearches);
+                executor.setCorePoolSize(maxSearches);
+            } else {
+                executor.setCorePoolSize(maxSearches);
+                executor.setMaximumPoolSize(maxSearches);
+            }
+        }
+        executor.execute(search);
+    }
+
+    /**
+     * Removes the given search from the queue if it hasn't started running yet.
+     */
+    static synchronized void dequeue(ThreadMinerSearch search) {
+        if (executor != null) {
+            executor.remove(search);
+        }
+    }
+
+    /**
+     * Stops any running or queued searches. Called when the server stops, so that searches for miners in a world that is no longer loaded don't keep running.
+     */
+    public static synchronized void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    private static class SearchThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "Digital Miner Search thread #" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            thread.setUncaughtExceptionHandler((t, e) -> Mekanism.logger.error("Unexpected error in {}", t.getName(), e));
+            return thread;
+        }
+    }
+}
@@ -7,6 +7,7 @@ import it.unimi.dsi.fastutil.objects.Reference2BooleanMap;
 import it.unimi.dsi.fastutil.objects.Reference2BooleanOpenHashMap;
 import java.util.BitSet;
 import java.util.function.IntFunction;
+import java.util.function.Predicate;
 import mekanism.api.annotations.NothingNullByDefault;
 import mekanism.api.math.MathUtils;
 import mekanism.api.text.IHasTextComponent;
@@ -19,6 +20,7 @@ import mekanism.common.tile.machine.TileEntityDigitalMiner;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.WorldUtils;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
 import net.minecraft.network.chat.Component;
 import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
@@ -33,85 +35,176 @@ import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.properties.BedPart;
 import net.minecraft.world.level.block.state.properties.BlockStateProperties;
 import net.minecraft.world.level.block.state.properties.DoubleBlockHalf;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunkSection;
 
-public class ThreadMinerSearch extends Thread {
+/**
+ * Search for the blocks a Digital Miner should mine. Searches are run on the shared {@link MinerSearchExecutor} rather than on a dedicated thread per miner.
+ */
+public class ThreadMinerSearch implements Runnable {
 
     private final TileEntityDigitalMiner tile;
     private final Long2ObjectMap<BitSet> oresToMine = new Long2ObjectOpenHashMap<>();
+    private final Reference2BooleanMap<Block> acceptedItems = new Reference2BooleanOpenHashMap<>();
+    private final Predicate<BlockState> candidatePredicate = this::isCandidate;
     private PathNavigationRegion chunkCache;
+    private volatile boolean cancelled;
     public State state = State.IDLE;
     public int found = 0;
 
     public ThreadMinerSearch(TileEntityDigitalMiner tile) {
-        super("Digital Miner Search thread " + tile.getBlockPos());
         this.tile = tile;
-        setDaemon(true);
     }
 
     public void setChunkCache(PathNavigationRegion cache) {
         this.chunkCache = cache;
     }
 
+    /**
+     * Queues this search to be run on the shared executor.
+     */
+    public void start() {
+        //Mark it as searching right away so that the miner doesn't try to queue it again while it waits for its turn
+        state = State.SEARCHING;
+        MinerSearchExecutor.submit(this);
+    }
+
+    /**
+     * Cancels this search, removing it from the queue if it hasn't started yet, or stopping it the next time it checks if it should continue if it is running.
+     */
+    public void cancel() {
+        cancelled = true;
+        MinerSearchExecutor.dequeue(this);
+        chunkCache = null;
+    }
+
+    private boolean shouldStop() {
+        //Make sure the search wasn't cancelled, and the miner is still valid and something hasn't gone wrong
+        return cancelled || tile.isRemoved() || Thread.currentThread().isInterrupted();
+    }
+
     @Override
     public void run() {
+        PathNavigationRegion chunkCache = this.chunkCache;
+        if (cancelled || chunkCache == null) {
+            return;
+        }
         state = State.SEARCHING;
         if (!tile.getInverse() && !tile.getFilterManager().hasEnabledFilters()) {
             state = State.FINISHED;
             return;
         }
-        Reference2BooleanMap<Block> acceptedItems = new Reference2BooleanOpenHashMap<>();
         BlockPos pos = tile.getStartingPos();
         int diameter = tile.getDiameter();
-        int size = tile.getTotalSize();
-        Block info;
-        BlockPos minerPos = tile.getBlockPos();
-        for (int i = 0; i < size; i++) {
-            if (tile.isRemoved()) {
-                //Make sure the miner is still valid and something hasn't gone wrong
-                return;
-            }
-            BlockPos testPos = TileEntityDigitalMiner.getOffsetForIndex(pos, diameter, i);
-            if (minerPos.equals(testPos) || WorldUtils.getTileEntity(TileEntityBoundingBlock.class, chunkCache, testPos) != null) {
-                //Skip the miner itself, and also skip any bounding blocks
-                continue;
-            }
-            BlockState state = chunkCache.getBlockState(testPos);
-            if (state.isAir() || state.is(MekanismTags.Blocks.MINER_BLACKLIST) || shouldSkipState(state) || state.getDestroySpeed(chunkCache, testPos) < 0) {
-                //Skip air, blacklisted blocks, special cased block states, and unbreakable blocks
-                continue;
-            }
-            info = state.getBlock();
-            if (MekanismUtils.isLiquidBlock(info)) {//Skip liquids
-                continue;
-            }
-            boolean accepted;
-            if (acceptedItems.containsKey(info)) {
-                accepted = acceptedItems.getBoolean(info);
-            } else {
-                if (tile.isReplaceTarget(info.asItem())) {
-                    //If it is a replace target just mark it as never being accepted
-                    accepted = false;
-                } else {
-                    //Ensure that the inverse mode is the opposite of the filter match
-                    accepted = tile.getInverse() != tile.getFilterManager().anyEnabledMatch(state, MinerFilter::canFilter);
+        int height = tile.getTotalSize() / (diameter * diameter);
+        int maxX = pos.getX() + diameter - 1;
+        int maxY = pos.getY() + height - 1;
+        int maxZ = pos.getZ() + diameter - 1;
+        for (int chunkX = SectionPos.blockToSectionCoord(pos.getX()), maxChunkX = SectionPos.blockToSectionCoord(maxX); chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = SectionPos.blockToSectionCoord(pos.getZ()), maxChunkZ = SectionPos.blockToSectionCoord(maxZ); chunkZ <= maxChunkZ; chunkZ++) {
+                if (shouldStop()) {
+                    return;
+                }
+                if (!(chunkCache.getChunkForCollisions(chunkX, chunkZ) instanceof ChunkAccess chunk)) {
+                    //Chunk isn't loaded, there is nothing we can mine in it
+                    continue;
+                }
+                LevelChunkSection[] sections = chunk.getSections();
+                for (int sectionY = SectionPos.blockToSectionCoord(pos.getY()), maxSectionY = SectionPos.blockToSectionCoord(maxY); sectionY <= maxSectionY; sectionY++) {
+                    int sectionIndex = chunk.getSectionIndexFromSectionY(sectionY);
+                    if (sectionIndex < 0 || sectionIndex >= sections.length) {
+                        continue;
+                    }
+                    LevelChunkSection section = sections[sectionIndex];
+                    //Skip the entire section if it is empty, or if none of the states in its palette are ones we might mine
+                    if (!section.hasOnlyAir() && section.getStates().maybeHas(candidatePredicate)) {
+                        if (!searchSection(chunkCache, section, pos, diameter, chunkX, sectionY, chunkZ, maxX, maxY, maxZ)) {
+                            return;
+                        }
+                    }
                 }
-                acceptedItems.put(info, accepted);
-            }
-            if (accepted) {
-                long chunk = ChunkPos.asLong(testPos);
-                oresToMine.computeIfAbsent(chunk, k -> new BitSet()).set(i);
-                found++;
             }
         }
 
         state = State.FINISHED;
-        chunkCache = null;
+        this.chunkCache = null;
         if (tile.searcher == this) {
             //Only update search if we are still valid and didn't get replaced due to a reset call
             tile.updateFromSearch(oresToMine, found);
         }
     }
 
+    /**
+     * Checks all the positions in the search area that are part of the given section.
+     *
+     * @return {@code false} if the search should stop.
+     */
+    private boolean searchSection(PathNavigationRegion chunkCache, LevelChunkSection section, BlockPos start, int diameter, int chunkX, int sectionY, int chunkZ,
+          int maxX, int maxY, int maxZ) {
+        BlockPos minerPos = tile.getBlockPos();
+        BlockPos.MutableBlockPos testPos = new BlockPos.MutableBlockPos();
+        int minX = Math.max(start.getX(), SectionPos.sectionToBlockCoord(chunkX));
+        int minY = Math.max(start.getY(), SectionPos.sectionToBlockCoord(sectionY));
+        int minZ = Math.max(start.getZ(), SectionPos.sectionToBlockCoord(chunkZ));
+        maxX = Math.min(maxX, SectionPos.sectionToBlockCoord(chunkX, 15));
+        maxY = Math.min(maxY, SectionPos.sectionToBlockCoord(sectionY, 15));
+        maxZ = Math.min(maxZ, SectionPos.sectionToBlockCoord(chunkZ, 15));
+        BitSet chunkOres = null;
+        for (int y = minY; y <= maxY; y++) {
+            if (shouldStop()) {
+                return false;
+            }
+            for (int z = minZ; z <= maxZ; z++) {
+                for (int x = minX; x <= maxX; x++) {
+                    BlockState state = section.getBlockState(x & 15, y & 15, z & 15);
+                    if (!isCandidate(state)) {
+                        continue;
+                    }
+                    testPos.set(x, y, z);
+                    if (minerPos.equals(testPos) || state.getDestroySpeed(chunkCache, testPos) < 0 ||
+                        WorldUtils.getTileEntity(TileEntityBoundingBlock.class, chunkCache, testPos) != null) {
+                        //Skip the miner itself, unbreakable blocks, and also skip any bounding blocks
+                        continue;
+                    }
+                    if (chunkOres == null) {
+                        chunkOres = oresToMine.computeIfAbsent(ChunkPos.asLong(chunkX, chunkZ), k -> new BitSet());
+                    }
+                    //Note: This matches the index that TileEntityDigitalMiner#getOffsetForIndex expects
+                    chunkOres.set((x - start.getX()) + (z - start.getZ()) * diameter + (y - start.getY()) * diameter * diameter);
+                    found++;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if the given state is one that the miner may mine, ignoring any checks that depend on the position of the block.
+     */
+    private boolean isCandidate(BlockState state) {
+        if (state.isAir() || state.is(MekanismTags.Blocks.MINER_BLACKLIST) || shouldSkipState(state)) {
+            //Skip air, blacklisted blocks, and special cased block states
+            return false;
+        }
+        Block info = state.getBlock();
+        if (MekanismUtils.isLiquidBlock(info)) {//Skip liquids
+            return false;
+        }
+        if (acceptedItems.containsKey(info)) {
+            return acceptedItems.getBoolean(info);
+        }
+        boolean accepted;
+        if (tile.isReplaceTarget(info.asItem())) {
+            //If it is a replace target just mark it as never being accepted
+            accepted = false;
+        } else {
+            //Ensure that the inverse mode is the opposite of the filter match
+            accepted = tile.getInverse() != tile.getFilterManager().anyEnabledMatch(state, MinerFilter::canFilter);
+        }
+        acceptedItems.put(info, accepted);
+        return accepted;
+    }
+
     /**
      * Special cased vanilla blocks that only have one state actually have the drop and the other one just causes it to break. This includes things like two tall flowers,
      * beds, and doors. If a data pack modifies the loot table so that the "secondary" block also provides drops those will then be handled by the fallback we have for
@@ -3,7 +3,6 @@ package mekanism.common.content.network;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 import mekanism.api.Action;
 import mekanism.api.chemical.Chemical;
@@ -57,6 +56,12 @@ public class BoxedChemicalNetwork extends DynamicBufferedNetwork<BoxedChemicalHa
     @NotNull
     public BoxedChemical lastChemical = BoxedChemical.EMPTY;
     private long prevTransferAmount;
+    /**
+     * Target that gets reused each tick when emitting, so that we don't have to recreate it and its backing arrays every tick. The type of chemical it is for gets
+     * updated each time it is reset, so we just lazily initialize it to the first type we emit.
+     */
+    @Nullable
+    private ChemicalHandlerTarget<?, ?, ?> emitTarget;
 
     public BoxedChemicalNetwork(UUID networkID) {
         super(networkID);
@@ -243,16 +248,23 @@ public class BoxedChemicalNetwork extends DynamicBufferedNetwork<BoxedChemicalHa
         }
     }
 
+    @SuppressWarnings("unchecked")
     private <CHEMICAL extends Chemical<CHEMICAL>, STACK extends ChemicalStack<CHEMICAL>> long tickEmit(@NotNull STACK stack) {
         ChemicalType chemicalType = ChemicalType.getTypeFor(stack);
-        Collection<Map<Direction, BoxedChemicalHandler>> acceptorValues = acceptorCache.getAcceptorValues();
-        ChemicalHandlerTarget<CHEMICAL, STACK, IChemicalHandler<CHEMICAL, STACK>> target = new ChemicalHandlerTarget<>(stack, acceptorValues.size() * 2);
-        for (Map<Direction, BoxedChemicalHandler> acceptors : acceptorValues) {
-            for (BoxedChemicalHandler acceptor : acceptors.values()) {
-                IChemicalHandler<CHEMICAL, STACK> handler = acceptor.getHandlerFor(chemicalType);
-                if (handler != null && ChemicalUtil.canInsert(handler, stack)) {
-                    target.addHandler(handler);
-                }
+        List<BoxedChemicalHandler> acceptors = acceptorCache.getAcceptorList();
+        ChemicalHandlerTarget<CHEMICAL, STACK, IChemicalHandler<CHEMICAL, STACK>> target;
+        if (emitTarget == null) {
+            target = new ChemicalHandlerTarget<>(stack, acceptors.size());
+            emitTarget = target;
+        } else {
+            //Note: Resetting the target removes all the handlers, so it is safe to reuse it for a different type of chemical
+            target = (ChemicalHandlerTarget<CHEMICAL, STACK, IChemicalHandler<CHEMICAL, STACK>>) emitTarget;
+            target.reset(stack);
+        }
+        for (int i = 0, size = acceptors.size(); i < size; i++) {
+            IChemicalHandler<CHEMICAL, STACK> handler = acceptors.get(i).getHandlerFor(chemicalType);
+            if (handler != null && ChemicalUtil.canInsert(handler, stack)) {
+                target.addHandler(handler);
             }
         }
         return EmitUtils.sendToAcceptors(target, stack.getAmount(), stack);
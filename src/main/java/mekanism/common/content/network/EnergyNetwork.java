@@ -3,7 +3,6 @@ package mekanism.common.content.network;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 import mekanism.api.Action;
 import mekanism.api.AutomationType;
@@ -11,6 +10,7 @@ import mekanism.api.energy.IEnergyContainer;
 import mekanism.api.energy.IMekanismStrictEnergyHandler;
 import mekanism.api.energy.IStrictEnergyHandler;
 import mekanism.api.math.FloatingLong;
+import mekanism.api.math.FloatingLongAccumulator;
 import mekanism.common.MekanismLang;
 import mekanism.common.capabilities.energy.BasicEnergyContainer;
 import mekanism.common.capabilities.energy.VariableCapacityEnergyContainer;
@@ -32,6 +32,11 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
     public final VariableCapacityEnergyContainer energyContainer;
     private FloatingLong prevTransferAmount = FloatingLong.ZERO;
     private FloatingLong floatingLongCapacity = FloatingLong.ZERO;
+    private final FloatingLongAccumulator capacitySum = new FloatingLongAccumulator();
+    /**
+     * Target that gets reused each tick when emitting, so that we don't have to recreate it and its backing lists every tick.
+     */
+    private final EnergyAcceptorTarget emitTarget = new EnergyAcceptorTarget(10);
 
     public EnergyNetwork(UUID networkID) {
         super(networkID);
@@ -101,12 +106,12 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
 
     @Override
     public synchronized void updateCapacity() {
-        FloatingLong sum = FloatingLong.ZERO;
+        capacitySum.setZero();
         for (UniversalCable transmitter : getTransmitters()) {
-            sum = sum.plusEqual(transmitter.getCapacityAsFloatingLong());
+            capacitySum.add(transmitter.getCapacityAsFloatingLong());
         }
-        if (!floatingLongCapacity.equals(sum)) {
-            floatingLongCapacity = sum;
+        if (!capacitySum.valueEquals(floatingLongCapacity)) {
+            floatingLongCapacity = capacitySum.toFloatingLong();
             capacity = floatingLongCapacity.longValue();
         }
     }
@@ -127,16 +132,15 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
     }
 
     private FloatingLong tickEmit(FloatingLong energyToSend) {
-        Collection<Map<Direction, IStrictEnergyHandler>> acceptorValues = acceptorCache.getAcceptorValues();
-        EnergyAcceptorTarget target = new EnergyAcceptorTarget(acceptorValues.size() * 2);
-        for (Map<Direction, IStrictEnergyHandler> acceptors : acceptorValues) {
-            for (IStrictEnergyHandler acceptor : acceptors.values()) {
-                if (acceptor.insertEnergy(energyToSend, Action.SIMULATE).smallerThan(energyToSend)) {
-                    target.addHandler(acceptor);
-                }
+        List<IStrictEnergyHandler> acceptors = acceptorCache.getAcceptorList();
+        emitTarget.clear();
+        for (int i = 0, size = acceptors.size(); i < size; i++) {
+            IStrictEnergyHandler acceptor = acceptors.get(i);
+            if (acceptor.insertEnergy(energyToSend, Action.SIMULATE).smallerThan(energyToSend)) {
+                emitTarget.addHandler(acceptor);
             }
         }
-        return EmitUtils.sendToAcceptors(target, energyToSend.copy());
+        return EmitUtils.sendToAcceptors(emitTarget, energyToSend.copy());
     }
 
     @Override
@@ -3,7 +3,6 @@ package mekanism.common.content.network;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 import mekanism.api.Action;
 import mekanism.api.fluid.IExtendedFluidTank;
@@ -38,6 +37,10 @@ public class FluidNetwork extends DynamicBufferedNetwork<IFluidHandler, FluidNet
 
     //TODO: Make fluid storage support storing as longs?
     private int intCapacity;
+    /**
+     * Target that gets reused each tick when emitting, so that we don't have to recreate it and its backing arrays every tick.
+     */
+    private final FluidHandlerTarget emitTarget = new FluidHandlerTarget(FluidStack.EMPTY, 10);
 
     public FluidNetwork(UUID networkID) {
         super(networkID);
@@ -149,16 +152,15 @@ public class FluidNetwork extends DynamicBufferedNetwork<IFluidHandler, FluidNet
     }
 
     private int tickEmit(@NotNull FluidStack fluidToSend) {
-        Collection<Map<Direction, IFluidHandler>> acceptorValues = acceptorCache.getAcceptorValues();
-        FluidHandlerTarget target = new FluidHandlerTarget(fluidToSend, acceptorValues.size() * 2);
-        for (Map<Direction, IFluidHandler> acceptors : acceptorValues) {
-            for (IFluidHandler acceptor : acceptors.values()) {
-                if (FluidUtils.canFill(acceptor, fluidToSend)) {
-                    target.addHandler(acceptor);
-                }
+        List<IFluidHandler> acceptors = acceptorCache.getAcceptorList();
+        emitTarget.reset(fluidToSend);
+        for (int i = 0, size = acceptors.size(); i < size; i++) {
+            IFluidHandler acceptor = acceptors.get(i);
+            if (FluidUtils.canFill(acceptor, fluidToSend)) {
+                emitTarget.addHandler(acceptor);
             }
         }
-        return EmitUtils.sendToAcceptors(target, fluidToSend.getAmount(), fluidToSend);
+        return EmitUtils.sendToAcceptors(emitTarget, fluidToSend.getAmount(), fluidToSend);
     }
 
     @Override
@@ -6,18 +6,22 @@ import mekanism.api.heat.HeatAPI;
 import mekanism.api.heat.HeatAPI.HeatTransfer;
 import mekanism.api.heat.IHeatHandler;
 import mekanism.common.MekanismLang;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.network.transmitter.ThermodynamicConductor;
 import mekanism.common.lib.transmitter.DynamicNetwork;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.UnitDisplayUtils.TemperatureUnit;
 import net.minecraft.network.chat.Component;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public class HeatNetwork extends DynamicNetwork<IHeatHandler, HeatNetwork, ThermodynamicConductor> {
 
     private double meanTemp = HeatAPI.AMBIENT_TEMP;
     private double heatLost;
     private double heatTransferred;
+    @Nullable
+    private ParallelHeatSolver parallelSolver;
 
     public HeatNetwork(UUID networkID) {
         super(networkID);
@@ -48,10 +52,22 @@ public class HeatNetwork extends DynamicNetwork<IHeatHandler, HeatNetwork, Therm
     public void onUpdate() {
         super.onUpdate();
         double newSumTemp = 0, newHeatLost = 0, newHeatTransferred = 0;
-        for (ThermodynamicConductor transmitter : getTransmitters()) {
-            HeatTransfer transfer = transmitter.simulate();
-            newHeatTransferred += transfer.adjacentTransfer();
-            newHeatLost += transfer.environmentTransfer();
+        int parallelThreshold = MekanismConfig.general.parallelHeatNetworkThreshold.get();
+        if (parallelThreshold > 0 && transmittersSize() >= parallelThreshold) {
+            if (parallelSolver == null) {
+                parallelSolver = new ParallelHeatSolver();
+            }
+            parallelSolver.simulate(getTransmitters());
+            newHeatTransferred = parallelSolver.getHeatTransferred();
+            newHeatLost = parallelSolver.getHeatLost();
+        } else {
+            //Release the solver's buffers if the network shrunk or parallel solving got disabled
+            parallelSolver = null;
+            for (ThermodynamicConductor transmitter : getTransmitters()) {
+                HeatTransfer transfer = transmitter.simulate();
+                newHeatTransferred += transfer.adjacentTransfer();
+                newHeatLost += transfer.environmentTransfer();
+            }
         }
         //After we updated the heat values of all the transmitters, we need to update the temperatures
         // we do this after instead of when iterating initially so that if heat is transferred from one
@@ -1,6 +1,7 @@
 package mekanism.common.content.network;
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumSet;
@@ -13,6 +14,7 @@ import mekanism.api.RelativeSide;
 import mekanism.api.text.EnumColor;
 import mekanism.common.MekanismLang;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
+import mekanism.common.content.network.transmitter.Transmitter;
 import mekanism.common.content.transporter.PathfinderCache;
 import mekanism.common.content.transporter.TransporterManager;
 import mekanism.common.content.transporter.TransporterStack;
@@ -29,6 +31,7 @@ import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.chunk.ChunkAccess;
 import net.neoforged.neoforge.items.IItemHandler;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetwork, LogisticalTransporterBase> {
 
@@ -53,18 +56,7 @@ public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetw
                 for (Map.Entry<Direction, IItemHandler> acceptorEntry : entry.getValue().entrySet()) {
                     IItemHandler handler = acceptorEntry.getValue();
                     Direction side = acceptorEntry.getKey();
-                    //TODO: Figure out how we want to best handle the color check, as without doing it here we don't
-                    // actually need to even query the TE
-                    if (acceptor instanceof ISideConfiguration config) {
-                        //If the acceptor in question implements the mekanism interface, check that the color matches and bail fast if it doesn't
-                        if (config.getEjector().hasStrictInput()) {
-                            EnumColor configColor = config.getEjector().getInputColor(RelativeSide.fromDirections(config.getDirection(), side));
-                            if (configColor != null && configColor != stack.color) {
-                                continue;
-                            }
-                        }
-                    }
-                    TransitResponse response = TransporterManager.getPredictedInsert(position, side, handler, request, additionalFlowingStacks);
+                    TransitResponse response = getPredictedInsert(acceptor, position, side, handler, request, stack, additionalFlowingStacks);
                     if (!response.isEmpty()) {
                         Direction opposite = side.getOpposite();
                         //If the response isn't empty, check if we already have acceptor data for
@@ -91,11 +83,55 @@ public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetw
         return toReturn;
     }
 
+    /**
+     * Calculates what a single side of an acceptor is expected to accept from the given request, taking into account any stacks that are already in flight to it.
+     *
+     * @param pos  Position of the acceptor.
+     * @param side Side of the acceptor that the transporter is connected to.
+     *
+     * @return The expected response, or an empty response if there is no acceptor connected on the given side or the acceptor won't accept anything.
+     */
+    public TransitResponse calculateAcceptor(BlockPos pos, Direction side, TransitRequest request, TransporterStack stack, Long2ObjectMap<ChunkAccess> chunkMap,
+          Map<GlobalPos, Set<TransporterStack>> additionalFlowingStacks) {
+        IItemHandler handler = acceptorCache.getCachedAcceptor(pos, side);
+        if (handler == null || pos.equals(stack.homeLocation)) {
+            return request.getEmptyResponse();
+        }
+        BlockEntity acceptor = WorldUtils.getTileEntity(getWorld(), chunkMap, pos);
+        return getPredictedInsert(acceptor, GlobalPos.of(getWorld().dimension(), pos), side, handler, request, stack, additionalFlowingStacks);
+    }
+
+    private TransitResponse getPredictedInsert(@Nullable BlockEntity acceptor, GlobalPos position, Direction side, IItemHandler handler, TransitRequest request,
+          TransporterStack stack, Map<GlobalPos, Set<TransporterStack>> additionalFlowingStacks) {
+        //TODO: Figure out how we want to best handle the color check, as without doing it here we don't
+        // actually need to even query the TE
+        if (acceptor instanceof ISideConfiguration config) {
+            //If the acceptor in question implements the mekanism interface, check that the color matches and bail fast if it doesn't
+            if (config.getEjector().hasStrictInput()) {
+                EnumColor configColor = config.getEjector().getInputColor(RelativeSide.fromDirections(config.getDirection(), side));
+                if (configColor != null && configColor != stack.color) {
+                    return request.getEmptyResponse();
+                }
+            }
+        }
+        return TransporterManager.getPredictedInsert(position, side, handler, request, additionalFlowingStacks);
+    }
+
     @Override
     public void commit() {
+        //Gather the positions that are changing before committing, so that we only need to invalidate the cached paths that go through them
+        Set<BlockPos> changedPositions = new ObjectOpenHashSet<>();
+        for (LogisticalTransporterBase transmitter : transmittersToAdd) {
+            if (transmitter != null) {
+                changedPositions.add(transmitter.getBlockPos());
+            }
+        }
+        for (Transmitter<IItemHandler, ?, ?> transmitter : acceptorCache.getChangedTransmitters()) {
+            changedPositions.add(transmitter.getBlockPos());
+        }
         super.commit();
-        // update the cache when the network has been changed (called when transmitters are added)
-        PathfinderCache.onChanged(this);
+        // update the cache when the network has been changed (called when transmitters are added or acceptors change)
+        PathfinderCache.onChanged(this, changedPositions);
     }
 
     @Override
@@ -0,0 +1,146 @@
+package mekanism.common.content.network;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.stream.IntStream;
+import mekanism.api.heat.IHeatHandler;
+import mekanism.common.content.network.transmitter.ThermodynamicConductor;
+import mekanism.common.util.EnumUtils;
+import net.minecraft.core.Direction;
+
+/**
+ * Calculates the heat transfers of large heat networks in parallel, while producing exactly the same results as calling {@link ThermodynamicConductor#simulate()} for
+ * each conductor. This is done in three phases:
+ * <ol>
+ * <li>On the server thread, the adjacent heat handlers of each conductor are looked up, as looking them up may require accessing the world.</li>
+ * <li>In parallel on the common fork-join pool, the temperatures to transfer to the adjacent handlers and the environment are calculated. This only reads the stored
+ * heat of the conductors, which doesn't change until {@link ThermodynamicConductor#updateHeatCapacitors(Direction)} is called.</li>
+ * <li>On the server thread, the calculated transfers are applied in the same order that simulating each conductor would apply them, so that the heat each handler
+ * ends up handling is summed in exactly the same order.</li>
+ * </ol>
+ *
+ * @implNote The inverse conduction of adjacent handlers is looked up in the first phase, before any heat is applied. This matches simulating serially as the inverse
+ * conduction of a handler doesn't depend on how much heat it has been told to handle.
+ */
+class ParallelHeatSolver {
+
+    private static final int SIDES = EnumUtils.DIRECTIONS.length;
+
+    private ThermodynamicConductor[] conductors = new ThermodynamicConductor[0];
+    private IHeatHandler[] sinks = new IHeatHandler[0];
+    private double[] sinkInverseConduction = new double[0];
+    private double[] adjacentHeat = new double[0];
+    private double[] environmentHeat = new double[0];
+    private double[] adjacentTransfer = new double[0];
+    private double[] environmentTransfer = new double[0];
+
+    private double heatTransferred;
+    private double heatLost;
+
+    /**
+     * Simulates the heat transfers for the given conductors, in the order they are iterated.
+     */
+    void simulate(Collection<ThermodynamicConductor> transmitters) {
+        int count = transmitters.size();
+        ensureCapacity(count);
+        int index = 0;
+        for (ThermodynamicConductor conductor : transmitters) {
+            conductors[index] = conductor;
+            int base = index * SIDES;
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                IHeatHandler sink = conductor.getAdjacent(side);
+                sinks[base + side.ordinal()] = sink;
+                if (sink != null) {
+                    sinkInverseConduction[base + side.ordinal()] = sink.getTotalInverseConduction();
+                }
+                //Ensure the ambient temperature is cached, so that calculating transfers off the server thread doesn't need to access the world
+                conductor.getAmbientTemperature(side);
+            }
+            //Ensure the stored heat is initialized, as initializing it looks up the ambient temperature
+            conductor.buffer.getHeat();
+            index++;
+        }
+        IntStream.range(0, count).parallel().forEach(this::calculate);
+        double newHeatTransferred = 0, newHeatLost = 0;
+        for (int i = 0; i < count; i++) {
+            apply(i);
+            newHeatTransferred += adjacentTransfer[i];
+            newHeatLost += environmentTransfer[i];
+        }
+        heatTransferred = newHeatTransferred;
+        heatLost = newHeatLost;
+        //Release the references so that we don't keep any removed conductors or handlers around until the next time we simulate
+        Arrays.fill(conductors, 0, count, null);
+        Arrays.fill(sinks, 0, count * SIDES, null);
+    }
+
+    double getHeatTransferred() {
+        return heatTransferred;
+    }
+
+    double getHeatLost() {
+        return heatLost;
+    }
+
+    /**
+     * Mirrors the calculations of {@link ThermodynamicConductor#simulateAdjacent()} and {@link ThermodynamicConductor#simulateEnvironment()} without applying them.
+     */
+    private void calculate(int index) {
+        ThermodynamicConductor conductor = conductors[index];
+        int base = index * SIDES;
+        double adjacent = 0;
+        for (Direction side : EnumUtils.DIRECTIONS) {
+            int sideIndex = base + side.ordinal();
+            if (sinks[sideIndex] != null) {
+                double heatCapacity = conductor.getTotalHeatCapacity(side);
+                double tempToTransfer = conductor.getAdjacentTempToTransfer(side, sinkInverseConduction[sideIndex]);
+                adjacentHeat[sideIndex] = tempToTransfer * heatCapacity;
+                adjacent = conductor.incrementAdjacentTransfer(adjacent, tempToTransfer, side);
+            }
+        }
+        double environment = 0;
+        for (Direction side : EnumUtils.DIRECTIONS) {
+            double heatCapacity = conductor.getTotalHeatCapacity(side);
+            double tempToTransfer = conductor.getEnvironmentTempToTransfer(side);
+            environmentHeat[base + side.ordinal()] = -tempToTransfer * heatCapacity;
+            if (tempToTransfer > 0) {
+                //Only count it towards environmental loss if it is hotter than the ambient temperature
+                environment += tempToTransfer;
+            }
+        }
+        adjacentTransfer[index] = adjacent;
+        environmentTransfer[index] = environment;
+    }
+
+    /**
+     * Applies the calculated transfers in the same order as {@link ThermodynamicConductor#simulate()}.
+     */
+    private void apply(int index) {
+        ThermodynamicConductor conductor = conductors[index];
+        int base = index * SIDES;
+        for (Direction side : EnumUtils.DIRECTIONS) {
+            int sideIndex = base + side.ordinal();
+            IHeatHandler sink = sinks[sideIndex];
+            if (sink != null) {
+                double heatToTransfer = adjacentHeat[sideIndex];
+                conductor.handleHeat(-heatToTransfer, side);
+                sink.handleHeat(heatToTransfer);
+            }
+        }
+        for (Direction side : EnumUtils.DIRECTIONS) {
+            conductor.handleHeat(environmentHeat[base + side.ordinal()], side);
+        }
+    }
+
+    private void ensureCapacity(int count) {
+        if (conductors.length < count) {
+            conductors = new ThermodynamicConductor[count];
+            sinks = new IHeatHandler[count * SIDES];
+            sinkInverseConduction = new double[count * SIDES];
+            adjacentHeat = new double[count * SIDES];
+            environmentHeat = new double[count * SIDES];
+            adjacentTransfer = new double[count];
+            environmentTransfer = new double[count];
+        }
+    }
+}
@@ -6,13 +6,13 @@ import mekanism.api.chemical.ChemicalStack;
 import mekanism.api.chemical.ChemicalType;
 import mekanism.api.chemical.merged.BoxedChemicalStack;
 import mekanism.common.content.network.transmitter.BoxedPressurizedTube;
-import mekanism.common.lib.distribution.SplitInfo;
-import mekanism.common.lib.distribution.Target;
+import mekanism.common.lib.distribution.LongSplitInfo;
+import mekanism.common.lib.distribution.LongTarget;
 import mekanism.common.util.ChemicalUtil;
 import org.jetbrains.annotations.NotNull;
 
 public class BoxedChemicalTransmitterSaveTarget<CHEMICAL extends Chemical<CHEMICAL>, STACK extends ChemicalStack<CHEMICAL>>
-      extends Target<BoxedChemicalTransmitterSaveTarget<CHEMICAL, STACK>.SaveHandler, Long, @NotNull STACK> {
+      extends LongTarget<BoxedChemicalTransmitterSaveTarget<CHEMICAL, STACK>.SaveHandler, @NotNull STACK> {
 
     public BoxedChemicalTransmitterSaveTarget(@NotNull STACK empty, @NotNull STACK type, Collection<BoxedPressurizedTube> transmitters) {
         super(transmitters.size());
@@ -23,12 +23,12 @@ public class BoxedChemicalTransmitterSaveTarget<CHEMICAL extends Chemical<CHEMIC
     }
 
     @Override
-    protected void acceptAmount(BoxedChemicalTransmitterSaveTarget<CHEMICAL, STACK>.SaveHandler handler, SplitInfo<Long> splitInfo, Long amount) {
+    protected void acceptAmount(BoxedChemicalTransmitterSaveTarget<CHEMICAL, STACK>.SaveHandler handler, LongSplitInfo splitInfo, long amount) {
         handler.acceptAmount(splitInfo, amount);
     }
 
     @Override
-    protected Long simulate(BoxedChemicalTransmitterSaveTarget<CHEMICAL, STACK>.SaveHandler handler, @NotNull STACK chemicalStack) {
+    protected long simulate(BoxedChemicalTransmitterSaveTarget<CHEMICAL, STACK>.SaveHandler handler, @NotNull STACK chemicalStack) {
         return handler.simulate(chemicalStack);
     }
 
@@ -48,7 +48,7 @@ public class BoxedChemicalTransmitterSaveTarget<CHEMICAL extends Chemical<CHEMIC
             this.transmitter = transmitter;
         }
 
-        protected void acceptAmount(SplitInfo<Long> splitInfo, Long amount) {
+        protected void acceptAmount(LongSplitInfo splitInfo, long amount) {
             amount = Math.min(amount, transmitter.getCapacity() - currentStored.getAmount());
             if (currentStored.isEmpty()) {
                 currentStored = ChemicalUtil.copyWithAmount(extra, amount);
@@ -58,9 +58,9 @@ public class BoxedChemicalTransmitterSaveTarget<CHEMICAL extends Chemical<CHEMIC
             splitInfo.send(amount);
         }
 
-        protected Long simulate(@NotNull STACK chemicalStack) {
+        protected long simulate(@NotNull STACK chemicalStack) {
             if (!currentStored.isEmpty() && !ChemicalStack.isSameChemical(currentStored, chemicalStack)) {
-                return 0L;
+                return 0;
             }
             return Math.min(chemicalStack.getAmount(), transmitter.getCapacity() - currentStored.getAmount());
         }
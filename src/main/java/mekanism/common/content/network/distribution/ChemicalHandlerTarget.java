@@ -4,13 +4,13 @@ import mekanism.api.Action;
 import mekanism.api.chemical.Chemical;
 import mekanism.api.chemical.ChemicalStack;
 import mekanism.api.chemical.IChemicalHandler;
-import mekanism.common.lib.distribution.SplitInfo;
-import mekanism.common.lib.distribution.Target;
+import mekanism.common.lib.distribution.LongSplitInfo;
+import mekanism.common.lib.distribution.LongTarget;
 import mekanism.common.util.ChemicalUtil;
 import org.jetbrains.annotations.NotNull;
 
 public class ChemicalHandlerTarget<CHEMICAL extends Chemical<CHEMICAL>, STACK extends ChemicalStack<CHEMICAL>, HANDLER extends IChemicalHandler<CHEMICAL, STACK>>
-      extends Target<HANDLER, Long, @NotNull STACK> {
+      extends LongTarget<HANDLER, @NotNull STACK> {
 
     public ChemicalHandlerTarget(@NotNull STACK type) {
         this.extra = type;
@@ -21,13 +21,21 @@ public class ChemicalHandlerTarget<CHEMICAL extends Chemical<CHEMICAL>, STACK ex
         this.extra = type;
     }
 
+    /**
+     * Clears this target so that it can be reused to distribute the given type.
+     */
+    public void reset(@NotNull STACK type) {
+        clear();
+        this.extra = type;
+    }
+
     @Override
-    protected void acceptAmount(HANDLER handler, SplitInfo<Long> splitInfo, Long amount) {
+    protected void acceptAmount(HANDLER handler, LongSplitInfo splitInfo, long amount) {
         splitInfo.send(amount - handler.insertChemical(ChemicalUtil.copyWithAmount(extra, amount), Action.EXECUTE).getAmount());
     }
 
     @Override
-    protected Long simulate(HANDLER handler, @NotNull STACK stack) {
+    protected long simulate(HANDLER handler, @NotNull STACK stack) {
         return stack.getAmount() - handler.insertChemical(stack, Action.SIMULATE).getAmount();
     }
 }
\ No newline at end of file
@@ -22,11 +22,23 @@ public class EnergyAcceptorTarget extends Target<IStrictEnergyHandler, FloatingL
 
     @Override
     protected void acceptAmount(IStrictEnergyHandler handler, SplitInfo<FloatingLong> splitInfo, FloatingLong amount) {
-        splitInfo.send(amount.subtract(handler.insertEnergy(amount, Action.EXECUTE)));
+        splitInfo.send(getAccepted(amount, handler.insertEnergy(amount, Action.EXECUTE)));
     }
 
     @Override
     protected FloatingLong simulate(IStrictEnergyHandler handler, FloatingLong energyToSend) {
-        return energyToSend.subtract(handler.insertEnergy(energyToSend, Action.SIMULATE));
+        return getAccepted(energyToSend, handler.insertEnergy(energyToSend, Action.SIMULATE));
+    }
+
+    /**
+     * Calculates how much of the offered amount was accepted, without creating a new object in the common cases of the handler accepting all or none of it.
+     */
+    private static FloatingLong getAccepted(FloatingLong offered, FloatingLong remainder) {
+        if (remainder.isZero()) {
+            return offered;
+        } else if (remainder == offered) {
+            return FloatingLong.ZERO;
+        }
+        return offered.subtract(remainder);
     }
 }
\ No newline at end of file
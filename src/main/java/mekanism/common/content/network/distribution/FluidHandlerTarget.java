@@ -1,14 +1,14 @@
 package mekanism.common.content.network.distribution;
 
 import java.util.Collection;
-import mekanism.common.lib.distribution.SplitInfo;
-import mekanism.common.lib.distribution.Target;
+import mekanism.common.lib.distribution.IntTarget;
+import mekanism.common.lib.distribution.IntegerSplitInfo;
 import net.neoforged.neoforge.fluids.FluidStack;
 import net.neoforged.neoforge.fluids.capability.IFluidHandler;
 import net.neoforged.neoforge.fluids.capability.IFluidHandler.FluidAction;
 import org.jetbrains.annotations.NotNull;
 
-public class FluidHandlerTarget extends Target<IFluidHandler, Integer, @NotNull FluidStack> {
+public class FluidHandlerTarget extends IntTarget<IFluidHandler, @NotNull FluidStack> {
 
     public FluidHandlerTarget(@NotNull FluidStack type) {
         this.extra = type;
@@ -24,13 +24,21 @@ public class FluidHandlerTarget extends Target<IFluidHandler, Integer, @NotNull
         this.extra = type;
     }
 
+    /**
+     * Clears this target so that it can be reused to distribute the given type.
+     */
+    public void reset(@NotNull FluidStack type) {
+        clear();
+        this.extra = type;
+    }
+
     @Override
-    protected void acceptAmount(IFluidHandler handler, SplitInfo<Integer> splitInfo, Integer amount) {
+    protected void acceptAmount(IFluidHandler handler, IntegerSplitInfo splitInfo, int amount) {
         splitInfo.send(handler.fill(extra.copyWithAmount(amount), FluidAction.EXECUTE));
     }
 
     @Override
-    protected Integer simulate(IFluidHandler handler, @NotNull FluidStack fluidStack) {
+    protected int simulate(IFluidHandler handler, @NotNull FluidStack fluidStack) {
         return handler.fill(fluidStack, FluidAction.SIMULATE);
     }
 }
\ No newline at end of file
@@ -3,13 +3,13 @@ package mekanism.common.content.network.distribution;
 import java.util.Collection;
 import mekanism.api.math.MathUtils;
 import mekanism.common.content.network.transmitter.MechanicalPipe;
-import mekanism.common.lib.distribution.SplitInfo;
-import mekanism.common.lib.distribution.Target;
+import mekanism.common.lib.distribution.IntTarget;
+import mekanism.common.lib.distribution.IntegerSplitInfo;
 import net.neoforged.neoforge.fluids.FluidStack;
 import org.jetbrains.annotations.NotNull;
 
 //TODO: Improve handling for fluid storage as longs
-public class FluidTransmitterSaveTarget extends Target<FluidTransmitterSaveTarget.SaveHandler, Integer, @NotNull FluidStack> {
+public class FluidTransmitterSaveTarget extends IntTarget<FluidTransmitterSaveTarget.SaveHandler, @NotNull FluidStack> {
 
     public FluidTransmitterSaveTarget(@NotNull FluidStack type, Collection<MechanicalPipe> transmitters) {
         super(transmitters.size());
@@ -20,12 +20,12 @@ public class FluidTransmitterSaveTarget extends Target<FluidTransmitterSaveTarge
     }
 
     @Override
-    protected void acceptAmount(FluidTransmitterSaveTarget.SaveHandler handler, SplitInfo<Integer> splitInfo, Integer amount) {
+    protected void acceptAmount(FluidTransmitterSaveTarget.SaveHandler handler, IntegerSplitInfo splitInfo, int amount) {
         handler.acceptAmount(splitInfo, amount);
     }
 
     @Override
-    protected Integer simulate(FluidTransmitterSaveTarget.SaveHandler handler, @NotNull FluidStack fluidStack) {
+    protected int simulate(FluidTransmitterSaveTarget.SaveHandler handler, @NotNull FluidStack fluidStack) {
         return handler.simulate(fluidStack);
     }
 
@@ -44,7 +44,7 @@ public class FluidTransmitterSaveTarget extends Target<FluidTransmitterSaveTarge
             this.transmitter = transmitter;
         }
 
-        protected void acceptAmount(SplitInfo<Integer> splitInfo, Integer amount) {
+        protected void acceptAmount(IntegerSplitInfo splitInfo, int amount) {
             amount = Math.min(amount, MathUtils.clampToInt(transmitter.getCapacity() - currentStored.getAmount()));
             if (currentStored.isEmpty()) {
                 currentStored = extra.copyWithAmount(amount);
@@ -54,7 +54,7 @@ public class FluidTransmitterSaveTarget extends Target<FluidTransmitterSaveTarge
             splitInfo.send(amount);
         }
 
-        protected Integer simulate(@NotNull FluidStack fluidStack) {
+        protected int simulate(@NotNull FluidStack fluidStack) {
             if (!currentStored.isEmpty() && !FluidStack.isSameFluidSameComponents(currentStored, fluidStack)) {
                 return 0;
             }
@@ -151,7 +151,13 @@ public abstract class LogisticalTransporterBase extends Transmitter<IItemHandler
                     int stackId = entry.getIntKey();
                     TransporterStack stack = entry.getValue();
                     if (!stack.initiatedPath) {//Initiate any paths and remove things that can't go places
-                        if (stack.itemStack.isEmpty() || !recalculate(stackId, stack, null)) {
+                        if (stack.itemStack.isEmpty()) {
+                            deletes.add(stackId);
+                            continue;
+                        } else if (stack.restoreSavedPath(this)) {
+                            //If the stack was loaded with a path that is still valid, we can keep using it instead of recalculating it
+                            needsSync.put(stackId, stack);
+                        } else if (!recalculate(stackId, stack, null)) {
                             deletes.add(stackId);
                             continue;
                         }
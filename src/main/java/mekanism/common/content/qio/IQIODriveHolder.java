@@ -2,7 +2,6 @@ package mekanism.common.content.qio;
 
 import java.util.List;
 import mekanism.common.Mekanism;
-import mekanism.common.attachments.qio.DriveContents;
 import mekanism.common.inventory.slot.QIODriveSlot;
 import mekanism.common.registries.MekanismDataComponents;
 import mekanism.common.util.RegistryUtils;
@@ -17,7 +16,7 @@ public interface IQIODriveHolder extends IQIOFrequencyHolder {
     default void save(int slot, QIODriveData data) {
         ItemStack stack = getDriveSlots().get(slot).getStack();
         if (stack.getItem() instanceof IQIODriveItem) {
-            stack.set(MekanismDataComponents.DRIVE_CONTENTS, DriveContents.create(data));
+            stack.set(MekanismDataComponents.DRIVE_CONTENTS, data.createContents());
         } else {
             Mekanism.logger.error("Tried to save data map to an invalid item ({}). Something has gone very wrong!", RegistryUtils.getName(stack.getItem()));
         }
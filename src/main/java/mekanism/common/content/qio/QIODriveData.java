@@ -1,7 +1,9 @@
 package mekanism.common.content.qio;
 
-import it.unimi.dsi.fastutil.objects.Object2LongMap;
-import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import java.util.Arrays;
+import java.util.UUID;
 import mekanism.api.Action;
 import mekanism.common.Mekanism;
 import mekanism.common.attachments.qio.DriveContents;
@@ -11,14 +13,34 @@ import mekanism.common.registries.MekanismDataComponents;
 import mekanism.common.util.RegistryUtils;
 import net.minecraft.world.item.ItemStack;
 
+/**
+ * Contents of a QIO drive stored in columns: a dense array of the stored types, the most and least significant bits of each type's {@link QIOGlobalItemLookup} UUID, and
+ * the count of each type. Index {@code i} of the columns corresponds to entry {@code i} of the drive's {@link DriveContents}, which lets saving only rewrite the range of
+ * entries that changed since the drive was last saved.
+ */
 public class QIODriveData {
 
     private final QIODriveKey key;
     private final long countCapacity;
     private final int typeCapacity;
-    private final Object2LongMap<HashedItem> itemMap = new Object2LongOpenHashMap<>();
+    private final Object2IntMap<HashedItem> indices = new Object2IntOpenHashMap<>();
+    private HashedItem[] types;
+    private long[] mostSigBits;
+    private long[] leastSigBits;
+    private long[] counts;
+    private int size;
     private long itemCount;
 
+    /**
+     * The contents as of the last time this drive was saved, or {@code null} if they have to be entirely rewritten.
+     */
+    private DriveContents savedContents;
+    /**
+     * Range of indices that changed since the drive was last saved. The range is empty if {@link #dirtyStart} is greater than {@link #dirtyEnd}.
+     */
+    private int dirtyStart = Integer.MAX_VALUE;
+    private int dirtyEnd = -1;
+
     public QIODriveData(QIODriveKey key) {
         this.key = key;
         ItemStack driveStack = key.getDriveStack();
@@ -27,52 +49,221 @@ public class QIODriveData {
         countCapacity = driveItem.getCountCapacity(driveStack);
         typeCapacity = driveItem.getTypeCapacity(driveStack);
         // load item map from drive stack
-        driveStack.getOrDefault(MekanismDataComponents.DRIVE_CONTENTS, DriveContents.EMPTY).loadItemMap(this);
-        // update cached item count value
-        itemCount = itemMap.values().longStream().sum();
+        DriveContents contents = driveStack.getOrDefault(MekanismDataComponents.DRIVE_CONTENTS, DriveContents.EMPTY);
+        int storedTypes = contents.types();
+        int initialCapacity = Math.min(storedTypes, typeCapacity);
+        types = new HashedItem[initialCapacity];
+        mostSigBits = new long[initialCapacity];
+        leastSigBits = new long[initialCapacity];
+        counts = new long[initialCapacity];
+        indices.defaultReturnValue(-1);
+        boolean intact = true;
+        for (int i = 0; i < storedTypes; i++) {
+            long mostSig = contents.getMostSignificantBits(i);
+            long leastSig = contents.getLeastSignificantBits(i);
+            HashedItem type = QIOGlobalItemLookup.INSTANCE.getTypeByUUID(new UUID(mostSig, leastSig));
+            if (type == null) {
+                //Only add the item if the item type is known. If it can't that means the mod adding the item was probably removed
+                //TODO: Eventually we may want to keep the UUID so that if the mod gets added back it exists again?
+                intact = false;
+                continue;
+            }
+            long count = contents.getCount(i);
+            int index = indices.getInt(type);
+            if (index == -1) {
+                append(type, mostSig, leastSig, count);
+            } else {
+                //Shouldn't happen, but merge duplicate entries rather than losing items
+                counts[index] += count;
+                intact = false;
+            }
+            itemCount += count;
+        }
+        //If we skipped or merged any entries, the saved contents no longer line up with our columns, so they will have to be entirely rewritten
+        savedContents = intact ? contents : null;
 
         key.updateMetadata(this);
     }
 
+    /**
+     * Appends a new type to the end of the columns, growing them if necessary.
+     *
+     * @return The index of the added type.
+     */
+    private int append(HashedItem type, long mostSig, long leastSig, long count) {
+        if (size == types.length) {
+            //Grow by half, but never past what the drive can hold as we won't ever need more than that
+            int newCapacity = Math.max(size + 1, Math.min(typeCapacity, size + (size >> 1)));
+            types = Arrays.copyOf(types, newCapacity);
+            mostSigBits = Arrays.copyOf(mostSigBits, newCapacity);
+            leastSigBits = Arrays.copyOf(leastSigBits, newCapacity);
+            counts = Arrays.copyOf(counts, newCapacity);
+        }
+        int index = size++;
+        types[index] = type;
+        mostSigBits[index] = mostSig;
+        leastSigBits[index] = leastSig;
+        counts[index] = count;
+        indices.put(type, index);
+        return index;
+    }
+
+    /**
+     * Removes the type at the given index by moving the last type into its place, so that the columns stay dense.
+     */
+    private void removeAt(int index) {
+        indices.removeInt(types[index]);
+        int last = --size;
+        if (index != last) {
+            HashedItem moved = types[last];
+            types[index] = moved;
+            mostSigBits[index] = mostSigBits[last];
+            leastSigBits[index] = leastSigBits[last];
+            counts[index] = counts[last];
+            indices.put(moved, index);
+        }
+        types[last] = null;
+        markDirty(index);
+    }
+
+    private void markDirty(int index) {
+        if (index < dirtyStart) {
+            dirtyStart = index;
+        }
+        if (index > dirtyEnd) {
+            dirtyEnd = index;
+        }
+    }
+
     public long add(HashedItem type, long amount, Action action) {
-        long stored = getStored(type);
+        return add(type, amount, action, true);
+    }
+
+    /**
+     * @param notify {@code false} to skip updating the drive's metadata and notifying the holder, as the caller will call {@link #notifyChanged()} once it is done
+     *               making changes.
+     */
+    long add(HashedItem type, long amount, Action action, boolean notify) {
+        int index = indices.getInt(type);
         // fail if we've reached item count capacity or adding this item would make us exceed type capacity
-        if (itemCount == countCapacity || (stored == 0 && itemMap.size() == typeCapacity)) {
+        if (itemCount == countCapacity || (index == -1 && size == typeCapacity)) {
             return amount;
         }
         long toAdd = Math.min(amount, countCapacity - itemCount);
         if (action.execute()) {
-            itemMap.put(type, stored + toAdd);
+            if (index == -1) {
+                UUID uuid = QIOGlobalItemLookup.INSTANCE.getOrTrackUUID(type);
+                index = append(type, uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), toAdd);
+            } else {
+                counts[index] += toAdd;
+            }
+            markDirty(index);
             itemCount += toAdd;
-            key.updateMetadata(this);
-            key.dataUpdate();
+            if (notify) {
+                notifyChanged();
+            }
         }
         return amount - toAdd;
     }
 
     public long remove(HashedItem type, long amount, Action action) {
-        long stored = getStored(type);
-        long removed = Math.min(amount, stored);
+        return remove(type, amount, action, true);
+    }
+
+    /**
+     * @param notify {@code false} to skip updating the drive's metadata and notifying the holder, as the caller will call {@link #notifyChanged()} once it is done
+     *               making changes.
+     */
+    long remove(HashedItem type, long amount, Action action, boolean notify) {
+        int index = indices.getInt(type);
+        if (index == -1) {
+            return 0;
+        }
+        long removed = Math.min(amount, counts[index]);
         if (action.execute()) {
-            long remaining = stored - removed;
+            long remaining = counts[index] - removed;
             if (remaining > 0) {
-                itemMap.put(type, remaining);
+                counts[index] = remaining;
+                markDirty(index);
             } else {
-                itemMap.removeLong(type);
+                removeAt(index);
             }
             itemCount -= removed;
-            key.updateMetadata(this);
-            key.dataUpdate();
+            if (notify) {
+                notifyChanged();
+            }
         }
         return removed;
     }
 
+    /**
+     * Updates the drive's metadata and lets the holder know that the contents of the drive changed.
+     */
+    void notifyChanged() {
+        key.updateMetadata(this);
+        key.dataUpdate();
+    }
+
+    /**
+     * @return {@code true} if the contents of this drive changed since it was last saved.
+     */
+    public boolean hasUnsavedChanges() {
+        return savedContents == null || dirtyStart <= dirtyEnd || savedContents.types() != size;
+    }
+
+    /**
+     * Creates the contents to save to the drive stack. Only the entries that changed since the last time this was called are rewritten, and if nothing changed the
+     * previously saved contents are returned.
+     */
+    public DriveContents createContents() {
+        if (!hasUnsavedChanges()) {
+            return savedContents;
+        }
+        long[] serialized;
+        int start, end;
+        if (savedContents == null) {
+            serialized = new long[3 * size];
+            start = 0;
+            end = size - 1;
+        } else {
+            //Note: Every index that was appended to, or had a type moved into it by a removal, is in the dirty range, so we only have to rewrite that range
+            // and trim off any entries past our current size
+            serialized = savedContents.copySerialized(size);
+            start = dirtyStart;
+            end = Math.min(dirtyEnd, size - 1);
+        }
+        for (int i = start, j = 3 * start; i <= end; i++) {
+            serialized[j++] = mostSigBits[i];
+            serialized[j++] = leastSigBits[i];
+            serialized[j++] = counts[i];
+        }
+        savedContents = DriveContents.wrap(serialized);
+        dirtyStart = Integer.MAX_VALUE;
+        dirtyEnd = -1;
+        return savedContents;
+    }
+
     public long getStored(HashedItem type) {
-        return itemMap.getOrDefault(type, 0L);
+        int index = indices.getInt(type);
+        return index == -1 ? 0 : counts[index];
+    }
+
+    public boolean contains(HashedItem type) {
+        return indices.containsKey(type);
+    }
+
+    /**
+     * @param index Index of the type, between zero and {@link #getTotalTypes()}.
+     */
+    public HashedItem getType(int index) {
+        return types[index];
     }
 
-    public Object2LongMap<HashedItem> getItemMap() {
-        return itemMap;
+    /**
+     * @param index Index of the type, between zero and {@link #getTotalTypes()}.
+     */
+    public long getCount(int index) {
+        return counts[index];
     }
 
     public QIODriveKey getKey() {
@@ -92,7 +283,7 @@ public class QIODriveData {
     }
 
     public int getTotalTypes() {
-        return itemMap.size();
+        return size;
     }
 
     public record QIODriveKey(IQIODriveHolder holder, int driveSlot) {
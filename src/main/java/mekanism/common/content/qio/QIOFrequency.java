@@ -5,9 +5,15 @@ import com.google.common.collect.SetMultimap;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import io.netty.buffer.ByteBuf;
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongMaps;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -43,16 +49,14 @@ import mekanism.common.lib.frequency.Frequency;
 import mekanism.common.lib.frequency.FrequencyType;
 import mekanism.common.lib.frequency.IColorableFrequency;
 import mekanism.common.lib.inventory.HashedItem;
-import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
 import mekanism.common.lib.security.SecurityFrequency;
 import mekanism.common.network.to_client.qio.PacketBatchItemViewerSync;
+import mekanism.common.network.to_client.qio.PacketQIOItemViewerGuiSync.TypeDefinition;
 import mekanism.common.network.to_client.qio.PacketUpdateItemViewer;
 import mekanism.common.util.MekanismUtils;
-import net.minecraft.SharedConstants;
 import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.server.level.ServerPlayer;
-import net.minecraft.util.RandomSource;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.entity.BlockEntity;
@@ -62,7 +66,6 @@ import org.jetbrains.annotations.Nullable;
 
 public class QIOFrequency extends Frequency implements IColorableFrequency, IQIOFrequency {
 
-    private static final RandomSource rand = RandomSource.create();
     public static final Codec<QIOFrequency> CODEC = RecordCodecBuilder.create(instance -> baseCodec(instance)
           .and(EnumColor.CODEC.fieldOf(NBTConstants.COLOR).forGetter(QIOFrequency::getColor))
           .apply(instance, (name, owner, securityMode, color) -> {
@@ -106,12 +109,19 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     private final Set<String> failedWildcardModIDs = new HashSet<>();
 
     private final Set<UUID> updatedItems = new HashSet<>();
-    private final Set<ServerPlayer> playersViewingItems = new HashSet<>();
+    /**
+     * Players viewing the items in this frequency, and the ids of the item types that each player has been told about.
+     */
+    private final Map<ServerPlayer, ViewerTypeIds> playersViewingItems = new HashMap<>();
 
     /** If we need to send a packet to viewing clients with changed item data. */
     private boolean needsUpdate;
     /** If we have new item changes that haven't been saved. */
     private boolean isDirty;
+    /** How many batches are currently open, while this is greater than zero drives are not notified of changes until the outermost batch ends. */
+    private int batchDepth;
+    /** Drives that have been changed during the current batch. */
+    private final Set<QIODriveData> changedDrives = new ReferenceLinkedOpenHashSet<>();
 
     private long totalCount, totalCountCapacity;
     private int totalTypeCapacity;
@@ -159,7 +169,13 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         if (stack.isEmpty() || amount <= 0) {
             return 0;
         }
-        HashedItem type = action.execute() ? HashedItem.create(stack) : HashedItem.raw(stack);
+        return massInsert(action.execute() ? HashedItem.create(stack) : HashedItem.raw(stack), amount, action);
+    }
+
+    /**
+     * @param type Type to insert, if executing this must not be a raw type.
+     */
+    long massInsert(HashedItem type, long amount, Action action) {
         // these checks are extremely important; they prevent us from wasting CPU searching for a place to put the new items,
         // and they also prevent us from adding a ghost type to the itemDataMap if nothing is inserted
         if (totalCount == totalCountCapacity || (!itemDataMap.containsKey(type) && itemDataMap.size() == totalTypeCapacity)) {
@@ -237,10 +253,16 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
 
     @Override
     public long massExtract(ItemStack stack, long amount, Action action) {
-        if (amount <= 0 || stack.isEmpty() || itemDataMap.isEmpty()) {
+        if (amount <= 0 || stack.isEmpty()) {
+            return 0;
+        }
+        return massExtract(HashedItem.raw(stack), amount, action);
+    }
+
+    long massExtract(HashedItem type, long amount, Action action) {
+        if (itemDataMap.isEmpty()) {
             return 0;
         }
-        HashedItem type = HashedItem.raw(stack);
         QIOItemTypeData data = itemDataMap.get(type);
         if (data == null) {
             return 0;
@@ -253,6 +275,49 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         return removed;
     }
 
+    @Override
+    public QIOTransferBatch createTransferBatch() {
+        return new QIOTransferBatch(this);
+    }
+
+    /**
+     * Starts a batch of changes to this frequency. Until the batch is ended via {@link #endBatch()}, drives only get their metadata updated and their holders notified
+     * once, no matter how many times items are added to or removed from them. Batches may be nested, in which case the drives are notified when the outermost batch
+     * ends.
+     *
+     * @apiNote Always end the batch in a finally block, so that drives still get notified if something goes wrong.
+     */
+    public void startBatch() {
+        batchDepth++;
+    }
+
+    /**
+     * Ends a batch of changes to this frequency, see {@link #startBatch()}.
+     */
+    public void endBatch() {
+        if (batchDepth > 0 && --batchDepth == 0 && !changedDrives.isEmpty()) {
+            for (QIODriveData data : changedDrives) {
+                //Skip any drives that were removed during the batch, as removing a drive updates and saves it
+                if (driveMap.get(data.getKey()) == data) {
+                    data.notifyChanged();
+                }
+            }
+            changedDrives.clear();
+        }
+    }
+
+    /**
+     * @return {@code true} if the drive should be notified of the change immediately, {@code false} if it will be notified when the current batch ends.
+     */
+    private boolean notifyDrive(QIODriveData data, Action action) {
+        if (batchDepth == 0) {
+            return true;
+        } else if (action.execute()) {
+            changedDrives.add(data);
+        }
+        return false;
+    }
+
     public ItemStack removeItem(int amount) {
         return removeByType(null, amount);
     }
@@ -412,12 +477,20 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     }
 
     public void openItemViewer(ServerPlayer player) {
-        playersViewingItems.add(player);
-        Object2LongMap<UUIDAwareHashedItem> map = new Object2LongOpenHashMap<>(itemDataMap.size());
+        //Start a new session for the player, as the client forgets all the ids it knows about when it receives a batch update
+        ViewerTypeIds typeIds = new ViewerTypeIds();
+        playersViewingItems.put(player, typeIds);
+        //Periodically check that the player is still allowed to view the items
+        schedulePeriodic();
+        List<TypeDefinition> types = new ArrayList<>(itemDataMap.size());
+        Int2LongMap counts = new Int2LongOpenHashMap(itemDataMap.size());
         for (QIOItemTypeData data : itemDataMap.values()) {
-            map.put(new UUIDAwareHashedItem(data.itemType, QIOGlobalItemLookup.INSTANCE.getOrTrackUUID(data.itemType)), data.count);
+            UUID uuid = QIOGlobalItemLookup.INSTANCE.getOrTrackUUID(data.itemType);
+            int id = typeIds.assign(uuid);
+            types.add(new TypeDefinition(id, data.itemType.getInternalStack(), uuid));
+            counts.put(id, data.count);
         }
-        PacketDistributor.sendToPlayer(player, new PacketBatchItemViewerSync(totalCountCapacity, totalTypeCapacity, map));
+        PacketDistributor.sendToPlayer(player, new PacketBatchItemViewerSync(totalCountCapacity, totalTypeCapacity, types, counts));
     }
 
     public void closeItemViewer(ServerPlayer player) {
@@ -433,7 +506,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     public void setColor(EnumColor color) {
         if (this.color != color) {
             this.color = color;
-            this.dirty = true;
+            markDirty();
         }
     }
 
@@ -483,37 +556,25 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     public boolean tick() {
         boolean superDirty = super.tick();
 
-        if (getSecurity() == SecurityMode.TRUSTED && !playersViewingItems.isEmpty()) {
-            //TODO - 1.20.4: Only perform every so often?
-            SecurityFrequency security = FrequencyType.SECURITY.getManager(null, SecurityMode.PUBLIC).getFrequency(getOwner());
-            if (security != null) {
-                for (ServerPlayer player : new HashSet<>(playersViewingItems)) {
-                    if (!ownerMatches(player.getUUID()) && !security.isTrusted(player.getUUID()) && player.containerMenu instanceof QIOItemViewerContainer) {
-                        player.closeContainer();
-                        closeItemViewer(player);
-                    }
-                }
-            }
-        }
-
         if (!updatedItems.isEmpty() || needsUpdate) {
-            //Only calculate the packet and the update map if there are actually players viewing this frequency,
-            // otherwise we can just skip looking up UUIDs and counts
-            Lazy<PacketUpdateItemViewer> lazyPacket = Lazy.of(() -> {
-                Object2LongMap<UUIDAwareHashedItem> map = new Object2LongOpenHashMap<>(updatedItems.size());
+            //Only look up the changed types and counts if there are actually players viewing this frequency
+            Lazy<List<UpdatedType>> lazyUpdates = Lazy.of(() -> {
+                List<UpdatedType> updates = new ArrayList<>(updatedItems.size());
                 for (UUID uuid : updatedItems) {
                     HashedItem type = QIOGlobalItemLookup.INSTANCE.getTypeByUUID(uuid);
                     if (type != null) {//The type should never be null as we create a UUID if there isn't one before adding but validate it
                         QIOItemTypeData data = itemDataMap.get(type);
-                        map.put(new UUIDAwareHashedItem(type, uuid), data == null ? 0 : data.count);
+                        updates.add(new UpdatedType(uuid, type, data == null ? 0 : data.count));
                     }
                 }
-                return new PacketUpdateItemViewer(totalCountCapacity, totalTypeCapacity, map);
+                return updates;
             });
-            for (Iterator<ServerPlayer> viewingIterator = playersViewingItems.iterator(); viewingIterator.hasNext(); ) {
-                ServerPlayer player = viewingIterator.next();
+            for (Iterator<Entry<ServerPlayer, ViewerTypeIds>> viewingIterator = playersViewingItems.entrySet().iterator(); viewingIterator.hasNext(); ) {
+                Entry<ServerPlayer, ViewerTypeIds> entry = viewingIterator.next();
+                ServerPlayer player = entry.getKey();
                 if (player.containerMenu instanceof QIOItemViewerContainer) {
-                    PacketDistributor.sendToPlayer(player, lazyPacket.get());
+                    //Note: Each player has their own ids for the types, so we have to create the packet per player
+                    PacketDistributor.sendToPlayer(player, createUpdatePacket(entry.getValue(), lazyUpdates.get()));
                 } else {
                     //flush players that somehow didn't send a container close packet
                     viewingIterator.remove();
@@ -522,26 +583,75 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             updatedItems.clear();
             needsUpdate = false;
         }
-        // if something has changed, we'll subsequently randomly run a save operation in the next 100 ticks.
-        // the random factor helps us avoid bogging down the CPU by saving all QIO frequencies at once
+        if (CommonWorldTickHandler.flushTagAndRecipeCaches) {
+            //Note: We only need to clear tags here as the modids cannot change just because a reload happened
+            tagLookupMap.clear();
+            tagWildcardCache.clear();
+            for (QIOItemTypeData item : itemDataMap.values()) {
+                tagLookupMap.putAll(TagCache.getItemTags(item.itemType.getInternalStack()), item.itemType);
+            }
+        }
+        return superDirty;
+    }
+
+    @Override
+    public boolean needsTicking() {
+        return super.needsTicking() || needsUpdate || !updatedItems.isEmpty();
+    }
+
+    @Override
+    public boolean tickPeriodic() {
+        boolean superDirty = super.tickPeriodic();
+        if (!playersViewingItems.isEmpty()) {
+            SecurityFrequency security = null;
+            if (getSecurity() == SecurityMode.TRUSTED) {
+                security = FrequencyType.SECURITY.getManager(null, SecurityMode.PUBLIC).getFrequency(getOwner());
+            }
+            for (ServerPlayer player : new HashSet<>(playersViewingItems.keySet())) {
+                if (!(player.containerMenu instanceof QIOItemViewerContainer)) {
+                    //flush players that somehow didn't send a container close packet, so that we don't stay scheduled for them
+                    closeItemViewer(player);
+                } else if (security != null && !ownerMatches(player.getUUID()) && !security.isTrusted(player.getUUID())) {
+                    player.closeContainer();
+                    closeItemViewer(player);
+                }
+            }
+        }
+        // if something has changed, we'll subsequently run a save operation the next time we are periodically ticked.
+        // the manager spreads out periodic ticks, which helps us avoid bogging down the CPU by saving all QIO frequencies at once
         // this isn't a fully necessary operation, but it'll help avoid all item data getting lost if the server
         // is forcibly shut down.
-        if (isDirty && rand.nextInt(5 * SharedConstants.TICKS_PER_SECOND) == 0) {
+        if (isDirty) {
             //Note: We don't have this affect our super dirty value as this is for if the drives are dirty,
             // not for if the frequency is dirty
             saveAll();
             isDirty = false;
         }
+        return superDirty;
+    }
 
-        if (CommonWorldTickHandler.flushTagAndRecipeCaches) {
-            //Note: We only need to clear tags here as the modids cannot change just because a reload happened
-            tagLookupMap.clear();
-            tagWildcardCache.clear();
-            for (QIOItemTypeData item : itemDataMap.values()) {
-                tagLookupMap.putAll(TagCache.getItemTags(item.itemType.getInternalStack()), item.itemType);
+    @Override
+    public boolean needsPeriodicTicking() {
+        return super.needsPeriodicTicking() || isDirty || !playersViewingItems.isEmpty();
+    }
+
+    private PacketUpdateItemViewer createUpdatePacket(ViewerTypeIds typeIds, List<UpdatedType> updates) {
+        List<TypeDefinition> types = new ArrayList<>();
+        Int2LongMap counts = new Int2LongOpenHashMap(updates.size());
+        for (UpdatedType update : updates) {
+            int id = typeIds.getId(update.uuid());
+            if (id == -1) {
+                if (update.count() == 0) {
+                    //The player never knew about this type, so we don't need to tell them it was removed
+                    continue;
+                }
+                //First time we are telling the player about this type, so we need to send the full type along with its id
+                id = typeIds.assign(update.uuid());
+                types.add(new TypeDefinition(id, update.type().getInternalStack(), update.uuid()));
             }
+            counts.put(id, update.count());
         }
-        return superDirty;
+        return new PacketUpdateItemViewer(totalCountCapacity, totalTypeCapacity, types, counts);
     }
 
     @Override
@@ -578,7 +688,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             removeDrive(key, false);
         }
         driveMap.clear();
-        for (ServerPlayer player : playersViewingItems) {
+        for (ServerPlayer player : playersViewingItems.keySet()) {
             Mekanism.packetHandler().killItemViewer(player);
         }
     }
@@ -605,9 +715,9 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             totalCountCapacity += data.getCountCapacity();
             totalTypeCapacity += data.getTypeCapacity();
             driveMap.put(key, data);
-            for (Object2LongMap.Entry<HashedItem> entry : data.getItemMap().object2LongEntrySet()) {
-                HashedItem storedKey = entry.getKey();
-                itemDataMap.computeIfAbsent(storedKey, this::createTypeDataForAbsent).addFromDrive(data, entry.getLongValue());
+            for (int i = 0, types = data.getTotalTypes(); i < types; i++) {
+                HashedItem storedKey = data.getType(i);
+                itemDataMap.computeIfAbsent(storedKey, this::createTypeDataForAbsent).addFromDrive(data, data.getCount(i));
                 markForUpdate(storedKey);
             }
             setNeedsUpdate();
@@ -620,9 +730,9 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         }
         QIODriveData data = driveMap.get(key);
         if (updateItemMap) {
-            for (Object2LongMap.Entry<HashedItem> entry : data.getItemMap().object2LongEntrySet()) {
-                HashedItem storedKey = entry.getKey();
-                long value = entry.getLongValue();
+            for (int i = 0, types = data.getTotalTypes(); i < types; i++) {
+                HashedItem storedKey = data.getType(i);
+                long value = data.getCount(i);
                 QIOItemTypeData itemData = itemDataMap.get(storedKey);
                 if (itemData != null) {
                     itemData.containingDrives.remove(key);
@@ -650,24 +760,31 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         for (Entry<QIODriveKey, QIODriveData> entry : driveMap.entrySet()) {
             QIODriveKey key = entry.getKey();
             QIODriveData value = entry.getValue();
-            key.updateMetadata(value);
-            key.save(value);
+            if (value.hasUnsavedChanges()) {
+                key.updateMetadata(value);
+                key.save(value);
+            }
         }
     }
 
     private void setNeedsUpdate(@Nullable HashedItem changedItem) {
-        isDirty = true;
+        if (!isDirty) {
+            isDirty = true;
+            schedulePeriodic();
+        }
         if (!playersViewingItems.isEmpty()) {//Skip marking for update if there are no players viewing the items
             needsUpdate = true;
             if (changedItem != null) {
                 updatedItems.add(QIOGlobalItemLookup.INSTANCE.getUUIDForType(changedItem));
             }
+            markActive();
         }
     }
 
     private void markForUpdate(HashedItem changedItem) {
         if (!playersViewingItems.isEmpty()) {//Skip marking for update if there are no players viewing the items
             updatedItems.add(QIOGlobalItemLookup.INSTANCE.getUUIDForType(changedItem));
+            markActive();
         }
     }
 
@@ -675,6 +792,33 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         setNeedsUpdate(null);
     }
 
+    private record UpdatedType(UUID uuid, HashedItem type, long count) {
+    }
+
+    /**
+     * Small ids assigned to item types for a single player viewing the items, so that updates can refer to types by their id instead of having to send the full type
+     * every time.
+     */
+    private static class ViewerTypeIds {
+
+        private final Object2IntMap<UUID> ids = new Object2IntOpenHashMap<>();
+        private int nextId;
+
+        private ViewerTypeIds() {
+            ids.defaultReturnValue(-1);
+        }
+
+        private int getId(UUID uuid) {
+            return ids.getInt(uuid);
+        }
+
+        private int assign(UUID uuid) {
+            int id = nextId++;
+            ids.put(uuid, id);
+            return id;
+        }
+    }
+
     public class QIOItemTypeData {
 
         private final HashedItem itemType;
@@ -722,7 +866,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         }
 
         private long addItemsToDrive(long toAdd, QIODriveData data, Action action) {
-            long rejects = data.add(itemType, toAdd, action);
+            long rejects = data.add(itemType, toAdd, action, notifyDrive(data, action));
             if (action.execute() && rejects < toAdd) {
                 containingDrives.add(data.getKey());
             }
@@ -733,7 +877,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             long removed = 0;
             for (Iterator<QIODriveKey> iter = containingDrives.iterator(); iter.hasNext(); ) {
                 QIODriveData data = driveMap.get(iter.next());
-                removed += data.remove(itemType, amount - removed, action);
+                removed += data.remove(itemType, amount - removed, action, notifyDrive(data, action));
                 // remove this drive from containingDrives if it doesn't have this item anymore
                 if (action.execute() && data.getStored(itemType) == 0) {
                     iter.remove();
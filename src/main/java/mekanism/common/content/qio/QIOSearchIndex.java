@@ -0,0 +1,288 @@
+package mekanism.common.content.qio;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.ints.IntSets;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.UUID;
+import mekanism.common.base.TagCache;
+import mekanism.common.content.qio.SearchQueryParser.ISearchQuery;
+import mekanism.common.content.qio.SearchQueryParser.QueryType;
+import mekanism.common.content.qio.SearchQueryParser.SearchQuery;
+import mekanism.common.content.qio.SearchQueryParser.SearchQueryList;
+import mekanism.common.util.MekanismUtils;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Incrementally maintained index of the item types in a QIO frequency, that allows {@link SearchQueryParser} queries to only check the item types that may match instead
+ * of every item type.
+ * <ul>
+ * <li>Names are indexed by their trigrams. As queries match substrings, a name can only contain a key if it contains all the trigrams of the key, so intersecting the
+ * item types of each trigram gives the candidates that need to be checked.</li>
+ * <li>Mod ids and tags are shared between many item types, so they are indexed by the full string, and matching only requires checking each distinct string.</li>
+ * <li>Tooltips are not indexed as they may change, and are only checked for the candidates that match the rest of the query.</li>
+ * </ul>
+ * The lowercase names, mod ids, and tags of each item type are also cached, so that verifying candidates doesn't have to look them up again.
+ *
+ * @apiNote Only use on client-side.
+ */
+public class QIOSearchIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final Object2IntMap<UUID> ids = new Object2IntOpenHashMap<>();
+    private final Int2ObjectMap<IndexedType> types = new Int2ObjectOpenHashMap<>();
+    private final Long2ObjectMap<IntSet> nameGrams = new Long2ObjectOpenHashMap<>();
+    private final Map<String, IntSet> modIds = new Object2ObjectOpenHashMap<>();
+    private final Map<String, IntSet> tags = new Object2ObjectOpenHashMap<>();
+    private int nextId;
+
+    public QIOSearchIndex() {
+        ids.defaultReturnValue(-1);
+    }
+
+    /**
+     * Adds the given item type to the index if it isn't already indexed.
+     */
+    public void add(UUID uuid, ItemStack stack) {
+        if (ids.containsKey(uuid)) {
+            return;
+        }
+        int id = nextId++;
+        ids.put(uuid, id);
+        String name = stack.getHoverName().getString().toLowerCase(Locale.ROOT);
+        String modId = MekanismUtils.getModId(stack).toLowerCase(Locale.ROOT);
+        List<String> itemTags = TagCache.getItemTags(stack);
+        List<String> lowerTags = new ArrayList<>(itemTags.size());
+        for (String tag : itemTags) {
+            String lowerTag = tag.toLowerCase(Locale.ROOT);
+            lowerTags.add(lowerTag);
+            tags.computeIfAbsent(lowerTag, t -> new IntOpenHashSet()).add(id);
+        }
+        types.put(id, new IndexedType(stack, name, modId, lowerTags));
+        modIds.computeIfAbsent(modId, m -> new IntOpenHashSet()).add(id);
+        for (int i = 0, grams = name.length() - GRAM_LENGTH; i <= grams; i++) {
+            nameGrams.computeIfAbsent(gram(name, i), g -> new IntOpenHashSet()).add(id);
+        }
+    }
+
+    /**
+     * Removes the given item type from the index.
+     */
+    public void remove(UUID uuid) {
+        int id = ids.removeInt(uuid);
+        if (id == -1) {
+            return;
+        }
+        IndexedType type = types.remove(id);
+        removePosting(modIds, type.modId(), id);
+        for (String tag : type.tags()) {
+            removePosting(tags, tag, id);
+        }
+        String name = type.name();
+        for (int i = 0, grams = name.length() - GRAM_LENGTH; i <= grams; i++) {
+            long gram = gram(name, i);
+            IntSet posting = nameGrams.get(gram);
+            if (posting != null && posting.remove(id) && posting.isEmpty()) {
+                nameGrams.remove(gram);
+            }
+        }
+    }
+
+    public void clear() {
+        ids.clear();
+        types.clear();
+        nameGrams.clear();
+        modIds.clear();
+        tags.clear();
+        nextId = 0;
+    }
+
+    /**
+     * @return The id the given item type is indexed as, or {@code -1} if it is not indexed.
+     */
+    public int getId(UUID uuid) {
+        return ids.getInt(uuid);
+    }
+
+    /**
+     * Finds all the indexed item types that match the given query.
+     *
+     * @return The ids of the matching item types.
+     */
+    public IntSet search(@Nullable Level level, ISearchQuery query) {
+        if (query.isInvalid()) {
+            return IntSets.EMPTY_SET;
+        } else if (!(query instanceof SearchQueryList queryList)) {
+            //Unknown query type, fallback to checking every type
+            IntSet matches = new IntOpenHashSet();
+            for (Int2ObjectMap.Entry<IndexedType> entry : types.int2ObjectEntrySet()) {
+                if (query.test(level, entry.getValue().stack())) {
+                    matches.add(entry.getIntKey());
+                }
+            }
+            return matches;
+        } else if (queryList.getQueries().isEmpty()) {
+            //Empty query lists match all stacks
+            return types.keySet();
+        }
+        IntSet matches = new IntOpenHashSet();
+        for (SearchQuery searchQuery : queryList.getQueries()) {
+            Map<QueryType, List<String>> queryMap = searchQuery.getQueryMap();
+            IntSet candidates = null;
+            for (Entry<QueryType, List<String>> entry : queryMap.entrySet()) {
+                IntSet typeCandidates = getCandidates(entry.getKey(), entry.getValue());
+                if (typeCandidates != null) {
+                    candidates = candidates == null ? typeCandidates : intersect(candidates, typeCandidates);
+                    if (candidates.isEmpty()) {
+                        break;
+                    }
+                }
+            }
+            IntIterator iterator = candidates == null ? types.keySet().iterator() : candidates.iterator();
+            while (iterator.hasNext()) {
+                int id = iterator.nextInt();
+                if (!matches.contains(id) && matches(level, queryMap, types.get(id))) {
+                    matches.add(id);
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Gets the item types that may match any of the given keys.
+     *
+     * @return Candidates that may match, or {@code null} if the index can't narrow down the candidates.
+     */
+    @Nullable
+    private IntSet getCandidates(QueryType type, List<String> keys) {
+        if (type == QueryType.TOOLTIP) {
+            return null;
+        }
+        IntSet candidates = new IntOpenHashSet();
+        for (String key : keys) {
+            String lowerKey = key.toLowerCase(Locale.ROOT);
+            switch (type) {
+                case NAME -> {
+                    if (lowerKey.length() < GRAM_LENGTH) {
+                        //Not enough characters to look up by trigrams
+                        return null;
+                    }
+                    candidates.addAll(getNameCandidates(lowerKey));
+                }
+                case MOD_ID -> addContaining(candidates, modIds, lowerKey);
+                case TAG -> addContaining(candidates, tags, lowerKey);
+            }
+        }
+        return candidates;
+    }
+
+    private IntSet getNameCandidates(String lowerKey) {
+        //Find the smallest posting so that we have to check as few candidates as possible against the other trigrams
+        IntSet smallest = null;
+        for (int i = 0, grams = lowerKey.length() - GRAM_LENGTH; i <= grams; i++) {
+            IntSet posting = nameGrams.get(gram(lowerKey, i));
+            if (posting == null) {
+                return IntSets.EMPTY_SET;
+            } else if (smallest == null || posting.size() < smallest.size()) {
+                smallest = posting;
+            }
+        }
+        IntSet candidates = new IntOpenHashSet(smallest);
+        for (int i = 0, grams = lowerKey.length() - GRAM_LENGTH; i <= grams && !candidates.isEmpty(); i++) {
+            IntSet posting = nameGrams.get(gram(lowerKey, i));
+            if (posting != smallest) {
+                candidates.retainAll(posting);
+            }
+        }
+        return candidates;
+    }
+
+    private static void addContaining(IntSet candidates, Map<String, IntSet> postings, String lowerKey) {
+        for (Entry<String, IntSet> entry : postings.entrySet()) {
+            if (entry.getKey().contains(lowerKey)) {
+                candidates.addAll(entry.getValue());
+            }
+        }
+    }
+
+    private static IntSet intersect(IntSet a, IntSet b) {
+        IntSet smaller = a.size() <= b.size() ? a : b;
+        IntSet larger = smaller == a ? b : a;
+        IntSet result = new IntOpenHashSet();
+        for (IntIterator iterator = smaller.iterator(); iterator.hasNext(); ) {
+            int id = iterator.nextInt();
+            if (larger.contains(id)) {
+                result.add(id);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Checks if the given type matches the query, using the cached lowercase strings instead of looking them up again.
+     *
+     * @implNote Mirrors {@link SearchQuery#test(Level, ItemStack)}.
+     */
+    private static boolean matches(@Nullable Level level, Map<QueryType, List<String>> queryMap, IndexedType type) {
+        for (Entry<QueryType, List<String>> entry : queryMap.entrySet()) {
+            boolean hasMatch = false;
+            for (String key : entry.getValue()) {
+                if (type.matches(level, entry.getKey(), key)) {
+                    hasMatch = true;
+                    break;
+                }
+            }
+            if (!hasMatch) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void removePosting(Map<String, IntSet> postings, String key, int id) {
+        IntSet posting = postings.get(key);
+        if (posting != null && posting.remove(id) && posting.isEmpty()) {
+            postings.remove(key);
+        }
+    }
+
+    private static long gram(String text, int start) {
+        return (long) text.charAt(start) << 32 | (long) text.charAt(start + 1) << 16 | text.charAt(start + 2);
+    }
+
+    private record IndexedType(ItemStack stack, String name, String modId, List<String> tags) {
+
+        private boolean matches(@Nullable Level level, QueryType queryType, String key) {
+            return switch (queryType) {
+                case NAME -> name.contains(key.toLowerCase(Locale.ROOT));
+                case MOD_ID -> modId.contains(key.toLowerCase(Locale.ROOT));
+                case TAG -> {
+                    String lowerKey = key.toLowerCase(Locale.ROOT);
+                    for (String tag : tags) {
+                        if (tag.contains(lowerKey)) {
+                            yield true;
+                        }
+                    }
+                    yield false;
+                }
+                case TOOLTIP -> queryType.matches(level, key, stack);
+            };
+        }
+    }
+}
@@ -6,7 +6,6 @@ import it.unimi.dsi.fastutil.bytes.Byte2ObjectMaps;
 import it.unimi.dsi.fastutil.bytes.Byte2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2IntArrayMap;
 import it.unimi.dsi.fastutil.objects.Object2IntMap;
-import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.ObjectIterator;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -151,8 +150,16 @@ public class QIOServerCraftingTransferHandler {
             //Note: Uses debug logging level as there are a couple cases this might not be 100% accurate on the client side
             Mekanism.logger.debug("Received transfer request from: {}, but there is not enough room to shuffle items around for the requested recipe: {}.",
                   player, recipeID);
-        } else {
+        } else if (frequency == null) {
             transferItems(sources);
+        } else {
+            //Batch the changes to the frequency so that the drives are only updated once no matter how many items we move
+            frequency.startBatch();
+            try {
+                transferItems(sources);
+            } finally {
+                frequency.endBatch();
+            }
         }
     }
 
@@ -653,21 +660,21 @@ public class QIOServerCraftingTransferHandler {
     private static class SimulatedQIODrive {
 
         /**
-         * Pointer to the actual map from the real QIODrive. Do not modify this map, it is mainly to reduce the need for doing potentially massive map copies.
+         * Pointer to the real QIODrive. Do not modify this drive, it is mainly to reduce the need for doing potentially massive copies of its contents.
          */
-        private final Object2LongMap<HashedItem> sourceItemMap;
+        private final QIODriveData sourceDrive;
         private Set<HashedItem> removedTypes;
         private int availableItemTypes;
         private long availableItemSpace;
 
         public SimulatedQIODrive(QIODriveData sourceDrive) {
-            this.sourceItemMap = sourceDrive.getItemMap();
+            this.sourceDrive = sourceDrive;
             this.availableItemSpace = sourceDrive.getCountCapacity() - sourceDrive.getTotalCount();
             this.availableItemTypes = sourceDrive.getTypeCapacity() - sourceDrive.getTotalTypes();
         }
 
         public int remove(HashedItem item, int count) {
-            long stored = sourceItemMap.getOrDefault(item, 0);
+            long stored = sourceDrive.getStored(item);
             if (stored == 0) {
                 return count;
             }
@@ -693,7 +700,7 @@ public class QIOServerCraftingTransferHandler {
             }
             //Note: We don't need to accurately keep track of the item types we add as we only have it happening once,
             // and if we fill it up on the first go around then we would be skipping it from there being no space available
-            boolean contains = sourceItemMap.containsKey(item) && (removedTypes == null || !removedTypes.contains(item));
+            boolean contains = sourceDrive.contains(item) && (removedTypes == null || !removedTypes.contains(item));
             if (mustContain != contains) {
                 //If we don't have the item and are only adding if we do, or vice versa, just return we didn't add anything
                 return count;
@@ -0,0 +1,153 @@
+package mekanism.common.content.qio;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import mekanism.api.Action;
+import mekanism.api.inventory.qio.IQIOTransferBatch;
+import mekanism.common.lib.inventory.HashedItem;
+import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Implementation of {@link IQIOTransferBatch} that combines transfers of the same type, so that each type only has to be looked up once, and then commits them inside a
+ * {@link QIOFrequency#startBatch() batch} so that each drive is only notified once.
+ */
+public class QIOTransferBatch implements IQIOTransferBatch {
+
+    private final QIOFrequency frequency;
+    private final List<CombinedTransfer> transfers = new ArrayList<>();
+    private final Map<HashedItem, CombinedTransfer> inserts = new HashMap<>();
+    private final Map<HashedItem, CombinedTransfer> extracts = new HashMap<>();
+    /**
+     * Amounts requested by each queued transfer, in the order they were queued.
+     */
+    private final LongList requested = new LongArrayList();
+
+    QIOTransferBatch(QIOFrequency frequency) {
+        this.frequency = frequency;
+    }
+
+    @Override
+    public int queueInsert(ItemStack type, long amount) {
+        return queue(inserts, true, type.isEmpty() ? null : HashedItem.create(type), amount);
+    }
+
+    @Override
+    public int queueExtract(ItemStack type, long amount) {
+        return queue(extracts, false, type.isEmpty() ? null : HashedItem.create(type), amount);
+    }
+
+    /**
+     * Queues inserting a given item type, without having to copy the stack.
+     *
+     * @param type Type to insert, must not be a raw type.
+     *
+     * @see #queueInsert(ItemStack, long)
+     */
+    public int queueInsert(HashedItem type, long amount) {
+        return queue(inserts, true, type, amount);
+    }
+
+    /**
+     * Queues extracting a given item type, without having to copy the stack.
+     *
+     * @see #queueExtract(ItemStack, long)
+     */
+    public int queueExtract(HashedItem type, long amount) {
+        return queue(extracts, false, type, amount);
+    }
+
+    private int queue(Map<HashedItem, CombinedTransfer> combined, boolean insert, @Nullable HashedItem type, long amount) {
+        int index = requested.size();
+        if (type == null || amount <= 0) {
+            //Keep track of it so that the indices line up, but there is nothing to transfer
+            requested.add(0);
+            return index;
+        }
+        requested.add(amount);
+        CombinedTransfer transfer = combined.get(type);
+        if (transfer == null) {
+            transfer = new CombinedTransfer(type, insert);
+            combined.put(type, transfer);
+            transfers.add(transfer);
+        }
+        transfer.add(index, amount);
+        return index;
+    }
+
+    @Override
+    public int size() {
+        return requested.size();
+    }
+
+    @Override
+    public long[] simulate() {
+        return transfer(Action.SIMULATE);
+    }
+
+    @Override
+    public long[] commit() {
+        long[] results;
+        frequency.startBatch();
+        try {
+            results = transfer(Action.EXECUTE);
+        } finally {
+            frequency.endBatch();
+        }
+        clear();
+        return results;
+    }
+
+    private long[] transfer(Action action) {
+        long[] results = new long[requested.size()];
+        for (CombinedTransfer transfer : transfers) {
+            long transferred;
+            if (transfer.insert) {
+                transferred = frequency.massInsert(transfer.type, transfer.total, action);
+            } else {
+                transferred = frequency.massExtract(transfer.type, transfer.total, action);
+            }
+            //Distribute what we were able to transfer in the order the transfers were queued
+            for (int i = 0, size = transfer.indices.size(); i < size && transferred > 0; i++) {
+                int index = transfer.indices.getInt(i);
+                long amount = Math.min(transferred, requested.getLong(index));
+                results[index] = amount;
+                transferred -= amount;
+            }
+        }
+        return results;
+    }
+
+    @Override
+    public void clear() {
+        transfers.clear();
+        inserts.clear();
+        extracts.clear();
+        requested.clear();
+    }
+
+    private static class CombinedTransfer {
+
+        private final HashedItem type;
+        private final boolean insert;
+        private final IntList indices = new IntArrayList();
+        private long total;
+
+        private CombinedTransfer(HashedItem type, boolean insert) {
+            this.type = type;
+            this.insert = insert;
+        }
+
+        private void add(int index, long amount) {
+            indices.add(index);
+            //Saturate rather than overflowing, as the frequency can never transfer more than Long.MAX_VALUE at once anyway
+            total = total > Long.MAX_VALUE - amount ? Long.MAX_VALUE : total + amount;
+        }
+    }
+}
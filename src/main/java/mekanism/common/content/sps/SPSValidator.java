@@ -48,6 +48,11 @@ public class SPSValidator extends CuboidStructureValidator<SPSMultiblockData> {
         return super.getStructureRequirement(pos);
     }
 
+    @Override
+    public boolean supportsIncrementalRebuild() {
+        return true;
+    }
+
     @Override
     protected CasingType getCasingType(BlockState state) {
         Block block = state.getBlock();
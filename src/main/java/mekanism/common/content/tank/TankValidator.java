@@ -9,6 +9,11 @@ import net.minecraft.world.level.block.state.BlockState;
 
 public class TankValidator extends CuboidStructureValidator<TankMultiblockData> {
 
+    @Override
+    public boolean supportsIncrementalRebuild() {
+        return true;
+    }
+
     @Override
     protected CasingType getCasingType(BlockState state) {
         Block block = state.getBlock();
@@ -72,7 +72,7 @@ public class TeleporterFrequency extends Frequency implements IColorableFrequenc
     public void setColor(EnumColor color) {
         if (this.color != color) {
             this.color = color;
-            this.dirty = true;
+            markDirty();
         }
     }
 
@@ -0,0 +1,94 @@
+package mekanism.common.content.transporter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Compact encoding of a transporter path so that it can be saved with the stack. As every position in a path is adjacent to the one before it, only the first position
+ * is stored in full, and every following position is stored as the direction from the position before it. The first long of the encoded path is the first position, and
+ * the remaining longs each pack sixteen directions into four bit nibbles, starting from the least significant nibble. Each nibble is the direction's 3D data value plus
+ * one, so that a zero nibble marks the end of the path.
+ */
+public class PackedPath {
+
+    private static final int BITS_PER_STEP = 4;
+    private static final int STEPS_PER_LONG = Long.SIZE / BITS_PER_STEP;
+    private static final long STEP_MASK = (1L << BITS_PER_STEP) - 1;
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private PackedPath() {
+    }
+
+    /**
+     * @param path Path to encode, every position is expected to be adjacent to the position before it.
+     *
+     * @return The encoded path, or an empty array if the path is not made up of adjacent positions.
+     */
+    public static long[] encode(List<BlockPos> path) {
+        if (path.isEmpty()) {
+            return new long[0];
+        }
+        int steps = path.size() - 1;
+        //Note: We add an extra step when computing the size so that there is always room for the terminating nibble
+        long[] encoded = new long[1 + (steps + STEPS_PER_LONG) / STEPS_PER_LONG];
+        BlockPos previous = path.getFirst();
+        encoded[0] = previous.asLong();
+        for (int i = 0; i < steps; i++) {
+            BlockPos pos = path.get(i + 1);
+            Direction direction = getDirection(previous, pos);
+            if (direction == null) {
+                return new long[0];
+            }
+            encoded[1 + i / STEPS_PER_LONG] |= (direction.get3DDataValue() + 1L) << (BITS_PER_STEP * (i % STEPS_PER_LONG));
+            previous = pos;
+        }
+        return encoded;
+    }
+
+    @Nullable
+    private static Direction getDirection(BlockPos from, BlockPos to) {
+        int xDiff = to.getX() - from.getX();
+        int yDiff = to.getY() - from.getY();
+        int zDiff = to.getZ() - from.getZ();
+        for (Direction direction : DIRECTIONS) {
+            if (direction.getStepX() == xDiff && direction.getStepY() == yDiff && direction.getStepZ() == zDiff) {
+                return direction;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param encoded Path encoded by {@link #encode(List)}.
+     *
+     * @return The decoded path, or an empty list if the encoded path is malformed.
+     */
+    public static List<BlockPos> decode(long[] encoded) {
+        if (encoded.length < 2) {
+            return Collections.emptyList();
+        }
+        BlockPos previous = BlockPos.of(encoded[0]);
+        List<BlockPos> path = new ArrayList<>();
+        path.add(previous);
+        for (int i = 1; i < encoded.length; i++) {
+            long packed = encoded[i];
+            for (int j = 0; j < STEPS_PER_LONG; j++) {
+                int step = (int) ((packed >>> (BITS_PER_STEP * j)) & STEP_MASK);
+                if (step == 0) {
+                    //End of the path, make sure there is nothing after it
+                    return packed >>> (BITS_PER_STEP * j) == 0 && i == encoded.length - 1 ? path : Collections.emptyList();
+                } else if (step > DIRECTIONS.length) {
+                    return Collections.emptyList();
+                }
+                previous = previous.relative(Direction.from3DDataValue(step - 1));
+                path.add(previous);
+            }
+        }
+        //Missing the end of the path
+        return Collections.emptyList();
+    }
+}
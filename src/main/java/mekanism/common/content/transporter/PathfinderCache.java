@@ -1,35 +1,131 @@
 package mekanism.common.content.transporter;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
-import java.util.HashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.network.InventoryNetwork;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
 import mekanism.common.content.transporter.TransporterPathfinder.Pathfinder;
+import mekanism.common.util.EnumUtils;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import org.jetbrains.annotations.Nullable;
 
+/**
+ * Size bounded LRU cache of the paths calculated by the {@link Pathfinder}. The budget is measured in the total number of cached path nodes, and cached paths are
+ * indexed by the positions they pass through so that a change to part of a network only invalidates the paths that could actually be affected by it.
+ */
 public class PathfinderCache {
 
+    /**
+     * Rough estimate of the heap cost of a single node of a cached path, including the entry for it in the position index.
+     */
+    private static final int ESTIMATED_NODE_BYTES = 64;
+    /**
+     * Rough estimate of the heap cost of a single cached path ignoring the nodes in the path.
+     */
+    private static final int ESTIMATED_ENTRY_BYTES = 128;
+
     private PathfinderCache() {
     }
 
-    private static final Map<UUID, Map<PathData, CachedPath>> cachedPaths = new Object2ObjectOpenHashMap<>();
+    /**
+     * Insertion order is kept as access order so that the first entry is always the least recently used one.
+     */
+    private static final Object2ObjectLinkedOpenHashMap<PathData, CachedPath> cachedPaths = new Object2ObjectLinkedOpenHashMap<>();
+    private static final Map<UUID, Long2ObjectMap<Set<PathData>>> pathsByPosition = new Object2ObjectOpenHashMap<>();
+    private static long cachedNodes;
+    private static long hits;
+    private static long misses;
+    private static long evictions;
+    private static long invalidations;
 
+    /**
+     * Removes all the cached paths for the given networks. Used when the networks are removed or otherwise completely invalid.
+     */
     public static void onChanged(InventoryNetwork... networks) {
         for (InventoryNetwork network : networks) {
-            cachedPaths.remove(network.getUUID());
+            Long2ObjectMap<Set<PathData>> networkPaths = pathsByPosition.remove(network.getUUID());
+            if (networkPaths != null) {
+                Set<PathData> toRemove = new ObjectOpenHashSet<>();
+                for (Set<PathData> paths : networkPaths.values()) {
+                    toRemove.addAll(paths);
+                }
+                for (PathData data : toRemove) {
+                    CachedPath removed = cachedPaths.remove(data);
+                    if (removed != null) {
+                        cachedNodes -= removed.path().size();
+                        invalidations++;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes all cached paths in the given network that pass through or next to one of the changed positions. Paths next to the changed positions are included
+     * as the change may have opened up a shorter path.
+     */
+    public static void onChanged(InventoryNetwork network, Collection<BlockPos> changedPositions) {
+        if (changedPositions.isEmpty()) {
+            return;
+        }
+        Long2ObjectMap<Set<PathData>> networkPaths = pathsByPosition.get(network.getUUID());
+        if (networkPaths == null) {
+            //Nothing cached for this network
+            return;
+        }
+        Set<PathData> toRemove = new ObjectOpenHashSet<>();
+        BlockPos.MutableBlockPos mutable = new BlockPos.MutableBlockPos();
+        for (BlockPos pos : changedPositions) {
+            collectPaths(networkPaths, pos.asLong(), toRemove);
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                collectPaths(networkPaths, mutable.setWithOffset(pos, side).asLong(), toRemove);
+            }
+        }
+        for (PathData data : toRemove) {
+            if (removePath(data)) {
+                invalidations++;
+            }
+        }
+    }
+
+    private static void collectPaths(Long2ObjectMap<Set<PathData>> networkPaths, long pos, Set<PathData> toRemove) {
+        Set<PathData> paths = networkPaths.get(pos);
+        if (paths != null) {
+            toRemove.addAll(paths);
         }
     }
 
     public static CachedPath addCachedPath(LogisticalTransporterBase start, BlockPos destination, Pathfinder pathfinder) {
         CachedPath cachedPath = new CachedPath(pathfinder.getPath(), pathfinder.getFinalScore());
-        PathData data = new PathData(start.getBlockPos(), destination, pathfinder.getSide());
-        cachedPaths.computeIfAbsent(start.getTransmitterNetwork().getUUID(), uuid -> new HashMap<>()).put(data, cachedPath);
+        int maxNodes = MekanismConfig.general.transporterPathCacheSize.get();
+        if (cachedPath.path().size() > maxNodes) {
+            //Path is too large to ever fit in the cache, don't bother caching it
+            return cachedPath;
+        }
+        PathData data = new PathData(start.getTransmitterNetwork().getUUID(), start.getBlockPos(), destination, pathfinder.getSide());
+        //Remove any existing path so that it gets unindexed and the new path is marked as the most recently used
+        removePath(data);
+        cachedPaths.putAndMoveToLast(data, cachedPath);
+        cachedNodes += cachedPath.path().size();
+        Long2ObjectMap<Set<PathData>> networkPaths = pathsByPosition.computeIfAbsent(data.network(), uuid -> new Long2ObjectOpenHashMap<>());
+        for (BlockPos pos : cachedPath.path()) {
+            networkPaths.computeIfAbsent(pos.asLong(), p -> new ObjectOpenHashSet<>()).add(data);
+        }
+        while (cachedNodes > maxNodes && !cachedPaths.isEmpty()) {
+            //Evict the least recently used paths until we are back under budget
+            removePath(cachedPaths.firstKey());
+            evictions++;
+        }
         return cachedPath;
     }
 
@@ -37,11 +133,10 @@ public class PathfinderCache {
     public static CachedPath getCache(LogisticalTransporterBase start, BlockPos end, Set<Direction> sides) {
         CachedPath ret = null;
         UUID uuid = start.getTransmitterNetwork().getUUID();
-        Map<PathData, CachedPath> pathMap = cachedPaths.get(uuid);
-        if (pathMap != null) {
+        if (pathsByPosition.containsKey(uuid)) {
             BlockPos startPos = start.getBlockPos();
             for (Direction side : sides) {
-                CachedPath test = pathMap.get(new PathData(startPos, end, side));
+                CachedPath test = cachedPaths.getAndMoveToLast(new PathData(uuid, startPos, end, side));
                 if (test != null) {
                     if (ret == null || test.cost() < ret.cost()) {
                         ret = test;
@@ -49,16 +144,68 @@ public class PathfinderCache {
                 }
             }
         }
+        if (ret == null) {
+            misses++;
+        } else {
+            hits++;
+        }
         return ret;
     }
 
+    /**
+     * @return {@code true} if there was a path cached for the given data.
+     */
+    private static boolean removePath(PathData data) {
+        CachedPath removed = cachedPaths.remove(data);
+        if (removed == null) {
+            return false;
+        }
+        cachedNodes -= removed.path().size();
+        Long2ObjectMap<Set<PathData>> networkPaths = pathsByPosition.get(data.network());
+        if (networkPaths != null) {
+            for (BlockPos pos : removed.path()) {
+                long key = pos.asLong();
+                Set<PathData> paths = networkPaths.get(key);
+                if (paths != null && paths.remove(data) && paths.isEmpty()) {
+                    networkPaths.remove(key);
+                }
+            }
+            if (networkPaths.isEmpty()) {
+                pathsByPosition.remove(data.network());
+            }
+        }
+        return true;
+    }
+
+    public static CacheStats getStats() {
+        return new CacheStats(cachedPaths.size(), cachedNodes, cachedNodes * ESTIMATED_NODE_BYTES + (long) cachedPaths.size() * ESTIMATED_ENTRY_BYTES, hits, misses,
+              evictions, invalidations);
+    }
+
     public static void reset() {
         cachedPaths.clear();
+        pathsByPosition.clear();
+        cachedNodes = 0;
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+        invalidations = 0;
     }
 
     public record CachedPath(List<BlockPos> path, double cost) {
     }
 
-    private record PathData(BlockPos startTransporter, BlockPos end, Direction endSide) {
+    /**
+     * @param estimatedBytes Rough estimate of the heap used by the cached paths.
+     */
+    public record CacheStats(int paths, long nodes, long estimatedBytes, long hits, long misses, long evictions, long invalidations) {
+
+        public double hitRate() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0 : hits / (double) lookups;
+        }
+    }
+
+    private record PathData(UUID network, BlockPos startTransporter, BlockPos end, Direction endSide) {
     }
-}
\ No newline at end of file
+}
@@ -2,6 +2,7 @@ package mekanism.common.content.transporter;
 
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
@@ -15,6 +16,7 @@ import net.minecraft.core.GlobalPos;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
 import net.neoforged.neoforge.items.IItemHandler;
+import org.jetbrains.annotations.Nullable;
 
 public class TransporterManager {
 
@@ -22,21 +24,52 @@ public class TransporterManager {
     }
 
     private static final Map<GlobalPos, Set<TransporterStack>> flowingStacks = new Object2ObjectOpenHashMap<>();
+    /**
+     * Snapshots of what each side of a destination will look like once all the stacks that are currently flowing to it have been inserted. These are only valid for the
+     * current tick, and are kept up to date as stacks start and stop flowing to the destination, so that when lots of stacks are looking for a destination in the same
+     * tick, each destination only has to be read and simulated once.
+     */
+    private static final Map<GlobalPos, Map<Direction, InventorySnapshot>> snapshots = new Object2ObjectOpenHashMap<>();
 
     public static void reset() {
         flowingStacks.clear();
+        snapshots.clear();
+    }
+
+    /**
+     * Clears the cached snapshots of the destinations, as the contents of the destinations may change between ticks.
+     */
+    public static void tick() {
+        snapshots.clear();
     }
 
     public static void add(Level world, TransporterStack stack) {
-        flowingStacks.computeIfAbsent(GlobalPos.of(world.dimension(), stack.getDest()), k -> new HashSet<>()).add(stack);
+        GlobalPos pos = GlobalPos.of(world.dimension(), stack.getDest());
+        if (flowingStacks.computeIfAbsent(pos, k -> new HashSet<>()).add(stack)) {
+            Map<Direction, InventorySnapshot> sideSnapshots = snapshots.get(pos);
+            if (sideSnapshots != null) {
+                //Simulate the new stack being inserted into any snapshots we already have of the destination, rather than recalculating them from scratch
+                for (Map.Entry<Direction, InventorySnapshot> entry : sideSnapshots.entrySet()) {
+                    InventorySnapshot snapshot = entry.getValue();
+                    if (snapshot.inventoryInfo != null && !predictFlowing(entry.getKey(), snapshot.handler, snapshot.inventoryInfo, stack)) {
+                        snapshot.inventoryInfo = null;
+                    }
+                }
+            }
+        }
     }
 
     public static void remove(Level world, TransporterStack stack) {
         if (stack.hasPath() && stack.getPathType().hasTarget()) {
             GlobalPos pos = GlobalPos.of(world.dimension(), stack.getDest());
             Set<TransporterStack> transporterStacks = flowingStacks.get(pos);
-            if (transporterStacks != null && transporterStacks.remove(stack) && transporterStacks.isEmpty()) {
-                flowingStacks.remove(pos);
+            if (transporterStacks != null && transporterStacks.remove(stack)) {
+                if (transporterStacks.isEmpty()) {
+                    flowingStacks.remove(pos);
+                }
+                //We can't undo simulating an insert, so just invalidate the snapshots of the destination. This is also when the stack
+                // actually reaches the destination, so the contents of the destination are likely to have changed anyway
+                snapshots.remove(pos);
             }
         }
     }
@@ -188,13 +221,14 @@ public class TransporterManager {
      */
     public static TransitResponse getPredictedInsert(GlobalPos position, Direction side, IItemHandler handler, TransitRequest request,
           Map<GlobalPos, Set<TransporterStack>> additionalFlowingStacks) {
-        InventoryInfo inventoryInfo = new InventoryInfo(handler);
         //Before we see if this item can fit in the destination, we must first check the stacks that are
         // en-route. Note that we also have to simulate the current inventory after each stack; we'll keep
         // track of the initial size of the inventory and then simulate each in-flight addition. If any
         // in-flight stack can't be inserted, then we can fail fast.
-        //Note: that stackSizes for inventoryInfo is updated each time
-        if (!predictFlowing(position, side, handler, inventoryInfo, flowingStacks) || !predictFlowing(position, side, handler, inventoryInfo, additionalFlowingStacks)) {
+        //Note: The stacks that are already flowing are simulated once per tick in the snapshot, and we
+        // only simulate the additional stacks on top of a copy of it
+        InventoryInfo inventoryInfo = getSnapshot(position, side, handler);
+        if (inventoryInfo == null || !predictFlowing(position, side, handler, inventoryInfo, additionalFlowingStacks)) {
             return request.getEmptyResponse();
         }
 
@@ -203,35 +237,65 @@ public class TransporterManager {
         return getPredictedInsert(inventoryInfo, handler, request);
     }
 
+    /**
+     * Gets a copy of the snapshot of the given side of the destination, calculating the snapshot if we don't have an up to date one.
+     *
+     * @return A copy of the snapshot that can be modified, or {@code null} if the stacks that are already flowing to the destination will fill it up.
+     */
+    @Nullable
+    private static InventoryInfo getSnapshot(GlobalPos position, Direction side, IItemHandler handler) {
+        Map<Direction, InventorySnapshot> sideSnapshots = snapshots.computeIfAbsent(position, pos -> new EnumMap<>(Direction.class));
+        InventorySnapshot snapshot = sideSnapshots.get(side);
+        if (snapshot == null || snapshot.handler != handler) {
+            //Note: that stackSizes for inventoryInfo is updated each time
+            InventoryInfo inventoryInfo = new InventoryInfo(handler);
+            snapshot = new InventorySnapshot(handler, predictFlowing(position, side, handler, inventoryInfo, flowingStacks) ? inventoryInfo : null);
+            sideSnapshots.put(side, snapshot);
+        }
+        return snapshot.inventoryInfo == null ? null : new InventoryInfo(snapshot.inventoryInfo);
+    }
+
     private static boolean predictFlowing(GlobalPos position, Direction side, IItemHandler handler, InventoryInfo inventoryInfo,
           Map<GlobalPos, Set<TransporterStack>> flowingStacks) {
         Set<TransporterStack> transporterStacks = flowingStacks.get(position);
         if (transporterStacks != null) {
             for (TransporterStack stack : transporterStacks) {
-                if (stack != null && stack.getPathType().hasTarget()) {
-                    //We start by simulating inserting the stack into the handler, regardless of if we
-                    // are interacting with the same side of the target as the stack's path is taking.
-                    // This is so that in cases where the item handler is shared (chests) or some of
-                    // the slots of the item handler may be shared (our machines with multiple sides
-                    // set to the same side config are "different" because of the side proxies) then
-                    // we want to make sure we try to insert the in-flight stacks anyway so that if
-                    // the slot is the same we fill it.
-                    int numLeftOver = simulateInsert(handler, inventoryInfo, stack.itemStack, stack.itemStack.getCount(), true);
-                    if (numLeftOver > 0) {
-                        if (numLeftOver == stack.itemStack.getCount()) {
-                            //If none of the stack could be inserted, check if we are attempting to insert it
-                            // into the same side as the side we are predicting that we can insert into.
-                            if (side != stack.getSideOfDest()) {
-                                //If we are not, then assume that the destination does not contain the slot that the in-flight
-                                // stack is en-route to at all, so don't exit early just because of failing to insert it into
-                                // the destination, and instead continue checking and then simulate/check our TransitRequest
-                                continue;
-                            }
-                        }
-                        // Failed to successfully insert this in-flight item; there's no room for anyone else
-                        return false;
+                if (!predictFlowing(side, handler, inventoryInfo, stack)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Simulates inserting an in-flight stack into the destination.
+     *
+     * @return {@code false} if the stack failed to be inserted, and there is no room for anything else.
+     */
+    private static boolean predictFlowing(Direction side, IItemHandler handler, InventoryInfo inventoryInfo, @Nullable TransporterStack stack) {
+        if (stack != null && stack.getPathType().hasTarget()) {
+            //We start by simulating inserting the stack into the handler, regardless of if we
+            // are interacting with the same side of the target as the stack's path is taking.
+            // This is so that in cases where the item handler is shared (chests) or some of
+            // the slots of the item handler may be shared (our machines with multiple sides
+            // set to the same side config are "different" because of the side proxies) then
+            // we want to make sure we try to insert the in-flight stacks anyway so that if
+            // the slot is the same we fill it.
+            int numLeftOver = simulateInsert(handler, inventoryInfo, stack.itemStack, stack.itemStack.getCount(), true);
+            if (numLeftOver > 0) {
+                if (numLeftOver == stack.itemStack.getCount()) {
+                    //If none of the stack could be inserted, check if we are attempting to insert it
+                    // into the same side as the side we are predicting that we can insert into.
+                    if (side != stack.getSideOfDest()) {
+                        //If we are not, then assume that the destination does not contain the slot that the in-flight
+                        // stack is en-route to at all, so don't exit early just because of failing to insert it into
+                        // the destination, and instead continue checking and then simulate/check our TransitRequest
+                        return true;
                     }
                 }
+                // Failed to successfully insert this in-flight item; there's no room for anyone else
+                return false;
             }
         }
         return true;
@@ -306,6 +370,18 @@ public class TransporterManager {
             }
         }
 
+        /**
+         * Copies the simulated state of the given inventory info, so that simulating more inserts doesn't affect the original.
+         */
+        public InventoryInfo(InventoryInfo other) {
+            slots = other.slots;
+            inventory = other.inventory.clone();
+            stackSizes = other.stackSizes.clone();
+            actualStackSizes = other.actualStackSizes;
+            //Slot limits don't depend on the simulated state, so we can share them, which also lets the copies lazily fill them in for the original
+            slotLimits = other.slotLimits;
+        }
+
         public int getSlotLimit(IItemHandler handler, int slot) {
             int limit = slotLimits[slot];
             if (limit == -1) {
@@ -314,4 +390,19 @@ public class TransporterManager {
             return limit;
         }
     }
+
+    private static class InventorySnapshot {
+
+        private final IItemHandler handler;
+        /**
+         * Contents of the destination after all the flowing stacks have been inserted, or {@code null} if the flowing stacks fill up the destination.
+         */
+        @Nullable
+        private InventoryInfo inventoryInfo;
+
+        private InventorySnapshot(IItemHandler handler, @Nullable InventoryInfo inventoryInfo) {
+            this.handler = handler;
+            this.inventoryInfo = inventoryInfo;
+        }
+    }
 }
\ No newline at end of file
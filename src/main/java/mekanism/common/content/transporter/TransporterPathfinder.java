@@ -1,11 +1,13 @@
 package mekanism.common.content.transporter;
 
 import com.google.common.collect.ImmutableList;
+import it.unimi.dsi.fastutil.longs.Long2DoubleOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.Object2DoubleOpenHashMap;
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumSet;
@@ -13,12 +15,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import mekanism.api.text.EnumColor;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.network.InventoryNetwork;
 import mekanism.common.content.network.InventoryNetwork.AcceptorData;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
 import mekanism.common.content.transporter.PathfinderCache.CachedPath;
 import mekanism.common.content.transporter.TransporterStack.Path;
 import mekanism.common.lib.SidedBlockPos;
+import mekanism.common.lib.collection.LongDoubleMinHeap;
 import mekanism.common.lib.inventory.IAdvancedTransportEjector;
 import mekanism.common.lib.inventory.TransitRequest;
 import mekanism.common.lib.inventory.TransitRequest.TransitResponse;
@@ -102,6 +106,18 @@ public final class TransporterPathfinder {
     @Nullable
     public static Destination getNewBasePath(LogisticalTransporterBase start, TransporterStack stack, TransitRequest request, int min,
           Map<GlobalPos, Set<TransporterStack>> additionalFlowingStacks) {
+        if (MekanismConfig.general.transporterNearestDestinationSearch.get()) {
+            InventoryNetwork network = start.getTransmitterNetwork();
+            if (network == null) {
+                return null;
+            }
+            DestinationSearch search = new DestinationSearch(network, start, stack, request, min, additionalFlowingStacks);
+            try {
+                return search.next();
+            } finally {
+                search.release();
+            }
+        }
         List<Destination> paths = getPaths(start, stack, request, min, additionalFlowingStacks);
         if (paths.isEmpty()) {
             return null;
@@ -112,6 +128,9 @@ public final class TransporterPathfinder {
     @Nullable
     public static Destination getNewRRPath(LogisticalTransporterBase start, TransporterStack stack, TransitRequest request, IAdvancedTransportEjector outputter,
           int min) {
+        if (MekanismConfig.general.transporterNearestDestinationSearch.get()) {
+            return getNearestRRPath(start, stack, request, outputter, min);
+        }
         List<Destination> destinations = getPaths(start, stack, request, min, Collections.emptyMap());
         int destinationCount = destinations.size();
         if (destinationCount == 0) {
@@ -160,6 +179,53 @@ public final class TransporterPathfinder {
         return destination;
     }
 
+    /**
+     * Round-robin variant of the nearest destination search. The destinations are visited in order of distance like {@link #getNewRRPath}, but the search stops as soon as
+     * it has found the stored round-robin target and the destination after it, instead of having to find every destination first.
+     */
+    @Nullable
+    private static Destination getNearestRRPath(LogisticalTransporterBase start, TransporterStack stack, TransitRequest request, IAdvancedTransportEjector outputter,
+          int min) {
+        InventoryNetwork network = start.getTransmitterNetwork();
+        if (network == null) {
+            return null;
+        }
+        DestinationSearch search = new DestinationSearch(network, start, stack, request, min, Collections.emptyMap());
+        try {
+            Destination first = search.next();
+            if (first == null) {
+                return null;
+            }
+            Destination second = search.next();
+            SidedBlockPos rrTarget = outputter.getRoundRobinTarget();
+            if (rrTarget != null && second != null) {
+                //If we have more than one destination and have a "next" round-robin target stored
+                // go through the destinations in order until we find the one that matches
+                Destination destination = first;
+                Destination next = second;
+                while (destination != null) {
+                    if (rrTarget.equals(SidedBlockPos.get(destination))) {
+                        //When we find one that matches mark the next target as the destination after it, or the first one if we are the last destination
+                        // Note: We do this rather than just setting it to null so that if more targets get added we still continue in the place we are expecting
+                        outputter.setRoundRobinTarget(next == null ? first : next);
+                        //We return our matching destination instead of the next one and using rrTarget to
+                        // keep track of what destination we did last as then if we filled it up we would
+                        // not be able to find a match the next iteration and thus be forced to reset
+                        return destination;
+                    }
+                    destination = next;
+                    next = next == null ? null : search.next();
+                }
+                //If we could not find our target anywhere, just fallback and reset to the start
+                // this should only happen if the destination gets broken/removed before we send to it
+            }
+            outputter.setRoundRobinTarget(second == null ? first : second);
+            return first;
+        } finally {
+            search.release();
+        }
+    }
+
     public record IdlePathData(List<BlockPos> path, Path type) {
     }
 
@@ -358,11 +424,6 @@ public final class TransporterPathfinder {
 
     public static class Pathfinder {
 
-        private final Set<BlockPos> openSet = new ObjectOpenHashSet<>();
-        private final Set<BlockPos> closedSet = new ObjectOpenHashSet<>();
-        private final Map<BlockPos, BlockPos> navMap = new Object2ObjectOpenHashMap<>();
-        private final Object2DoubleOpenHashMap<BlockPos> gScore = new Object2DoubleOpenHashMap<>();
-        private final Object2DoubleOpenHashMap<BlockPos> fScore = new Object2DoubleOpenHashMap<>();
         private final InventoryNetwork network;
         private final BlockPos start;
         private final BlockPos finalNode;
@@ -385,11 +446,21 @@ public final class TransporterPathfinder {
         }
 
         public boolean find(Long2ObjectMap<ChunkAccess> chunkMap) {
-            openSet.add(start);
-            gScore.put(start, 0D);
+            PathfinderScratch scratch = PathfinderScratch.acquire();
+            try {
+                return find(scratch, chunkMap);
+            } finally {
+                scratch.release();
+            }
+        }
+
+        private boolean find(PathfinderScratch scratch, Long2ObjectMap<ChunkAccess> chunkMap) {
+            long startKey = start.asLong();
+            scratch.gScore.put(startKey, 0D);
             //Note: This is gScore + estimate, but given our gScore starts at zero we just skip getting it back out
             double totalDistance = WorldUtils.distanceBetween(start, finalNode);
-            fScore.put(start, totalDistance);
+            scratch.fScore.put(startKey, totalDistance);
+            scratch.openList.add(startKey, totalDistance);
             boolean hasValidDirection = false;
             LogisticalTransporterBase startTransmitter = network.getTransmitter(start);
             BlockPos.MutableBlockPos neighbor = new BlockPos.MutableBlockPos();
@@ -400,7 +471,7 @@ public final class TransporterPathfinder {
                     //If we can insert into the transporter, mark that we have a valid path we can take
                     hasValidDirection = true;
                     break;
-                } else if (isValidDestination(start, startTransmitter, direction, neighbor, chunkMap)) {
+                } else if (isValidDestination(scratch, start, startTransmitter, direction, neighbor, chunkMap)) {
                     //Otherwise, if we are neighboring our destination, and we can emit to the location, or it is going back
                     // to its home location and can connect to it just exit early and return that this is the best path
                     return true;
@@ -412,47 +483,38 @@ public final class TransporterPathfinder {
             }
             //If the blocks are very close together, allow for path finding up to four blocks away
             double maxSearchDistance = Math.max(2 * totalDistance, 4);
-            while (!openSet.isEmpty()) {
-                BlockPos currentNode = null;
-                double lowestFScore = 0;
-                for (BlockPos node : openSet) {
-                    if (currentNode == null || fScore.getDouble(node) < lowestFScore) {
-                        currentNode = node;
-                        lowestFScore = fScore.getDouble(node);
-                    }
-                }
-                if (currentNode == null) {
-                    //If we have no current node, then exit
-                    break;
+            BlockPos.MutableBlockPos currentNode = new BlockPos.MutableBlockPos();
+            while (!scratch.openList.isEmpty()) {
+                long currentKey = scratch.openList.poll();
+                if (scratch.openList.lastPriority() > scratch.fScore.get(currentKey)) {
+                    //Stale entry for a node we have since found a cheaper path to, skip it as the cheaper entry is or was also in the open list
+                    continue;
                 }
-                //Remove the current node from unchecked and add it to checked
-                openSet.remove(currentNode);
-                closedSet.add(currentNode);
+                currentNode.set(currentKey);
                 if (WorldUtils.distanceBetween(start, currentNode) > maxSearchDistance) {
                     //If it is too far away for us to keep considering then continue on and see if we have another path that may be valid
                     // Even if it currently has a bit higher of a score
                     continue;
                 }
                 LogisticalTransporterBase currentNodeTransmitter = network.getTransmitter(currentNode);
-                double currentScore = gScore.getDouble(currentNode);
+                double currentScore = scratch.gScore.get(currentKey);
                 for (Direction direction : EnumUtils.DIRECTIONS) {
                     neighbor.setWithOffset(currentNode, direction);
                     LogisticalTransporterBase neighborTransmitter = network.getTransmitter(neighbor);
                     if (transportStack.canInsertToTransporter(neighborTransmitter, direction, currentNodeTransmitter)) {
                         //If the neighbor is a transporter and the stack is valid for it
                         double tentativeG = currentScore + neighborTransmitter.getCost();
-                        if (closedSet.contains(neighbor) && tentativeG >= gScore.getDouble(neighbor)) {
-                            continue;
-                        }
-                        if (!openSet.contains(neighbor) || tentativeG < gScore.getDouble(neighbor)) {
-                            BlockPos immutableNeighbor = neighbor.immutable();
-                            navMap.put(immutableNeighbor, currentNode);
-                            gScore.put(immutableNeighbor, tentativeG);
+                        long neighborKey = neighbor.asLong();
+                        //Note: Nodes we have not seen yet have an infinite gScore, and nodes that have been checked already are reopened if we found a cheaper path
+                        if (tentativeG < scratch.gScore.get(neighborKey)) {
+                            scratch.navMap.put(neighborKey, currentKey);
+                            scratch.gScore.put(neighborKey, tentativeG);
                             //Put the gScore plus estimate in the final score
-                            fScore.put(immutableNeighbor, tentativeG + WorldUtils.distanceBetween(immutableNeighbor, finalNode));
-                            openSet.add(immutableNeighbor);
+                            double f = tentativeG + WorldUtils.distanceBetween(neighbor, finalNode);
+                            scratch.fScore.put(neighborKey, f);
+                            scratch.openList.add(neighborKey, f);
                         }
-                    } else if (isValidDestination(currentNode, currentNodeTransmitter, direction, neighbor, chunkMap)) {
+                    } else if (isValidDestination(scratch, currentNode, currentNodeTransmitter, direction, neighbor, chunkMap)) {
                         //Else if the neighbor is the destination, and we can send to it
                         return true;
                     }
@@ -466,8 +528,8 @@ public final class TransporterPathfinder {
          *
          * @return True if we found a valid connection to the destination and can insert into it, false otherwise
          */
-        private boolean isValidDestination(BlockPos start, @Nullable LogisticalTransporterBase startTransporter, Direction direction, BlockPos neighbor,
-              Long2ObjectMap<ChunkAccess> chunkMap) {
+        private boolean isValidDestination(PathfinderScratch scratch, BlockPos start, @Nullable LogisticalTransporterBase startTransporter, Direction direction,
+              BlockPos neighbor, Long2ObjectMap<ChunkAccess> chunkMap) {
             //Check to make sure that it is the destination
             if (startTransporter != null && neighbor.equals(finalNode)) {
                 BlockEntity neighborTile = WorldUtils.getTileEntity(world, chunkMap, neighbor);
@@ -478,8 +540,9 @@ public final class TransporterPathfinder {
                         // we can connect to it (normal, push, or pull (should always be pull as otherwise canEmitTo would have been true)),
                         // then this is the proper path, so we mark it as so and return true indicating that we found and marked the ideal path
                         side = direction;
-                        results = reconstructPath(navMap, start);
-                        finalScore = gScore.getDouble(start) + WorldUtils.distanceBetween(start, finalNode);
+                        long startKey = start.asLong();
+                        results = reconstructPath(scratch.navMap, startKey);
+                        finalScore = scratch.gScore.get(startKey) + WorldUtils.distanceBetween(start, finalNode);
                         return true;
                     }
                 }
@@ -487,11 +550,12 @@ public final class TransporterPathfinder {
             return false;
         }
 
-        private List<BlockPos> reconstructPath(Map<BlockPos, BlockPos> navMap, BlockPos nextNode) {
+        private static List<BlockPos> reconstructPath(Long2LongMap navMap, long nextNode) {
             List<BlockPos> path = new ArrayList<>();
-            while (nextNode != null) {
-                path.add(nextNode);
+            path.add(BlockPos.of(nextNode));
+            while (navMap.containsKey(nextNode)) {
                 nextNode = navMap.get(nextNode);
+                path.add(BlockPos.of(nextNode));
             }
             return path;
         }
@@ -521,4 +585,172 @@ public final class TransporterPathfinder {
             boolean isValid(Level level, BlockPos pos, @Nullable BlockEntity tile, TransporterStack stack, ItemStack data, Direction side);
         }
     }
+
+    /**
+     * Single source search outward from a transporter in order of path cost, that finds the destinations that can accept a request one at a time, nearest first. Unlike
+     * the {@link Pathfinder}, which searches for a path to a known destination, this only expands as far as it needs to find the next destination. This makes the cost
+     * scale with the distance to the nearest destination, rather than with the size of the network times the length of the path to each destination.
+     *
+     * @implNote Each destination position is only returned once, using the side that is the closest, the same as when the destinations are calculated up front. As the
+     * destinations aren't known until they are reached, this doesn't use the {@link PathfinderCache}, and unlike the {@link Pathfinder} it doesn't limit how far the
+     * search may stray from the straight line distance to the destination.
+     */
+    private static class DestinationSearch {
+
+        private final PathfinderScratch scratch = PathfinderScratch.acquire();
+        private final Long2ObjectMap<ChunkAccess> chunkMap = new Long2ObjectOpenHashMap<>();
+        private final LongSet foundDestinations = new LongOpenHashSet();
+        private final BlockPos.MutableBlockPos currentNode = new BlockPos.MutableBlockPos();
+        private final BlockPos.MutableBlockPos neighbor = new BlockPos.MutableBlockPos();
+        private final InventoryNetwork network;
+        private final Level level;
+        private final TransporterStack transportStack;
+        private final TransitRequest request;
+        private final int min;
+        private final Map<GlobalPos, Set<TransporterStack>> additionalFlowingStacks;
+        @Nullable
+        private LogisticalTransporterBase currentNodeTransmitter;
+        private long currentKey;
+        private double currentScore;
+        //Index of the next direction to check around the current node, when it is past the last direction we move on to the next node
+        private int nextDirection = EnumUtils.DIRECTIONS.length;
+
+        private DestinationSearch(InventoryNetwork network, LogisticalTransporterBase start, TransporterStack stack, TransitRequest request, int min,
+              Map<GlobalPos, Set<TransporterStack>> additionalFlowingStacks) {
+            this.network = network;
+            this.level = start.getLevel();
+            this.transportStack = stack;
+            this.request = request;
+            this.min = min;
+            this.additionalFlowingStacks = additionalFlowingStacks;
+            long startKey = start.getBlockPos().asLong();
+            scratch.gScore.put(startKey, 0D);
+            scratch.openList.add(startKey, 0D);
+        }
+
+        /**
+         * @return The next nearest destination that can accept the request, or {@code null} if there are no more destinations that can accept it.
+         */
+        @Nullable
+        private Destination next() {
+            while (nextDirection < EnumUtils.DIRECTIONS.length || pollNode()) {
+                Direction direction = EnumUtils.DIRECTIONS[nextDirection++];
+                neighbor.setWithOffset(currentNode, direction);
+                LogisticalTransporterBase neighborTransmitter = network.getTransmitter(neighbor);
+                if (transportStack.canInsertToTransporter(neighborTransmitter, direction, currentNodeTransmitter)) {
+                    //If the neighbor is a transporter and the stack is valid for it
+                    double tentativeG = currentScore + neighborTransmitter.getCost();
+                    long neighborKey = neighbor.asLong();
+                    //Note: Nodes we have not seen yet have an infinite gScore
+                    if (tentativeG < scratch.gScore.get(neighborKey)) {
+                        scratch.navMap.put(neighborKey, currentKey);
+                        scratch.gScore.put(neighborKey, tentativeG);
+                        scratch.openList.add(neighborKey, tentativeG);
+                    }
+                } else {
+                    Destination destination = getDestination(direction);
+                    if (destination != null) {
+                        return destination;
+                    }
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Moves on to the next cheapest node that we haven't checked yet.
+         *
+         * @return {@code false} if there are no more nodes to check.
+         */
+        private boolean pollNode() {
+            while (!scratch.openList.isEmpty()) {
+                long key = scratch.openList.poll();
+                double score = scratch.openList.lastPriority();
+                if (score > scratch.gScore.get(key)) {
+                    //Stale entry for a node we have since found a cheaper path to, skip it as the cheaper entry is or was also in the open list
+                    continue;
+                }
+                currentKey = key;
+                currentScore = score;
+                currentNode.set(key);
+                currentNodeTransmitter = network.getTransmitter(currentNode);
+                nextDirection = 0;
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Checks if the neighbor in the given direction of the current node is a destination that we can send the request to.
+         */
+        @Nullable
+        private Destination getDestination(Direction direction) {
+            long neighborKey = neighbor.asLong();
+            if (currentNodeTransmitter == null || !currentNodeTransmitter.canEmitTo(direction) || foundDestinations.contains(neighborKey)) {
+                return null;
+            }
+            TransitResponse response = network.calculateAcceptor(neighbor, direction.getOpposite(), request, transportStack, chunkMap, additionalFlowingStacks);
+            if (response.isEmpty() || response.getSendingAmount() < min) {
+                return null;
+            }
+            BlockEntity neighborTile = WorldUtils.getTileEntity(level, chunkMap, neighbor);
+            if (!TransporterUtils.canInsert(level, neighbor, neighborTile, transportStack.color, response.getStack(), direction, false)) {
+                return null;
+            }
+            foundDestinations.add(neighborKey);
+            ImmutableList.Builder<BlockPos> path = ImmutableList.builder();
+            path.add(neighbor.immutable());
+            path.addAll(Pathfinder.reconstructPath(scratch.navMap, currentKey));
+            //Note: The score is the cost to get to the last transporter plus the distance from it to the destination, which is always one
+            return new Destination(path.build(), response, currentScore + 1);
+        }
+
+        private void release() {
+            scratch.release();
+        }
+    }
+
+    /**
+     * Reusable per-thread search state for the {@link Pathfinder}, so that each search doesn't have to allocate and grow its own collections.
+     */
+    private static class PathfinderScratch {
+
+        /**
+         * Size above which we shrink the collections back down after a search, so that one large search doesn't make every following search pay to clear them.
+         */
+        private static final int MAX_RETAINED_SIZE = 1_024;
+        private static final ThreadLocal<PathfinderScratch> SCRATCH = ThreadLocal.withInitial(PathfinderScratch::new);
+
+        private final LongDoubleMinHeap openList = new LongDoubleMinHeap();
+        private final Long2LongOpenHashMap navMap = new Long2LongOpenHashMap();
+        private final Long2DoubleOpenHashMap gScore = new Long2DoubleOpenHashMap();
+        private final Long2DoubleOpenHashMap fScore = new Long2DoubleOpenHashMap();
+        private boolean inUse;
+
+        private PathfinderScratch() {
+            gScore.defaultReturnValue(Double.POSITIVE_INFINITY);
+            fScore.defaultReturnValue(Double.POSITIVE_INFINITY);
+        }
+
+        private static PathfinderScratch acquire() {
+            PathfinderScratch scratch = SCRATCH.get();
+            if (scratch.inUse) {
+                //Shouldn't happen, but if a search is started from within another search just give it its own state
+                scratch = new PathfinderScratch();
+            }
+            scratch.inUse = true;
+            return scratch;
+        }
+
+        private void release() {
+            openList.clearAndTrim(MAX_RETAINED_SIZE);
+            navMap.clear();
+            navMap.trim(MAX_RETAINED_SIZE);
+            gScore.clear();
+            gScore.trim(MAX_RETAINED_SIZE);
+            fScore.clear();
+            fScore.trim(MAX_RETAINED_SIZE);
+            inUse = false;
+        }
+    }
 }
\ No newline at end of file
@@ -10,6 +10,7 @@ import java.util.Set;
 import java.util.function.IntFunction;
 import mekanism.api.NBTConstants;
 import mekanism.api.text.EnumColor;
+import mekanism.common.content.network.InventoryNetwork;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
 import mekanism.common.content.transporter.TransporterPathfinder.Destination;
 import mekanism.common.content.transporter.TransporterPathfinder.IdlePathData;
@@ -134,6 +135,13 @@ public class TransporterStack {
         }
         if (pathType != null) {
             NBTUtils.writeEnum(nbtTags, NBTConstants.PATH_TYPE, pathType);
+            if (pathType.hasTarget() && hasPath()) {
+                //Save the path so that we can try to keep using it when loaded instead of having to recalculate it
+                long[] path = PackedPath.encode(pathToTarget);
+                if (path.length > 0) {
+                    nbtTags.putLongArray(NBTConstants.PATH, path);
+                }
+            }
         }
         if (!itemStack.isEmpty()) {
             itemStack.save(provider, nbtTags);
@@ -147,6 +155,8 @@ public class TransporterStack {
         NBTUtils.setEnumIfPresent(nbtTags, NBTConstants.IDLE_DIR, Direction::from3DDataValue, dir -> idleDir = dir);
         NBTUtils.setBlockPosIfPresent(nbtTags, NBTConstants.HOME_LOCATION, coord -> homeLocation = coord);
         NBTUtils.setEnumIfPresent(nbtTags, NBTConstants.PATH_TYPE, Path.BY_ID, type -> pathType = type);
+        //Note: The saved path is only validated by restoreSavedPath once the stack is ticked
+        NBTUtils.setLongArrayIfPresent(nbtTags, NBTConstants.PATH, path -> pathToTarget = PackedPath.decode(path));
         itemStack = ItemStack.parseOptional(provider, nbtTags);
     }
 
@@ -220,6 +230,49 @@ public class TransporterStack {
         return newPath.getResponse();
     }
 
+    /**
+     * Checks if the path that was saved with this stack is still valid from the given transporter, and if it is, starts using it again.
+     *
+     * @return {@code true} if the saved path is valid and is now being used, {@code false} if a new path needs to be calculated.
+     */
+    public boolean restoreSavedPath(LogisticalTransporterBase transporter) {
+        if (getPathType().hasTarget() && hasPath() && isSavedPathValid(transporter)) {
+            //Start tracking that we are flowing to the destination again
+            TransporterManager.add(transporter.getLevel(), this);
+            initiatedPath = true;
+            return true;
+        }
+        return false;
+    }
+
+    private boolean isSavedPathValid(LogisticalTransporterBase transporter) {
+        InventoryNetwork network = transporter.getTransmitterNetwork();
+        if (network == null) {
+            return false;
+        }
+        int index = pathToTarget.indexOf(transporter.getBlockPos());
+        if (index < 1) {
+            return false;
+        }
+        //Make sure every transporter between here and the destination is still there and that the stack can still move into it
+        LogisticalTransporterBase from = transporter;
+        for (int i = index - 1; i > 0; i--) {
+            BlockPos pos = pathToTarget.get(i);
+            LogisticalTransporterBase next = network.getTransmitter(pos);
+            if (!canInsertToTransporter(next, WorldUtils.sideDifference(pos, pathToTarget.get(i + 1)), from)) {
+                return false;
+            }
+            from = next;
+        }
+        //And then that the last transporter can still send to the destination
+        BlockPos dest = getDest();
+        Direction side = WorldUtils.sideDifference(dest, pathToTarget.get(1));
+        if (getPathType().isHome()) {
+            return from.canConnect(side);
+        }
+        return from.canEmitTo(side) && network.getCachedAcceptor(dest, side.getOpposite()) != null;
+    }
+
     public boolean calculateIdle(LogisticalTransporterBase transporter) {
         IdlePathData newPath = TransporterPathfinder.getIdlePath(transporter, this);
         if (newPath == null) {
@@ -1,5 +1,9 @@
 package mekanism.common.inventory.container;
 
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntSet;
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
@@ -21,6 +25,7 @@ import mekanism.common.content.qio.IQIOCraftingWindowHolder;
 import mekanism.common.content.qio.QIOCraftingTransferHelper;
 import mekanism.common.content.qio.QIOCraftingWindow;
 import mekanism.common.content.qio.QIOFrequency;
+import mekanism.common.content.qio.QIOSearchIndex;
 import mekanism.common.content.qio.SearchQueryParser;
 import mekanism.common.content.qio.SearchQueryParser.ISearchQuery;
 import mekanism.common.inventory.GuiComponents.IDropdownEnum;
@@ -34,6 +39,7 @@ import mekanism.common.inventory.container.slot.VirtualInventoryContainerSlot;
 import mekanism.common.lib.inventory.HashedItem;
 import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
 import mekanism.common.network.PacketUtils;
+import mekanism.common.network.to_client.qio.PacketQIOItemViewerGuiSync.TypeDefinition;
 import mekanism.common.network.to_server.qio.PacketQIOItemViewerSlotPlace;
 import mekanism.common.network.to_server.qio.PacketQIOItemViewerSlotShiftTake;
 import mekanism.common.network.to_server.qio.PacketQIOItemViewerSlotTake;
@@ -71,6 +77,10 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
     private SortDirection sortDirection;
 
     private Object2LongMap<UUIDAwareHashedItem> cachedInventory = new Object2LongOpenHashMap<>();
+    /**
+     * Item types the server has told us about, keyed by the id the server assigned them for this viewer.
+     */
+    private Int2ObjectMap<UUIDAwareHashedItem> typeDictionary = new Int2ObjectOpenHashMap<>();
     private long cachedCountCapacity;
     private int cachedTypeCapacity;
     private long totalItems;
@@ -81,6 +91,7 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
     private List<IScrollableSlot> searchList;
 
     private Map<String, List<IScrollableSlot>> searchCache = new Object2ObjectOpenHashMap<>();
+    private QIOSearchIndex searchIndex = new QIOSearchIndex();
     private String searchQuery = "";
 
     private int doubleClickTransferTicks = 0;
@@ -133,12 +144,14 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
     protected void sync(QIOItemViewerContainer container) {
         container.sortType = sortType;
         container.cachedInventory = cachedInventory;
+        container.typeDictionary = typeDictionary;
         container.cachedCountCapacity = cachedCountCapacity;
         container.cachedTypeCapacity = cachedTypeCapacity;
         container.totalItems = totalItems;
         container.itemList = itemList;
         container.searchList = searchList;
         container.searchCache = searchCache;
+        container.searchIndex = searchIndex;
         container.searchQuery = searchQuery;
         container.selectedWindow = getSelectedWindow();
     }
@@ -339,36 +352,66 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
         return Optional.empty();
     }
 
-    public void handleBatchUpdate(Object2LongMap<UUIDAwareHashedItem> itemMap, long countCapacity, int typeCapacity) {
+    public void handleBatchUpdate(List<TypeDefinition> types, Int2LongMap counts, long countCapacity, int typeCapacity) {
+        //A batch update means the server started a new session for this viewer, so forget any ids it previously assigned
+        typeDictionary.clear();
+        defineTypes(types);
+        Object2LongMap<UUIDAwareHashedItem> itemMap = new Object2LongOpenHashMap<>(counts.size());
+        for (Int2LongMap.Entry entry : counts.int2LongEntrySet()) {
+            UUIDAwareHashedItem type = typeDictionary.get(entry.getIntKey());
+            if (type != null) {
+                itemMap.put(type, entry.getLongValue());
+            }
+        }
         cachedInventory = itemMap;
         cachedCountCapacity = countCapacity;
         cachedTypeCapacity = typeCapacity;
+        searchIndex.clear();
+        for (UUIDAwareHashedItem type : cachedInventory.keySet()) {
+            searchIndex.add(type.getUUID(), type.getInternalStack());
+        }
         syncItemList();
     }
 
-    public void handleUpdate(Object2LongMap<UUIDAwareHashedItem> itemMap, long countCapacity, int typeCapacity) {
+    public void handleUpdate(List<TypeDefinition> types, Int2LongMap counts, long countCapacity, int typeCapacity) {
         cachedCountCapacity = countCapacity;
         cachedTypeCapacity = typeCapacity;
-        if (itemMap.isEmpty()) {
+        defineTypes(types);
+        if (counts.isEmpty()) {
             //No items need updating, we just changed the counts/capacities, in general this should never be the case, but in case it is
             // just short circuit a lot of logic
             return;
         }
-        for (Object2LongMap.Entry<UUIDAwareHashedItem> entry : itemMap.object2LongEntrySet()) {
+        for (Int2LongMap.Entry entry : counts.int2LongEntrySet()) {
+            UUIDAwareHashedItem type = typeDictionary.get(entry.getIntKey());
+            if (type == null) {
+                //Should never happen as the server sends the type the first time it sends the id
+                continue;
+            }
             long value = entry.getLongValue();
             if (value == 0) {
-                cachedInventory.removeLong(entry.getKey());
-            } else {
-                cachedInventory.put(entry.getKey(), value);
+                cachedInventory.removeLong(type);
+                searchIndex.remove(type.getUUID());
+            } else if (cachedInventory.put(type, value) == 0) {
+                //Note: We never store zero as a value, so if the previous value is zero it is a new type
+                searchIndex.add(type.getUUID(), type.getInternalStack());
             }
         }
         syncItemList();
     }
 
+    private void defineTypes(List<TypeDefinition> types) {
+        for (TypeDefinition definition : types) {
+            typeDictionary.put(definition.id(), definition.createType());
+        }
+    }
+
     public void handleKill() {
         itemList = null;
         searchList = null;
         cachedInventory.clear();
+        typeDictionary.clear();
+        searchIndex.clear();
     }
 
     public QIOCraftingTransferHelper getTransferHelper(Player player, QIOCraftingWindow craftingWindow) {
@@ -510,9 +553,13 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
         if (searchList == null) {
             searchList = new ArrayList<>();
             ISearchQuery query = SearchQueryParser.parse(queryText);
-            for (IScrollableSlot slot : itemList) {
-                if (query.test(level, slot.item().getInternalStack())) {
-                    searchList.add(slot);
+            //Look up the matching types using the index rather than testing every type, and then add them in the order of the sorted item list
+            IntSet matches = searchIndex.search(level, query);
+            if (!matches.isEmpty()) {
+                for (IScrollableSlot slot : itemList) {
+                    if (matches.contains(searchIndex.getId(slot.itemUUID()))) {
+                        searchList.add(slot);
+                    }
                 }
             }
         }
@@ -1,23 +1,24 @@
 package mekanism.common.lib;
 
 import mekanism.api.math.FloatingLong;
+import mekanism.api.math.FloatingLongAccumulator;
 
 public class LastEnergyTracker {
 
     private FloatingLong lastEnergyReceived = FloatingLong.ZERO;
-    private FloatingLong currentEnergyReceived = FloatingLong.ZERO;
+    private final FloatingLongAccumulator currentEnergyReceived = new FloatingLongAccumulator();
     private long currentGameTime;
 
     public void received(long gameTime, FloatingLong amount) {
         if (currentGameTime == gameTime) {
             //If we are doing the current tick then increment it
-            currentEnergyReceived = currentEnergyReceived.plusEqual(amount);
+            currentEnergyReceived.add(amount);
         } else {
             //If we aren't then store it in the amount for the last tick
             // update what the current game time is and set the current energy to the amount we received
-            lastEnergyReceived = currentEnergyReceived;
+            lastEnergyReceived = currentEnergyReceived.toConst();
             currentGameTime = gameTime;
-            currentEnergyReceived = amount != FloatingLong.ZERO ? amount.copy() : FloatingLong.ZERO;
+            currentEnergyReceived.set(amount);
         }
     }
 
@@ -0,0 +1,116 @@
+package mekanism.common.lib.collection;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Array backed binary min-heap of primitive {@code long} elements ordered by a {@code double} priority. Intended to be used as a reusable open list for graph searches,
+ * so it does not support decrease-key; instead the same element can be added again with a lower priority and callers are expected to skip stale entries when polling.
+ */
+public class LongDoubleMinHeap {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private long[] elements;
+    private double[] priorities;
+    private int size;
+    private double lastPriority;
+
+    public LongDoubleMinHeap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public LongDoubleMinHeap(int initialCapacity) {
+        initialCapacity = Math.max(1, initialCapacity);
+        elements = new long[initialCapacity];
+        priorities = new double[initialCapacity];
+    }
+
+    public void add(long element, double priority) {
+        if (size == elements.length) {
+            int newCapacity = size + (size >> 1) + 1;
+            elements = Arrays.copyOf(elements, newCapacity);
+            priorities = Arrays.copyOf(priorities, newCapacity);
+        }
+        //Sift up
+        int index = size++;
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (priorities[parent] <= priority) {
+                break;
+            }
+            elements[index] = elements[parent];
+            priorities[index] = priorities[parent];
+            index = parent;
+        }
+        elements[index] = element;
+        priorities[index] = priority;
+    }
+
+    /**
+     * Removes the element with the lowest priority. The priority it was added with can be retrieved afterwards via {@link #lastPriority()}.
+     *
+     * @return The element with the lowest priority.
+     */
+    public long poll() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        long result = elements[0];
+        lastPriority = priorities[0];
+        int last = --size;
+        if (last > 0) {
+            //Sift down the last element from the root
+            long element = elements[last];
+            double priority = priorities[last];
+            int index = 0;
+            int half = last >>> 1;
+            while (index < half) {
+                int child = 2 * index + 1;
+                int right = child + 1;
+                if (right < last && priorities[right] < priorities[child]) {
+                    child = right;
+                }
+                if (priority <= priorities[child]) {
+                    break;
+                }
+                elements[index] = elements[child];
+                priorities[index] = priorities[child];
+                index = child;
+            }
+            elements[index] = element;
+            priorities[index] = priority;
+        }
+        return result;
+    }
+
+    /**
+     * @return The priority of the element that was last returned by {@link #poll()}.
+     */
+    public double lastPriority() {
+        return lastPriority;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Clears the heap and shrinks the backing arrays if they have grown larger than the given capacity.
+     */
+    public void clearAndTrim(int maxCapacity) {
+        size = 0;
+        if (elements.length > maxCapacity) {
+            elements = new long[maxCapacity];
+            priorities = new double[maxCapacity];
+        }
+    }
+}
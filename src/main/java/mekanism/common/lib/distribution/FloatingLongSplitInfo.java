@@ -1,18 +1,23 @@
 package mekanism.common.lib.distribution;
 
 import mekanism.api.math.FloatingLong;
+import mekanism.api.math.FloatingLongAccumulator;
 
 public class FloatingLongSplitInfo extends SplitInfo<FloatingLong> {
 
     private FloatingLong amountToSplit;
     private FloatingLong amountPerTarget;
-    private FloatingLong sentSoFar;
+    private final FloatingLongAccumulator sentSoFar = new FloatingLongAccumulator();
+    /**
+     * Accumulator that the share gets recalculated into so that we only have to create a new object when the share actually changes. The share itself is never mutated
+     * in place as it gets handed out to the targets.
+     */
+    private final FloatingLongAccumulator recalculatedShare = new FloatingLongAccumulator();
 
     public FloatingLongSplitInfo(FloatingLong amountToSplit, int totalTargets) {
         super(totalTargets);
         this.amountToSplit = amountToSplit.copy();
         amountPerTarget = toSplitAmong == 0 ? FloatingLong.ZERO : amountToSplit.divide(toSplitAmong);
-        sentSoFar = FloatingLong.ZERO;
     }
 
     @Override
@@ -27,7 +32,7 @@ public class FloatingLongSplitInfo extends SplitInfo<FloatingLong> {
             recalculate = true;
         } else {
             amountToSplit = amountToSplit.minusEqual(amountNeeded);
-            sentSoFar = sentSoFar.plusEqual(amountNeeded);
+            sentSoFar.add(amountNeeded);
             if (!decrementTargets) {
                 //If we are not decrementing targets, then don't remove that as a valid target, or update how much there is per target
                 return;
@@ -38,9 +43,9 @@ public class FloatingLongSplitInfo extends SplitInfo<FloatingLong> {
         //Only recalculate it if it is not willing to accept/doesn't want the
         // full per side split
         if (recalculate && toSplitAmong != 0) {
-            FloatingLong amountPerLast = amountPerTarget;
-            amountPerTarget = amountToSplit.divide(toSplitAmong);
-            if (!amountPerChanged && !amountPerTarget.equals(amountPerLast)) {
+            recalculatedShare.set(amountToSplit).divide(toSplitAmong);
+            if (!recalculatedShare.valueEquals(amountPerTarget)) {
+                amountPerTarget = recalculatedShare.toFloatingLong();
                 amountPerChanged = true;
             }
         }
@@ -70,6 +75,6 @@ public class FloatingLongSplitInfo extends SplitInfo<FloatingLong> {
 
     @Override
     public FloatingLong getTotalSent() {
-        return sentSoFar;
+        return sentSoFar.toConst();
     }
 }
\ No newline at end of file
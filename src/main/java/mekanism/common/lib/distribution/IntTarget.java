@@ -0,0 +1,91 @@
+package mekanism.common.lib.distribution;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Primitive int specialization of {@link Target} that keeps track of a target for emitting from various networks without boxing any of the amounts being distributed.
+ *
+ * @param <HANDLER> The Handler this target keeps track of.
+ * @param <EXTRA>   Any extra information this target may need to keep track of.
+ */
+public abstract class IntTarget<HANDLER, EXTRA> extends PrimitiveTarget<HANDLER, EXTRA, IntegerSplitInfo> {
+
+    /**
+     * The amounts the needed handlers want.
+     */
+    private int[] neededAmounts = new int[getNeededCapacity()];
+
+    protected IntTarget() {
+    }
+
+    protected IntTarget(Collection<HANDLER> allHandlers) {
+        super(allHandlers);
+    }
+
+    protected IntTarget(int expectedSize) {
+        super(expectedSize);
+    }
+
+    @Override
+    protected final long getNeededAmount(int index) {
+        return neededAmounts[index];
+    }
+
+    @Override
+    protected final void setNeededAmount(int index, long amount) {
+        neededAmounts[index] = (int) amount;
+    }
+
+    @Override
+    protected final void resizeNeededAmounts(int length) {
+        neededAmounts = Arrays.copyOf(neededAmounts, length);
+    }
+
+    @Override
+    protected final long getShareAmount(IntegerSplitInfo splitInfo) {
+        return splitInfo.getShareAmountAsInt();
+    }
+
+    @Override
+    protected final long getRemainderAmount(IntegerSplitInfo splitInfo) {
+        return splitInfo.getRemainderAmountAsInt();
+    }
+
+    @Override
+    protected final long getUnsent(IntegerSplitInfo splitInfo) {
+        return splitInfo.getUnsentAsInt();
+    }
+
+    @Override
+    protected final void acceptNeeded(HANDLER handler, IntegerSplitInfo splitInfo, long amount) {
+        acceptAmount(handler, splitInfo, (int) amount);
+    }
+
+    @Override
+    protected final long simulateNeeded(HANDLER handler, EXTRA extra) {
+        return simulate(handler, extra);
+    }
+
+    /**
+     * Gives the handler on the specified side the given amount.
+     *
+     * @param handler   Handler to give to.
+     * @param splitInfo Information about current overall split. The given split will be increased by the actual amount accepted, in case it is less than the offered
+     *                  amount.
+     * @param amount    Amount to give.
+     *
+     * @implNote Must call {@link IntegerSplitInfo#send(int)} with the amount actually accepted.
+     */
+    protected abstract void acceptAmount(HANDLER handler, IntegerSplitInfo splitInfo, int amount);
+
+    /**
+     * Simulate inserting into the handler.
+     *
+     * @param handler The handler (should correspond with the side we are simulating).
+     * @param extra   All the information we are inserting.
+     *
+     * @return The amount it was actually willing to accept.
+     */
+    protected abstract int simulate(HANDLER handler, EXTRA extra);
+}
@@ -16,6 +16,13 @@ public class IntegerSplitInfo extends SplitInfo<Integer> {
 
     @Override
     public void send(Integer amountNeeded) {
+        send(amountNeeded.intValue());
+    }
+
+    /**
+     * Primitive version of {@link #send(Integer)} to avoid boxing when used by {@link IntTarget}.
+     */
+    public void send(int amountNeeded) {
         //If we are giving it, then lower the amount we are checking/splitting
         amountToSplit -= amountNeeded;
         sentSoFar += amountNeeded;
@@ -43,6 +50,10 @@ public class IntegerSplitInfo extends SplitInfo<Integer> {
 
     @Override
     public Integer getShareAmount() {
+        return getShareAmountAsInt();
+    }
+
+    public int getShareAmountAsInt() {
         //TODO: Should we make this return a + 1 if there is a remainder, so that we can factor out those cases that can accept exactly amountPerTarget + 1
         // while doing our initial loop rather than handling it via getRemainderAmount?
         return amountPerTarget;
@@ -50,6 +61,10 @@ public class IntegerSplitInfo extends SplitInfo<Integer> {
 
     @Override
     public Integer getRemainderAmount() {
+        return getRemainderAmountAsInt();
+    }
+
+    public int getRemainderAmountAsInt() {
         if (toSplitAmong != 0 && remainder > 0) {
             //If we have a remainder, be willing to provide a single unit as the remainder
             // so that we split the remainder more evenly across the targets.
@@ -60,6 +75,10 @@ public class IntegerSplitInfo extends SplitInfo<Integer> {
 
     @Override
     public Integer getUnsent() {
+        return getUnsentAsInt();
+    }
+
+    public int getUnsentAsInt() {
         return amountToSplit;
     }
 
@@ -70,6 +89,10 @@ public class IntegerSplitInfo extends SplitInfo<Integer> {
 
     @Override
     public Integer getTotalSent() {
+        return getTotalSentAsInt();
+    }
+
+    public int getTotalSentAsInt() {
         return sentSoFar;
     }
 }
\ No newline at end of file
@@ -16,6 +16,13 @@ public class LongSplitInfo extends SplitInfo<Long> {
 
     @Override
     public void send(Long amountNeeded) {
+        send(amountNeeded.longValue());
+    }
+
+    /**
+     * Primitive version of {@link #send(Long)} to avoid boxing when used by {@link LongTarget}.
+     */
+    public void send(long amountNeeded) {
         //If we are giving it, then lower the amount we are checking/splitting
         amountToSplit -= amountNeeded;
         sentSoFar += amountNeeded;
@@ -43,11 +50,19 @@ public class LongSplitInfo extends SplitInfo<Long> {
 
     @Override
     public Long getShareAmount() {
+        return getShareAmountAsLong();
+    }
+
+    public long getShareAmountAsLong() {
         return amountPerTarget;
     }
 
     @Override
     public Long getRemainderAmount() {
+        return getRemainderAmountAsLong();
+    }
+
+    public long getRemainderAmountAsLong() {
         if (toSplitAmong != 0 && remainder > 0) {
             //If we have a remainder, be willing to provide a single unit as the remainder
             // so that we split the remainder more evenly across the targets.
@@ -58,6 +73,10 @@ public class LongSplitInfo extends SplitInfo<Long> {
 
     @Override
     public Long getUnsent() {
+        return getUnsentAsLong();
+    }
+
+    public long getUnsentAsLong() {
         return remainder;
     }
 
@@ -68,6 +87,10 @@ public class LongSplitInfo extends SplitInfo<Long> {
 
     @Override
     public Long getTotalSent() {
+        return getTotalSentAsLong();
+    }
+
+    public long getTotalSentAsLong() {
         return sentSoFar;
     }
 }
\ No newline at end of file
@@ -0,0 +1,91 @@
+package mekanism.common.lib.distribution;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Primitive long specialization of {@link Target} that keeps track of a target for emitting from various networks without boxing any of the amounts being distributed.
+ *
+ * @param <HANDLER> The Handler this target keeps track of.
+ * @param <EXTRA>   Any extra information this target may need to keep track of.
+ */
+public abstract class LongTarget<HANDLER, EXTRA> extends PrimitiveTarget<HANDLER, EXTRA, LongSplitInfo> {
+
+    /**
+     * The amounts the needed handlers want.
+     */
+    private long[] neededAmounts = new long[getNeededCapacity()];
+
+    protected LongTarget() {
+    }
+
+    protected LongTarget(Collection<HANDLER> allHandlers) {
+        super(allHandlers);
+    }
+
+    protected LongTarget(int expectedSize) {
+        super(expectedSize);
+    }
+
+    @Override
+    protected final long getNeededAmount(int index) {
+        return neededAmounts[index];
+    }
+
+    @Override
+    protected final void setNeededAmount(int index, long amount) {
+        neededAmounts[index] = amount;
+    }
+
+    @Override
+    protected final void resizeNeededAmounts(int length) {
+        neededAmounts = Arrays.copyOf(neededAmounts, length);
+    }
+
+    @Override
+    protected final long getShareAmount(LongSplitInfo splitInfo) {
+        return splitInfo.getShareAmountAsLong();
+    }
+
+    @Override
+    protected final long getRemainderAmount(LongSplitInfo splitInfo) {
+        return splitInfo.getRemainderAmountAsLong();
+    }
+
+    @Override
+    protected final long getUnsent(LongSplitInfo splitInfo) {
+        return splitInfo.getUnsentAsLong();
+    }
+
+    @Override
+    protected final void acceptNeeded(HANDLER handler, LongSplitInfo splitInfo, long amount) {
+        acceptAmount(handler, splitInfo, amount);
+    }
+
+    @Override
+    protected final long simulateNeeded(HANDLER handler, EXTRA extra) {
+        return simulate(handler, extra);
+    }
+
+    /**
+     * Gives the handler on the specified side the given amount.
+     *
+     * @param handler   Handler to give to.
+     * @param splitInfo Information about current overall split. The given split will be increased by the actual amount accepted, in case it is less than the offered
+     *                  amount.
+     * @param amount    Amount to give.
+     *
+     * @implNote Must call {@link LongSplitInfo#send(long)} with the amount actually accepted.
+     */
+    protected abstract void acceptAmount(HANDLER handler, LongSplitInfo splitInfo, long amount);
+
+    /**
+     * Simulate inserting into the handler.
+     *
+     * @param handler The handler (should correspond with the side we are simulating).
+     * @param extra   All the information we are inserting.
+     *
+     * @return The amount it was actually willing to accept.
+     */
+    protected abstract long simulate(HANDLER handler, EXTRA extra);
+}
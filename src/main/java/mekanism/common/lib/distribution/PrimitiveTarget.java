@@ -0,0 +1,283 @@
+package mekanism.common.lib.distribution;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Primitive specialization of {@link Target} that keeps track of a target for emitting from various networks without boxing any of the amounts being distributed.
+ * Amounts are exposed to the split algorithm as longs, and the {@link IntTarget int} and {@link LongTarget long} implementations only have to store the amounts that
+ * handlers need and read the values of their split info.
+ *
+ * @param <HANDLER>    The Handler this target keeps track of.
+ * @param <EXTRA>      Any extra information this target may need to keep track of.
+ * @param <SPLIT_INFO> The split info that keeps track of the split.
+ */
+public abstract class PrimitiveTarget<HANDLER, EXTRA, SPLIT_INFO extends SplitInfo<?>> {
+
+    /**
+     * Collection of handlers
+     */
+    protected final Collection<HANDLER> handlers;
+    /**
+     * Handlers that want more than we can/are willing to provide, stored in parallel with the needed amounts.
+     */
+    private Object[] neededHandlers;
+    private int neededCount;
+
+    private int handlerCount = 0;
+
+    protected EXTRA extra;
+
+    protected PrimitiveTarget() {
+        this(10);
+    }
+
+    protected PrimitiveTarget(Collection<HANDLER> allHandlers) {
+        this.handlers = Collections.unmodifiableCollection(allHandlers);
+        this.handlerCount = allHandlers.size();
+        this.neededHandlers = new Object[Math.max(allHandlers.size() / 2, 1)];
+    }
+
+    protected PrimitiveTarget(int expectedSize) {
+        this.handlers = new ArrayList<>(expectedSize);
+        this.neededHandlers = new Object[Math.max(expectedSize / 2, 1)];
+    }
+
+    public void addHandler(HANDLER handler) {
+        handlers.add(handler);
+        handlerCount++;
+    }
+
+    public int getHandlerCount() {
+        return handlerCount;
+    }
+
+    /**
+     * Removes all the handlers and anything left over from a previous distribution so that this target can be reused instead of creating a new one.
+     *
+     * @apiNote Not supported by targets that were created from a fixed collection of handlers.
+     */
+    public void clear() {
+        handlers.clear();
+        truncateNeeded(0);
+        handlerCount = 0;
+    }
+
+    /**
+     * {@return how many needed amounts the implementation should initially be able to store}
+     */
+    protected final int getNeededCapacity() {
+        return neededHandlers.length;
+    }
+
+    /**
+     * Gets the amount the needed handler at the given index wants.
+     */
+    protected abstract long getNeededAmount(int index);
+
+    /**
+     * Sets the amount the needed handler at the given index wants.
+     *
+     * @implNote The amount will always fit in the type the implementation stores.
+     */
+    protected abstract void setNeededAmount(int index, long amount);
+
+    /**
+     * Resizes the needed amounts to the given length, keeping any existing amounts.
+     */
+    protected abstract void resizeNeededAmounts(int length);
+
+    /**
+     * {@return the "share" each target should get when distributing in an even split}
+     *
+     * @see SplitInfo#getShareAmount()
+     */
+    protected abstract long getShareAmount(SPLIT_INFO splitInfo);
+
+    /**
+     * {@return the "share" plus any potential remainder}
+     *
+     * @see SplitInfo#getRemainderAmount()
+     */
+    protected abstract long getRemainderAmount(SPLIT_INFO splitInfo);
+
+    /**
+     * {@return the amount of contents that has not been sent anywhere yet}
+     *
+     * @see SplitInfo#getUnsent()
+     */
+    protected abstract long getUnsent(SPLIT_INFO splitInfo);
+
+    /**
+     * Gives the handler on the specified side the given amount.
+     *
+     * @param handler   Handler to give to.
+     * @param splitInfo Information about current overall split. The given split will be increased by the actual amount accepted, in case it is less than the offered
+     *                  amount.
+     * @param amount    Amount to give, which will always fit in the type the implementation distributes.
+     */
+    protected abstract void acceptNeeded(HANDLER handler, SPLIT_INFO splitInfo, long amount);
+
+    /**
+     * Simulate inserting into the handler.
+     *
+     * @param handler The handler (should correspond with the side we are simulating).
+     * @param extra   All the information we are inserting.
+     *
+     * @return The amount it was actually willing to accept.
+     */
+    protected abstract long simulateNeeded(HANDLER handler, EXTRA extra);
+
+    private void addNeeded(HANDLER handler, long amount) {
+        if (neededCount == neededHandlers.length) {
+            int newLength = neededCount * 2;
+            neededHandlers = Arrays.copyOf(neededHandlers, newLength);
+            resizeNeededAmounts(newLength);
+        }
+        neededHandlers[neededCount] = handler;
+        setNeededAmount(neededCount, amount);
+        neededCount++;
+    }
+
+    @SuppressWarnings("unchecked")
+    private HANDLER getNeededHandler(int index) {
+        return (HANDLER) neededHandlers[index];
+    }
+
+    /**
+     * Moves the needed entry at the given index down to the given index so that kept entries maintain their order as others get removed.
+     */
+    private void keepNeeded(int from, int to) {
+        if (from != to) {
+            neededHandlers[to] = neededHandlers[from];
+            setNeededAmount(to, getNeededAmount(from));
+        }
+    }
+
+    /**
+     * Removes all the needed entries after the given count, clearing the references to the handlers so that they can be garbage collected.
+     */
+    private void truncateNeeded(int count) {
+        for (int i = count; i < neededCount; i++) {
+            neededHandlers[i] = null;
+        }
+        neededCount = count;
+    }
+
+    /**
+     * Sends the remaining amount to each handler we still have not settled on an amount for. We increment the amount sent in splitInfo as well as adjust the split as
+     * needed if one ends up accepting less than it originally wanted.
+     *
+     * @param splitInfo Keeps track of the current amount sent and the default each one can get.
+     *
+     * @see Target#sendRemainingSplit(SplitInfo)
+     */
+    public void sendRemainingSplit(SPLIT_INFO splitInfo) {
+        //If needed is not empty then we default it to the given calculated fair split amount of remaining energy
+        if (neededCount > 0 && getRemainderAmount(splitInfo) != 0) {
+            int kept = 0;
+            int index = 0;
+            for (; index < neededCount; index++) {
+                long remainderAmount = getRemainderAmount(splitInfo);
+                if (remainderAmount == 0) {
+                    //We finished inserting everything we wanted to, we can just exit
+                    break;
+                }
+                HANDLER handler = getNeededHandler(index);
+                //Accept the remaining amount
+                long amountNeeded = getNeededAmount(index);
+                if (amountNeeded <= remainderAmount) {
+                    //If the amount we needed was the less than or the same as our remaining amount
+                    // we can remove the value as it has now been sent
+                    acceptNeeded(handler, splitInfo, amountNeeded);
+                } else {
+                    splitInfo.decrementTargets = false;
+                    acceptNeeded(handler, splitInfo, remainderAmount);
+                    splitInfo.decrementTargets = true;
+                    keepNeeded(index, kept++);
+                }
+            }
+            if (index < neededCount) {
+                //We exited early, keep all the entries we didn't get to
+                for (; index < neededCount; index++) {
+                    keepNeeded(index, kept++);
+                }
+                truncateNeeded(kept);
+                return;
+            }
+            truncateNeeded(kept);
+            if (getUnsent(splitInfo) != 0) {
+                //If we still have some of a remainder after trying to evenly distribute the remainder just send it to the first target willing to accept it
+                // This might happen if one of the destinations was only able to accept part of the remaining amount, though in general that case will be
+                // covered by shifting the needed values
+                for (int i = 0; i < neededCount; i++) {
+                    long remaining = getUnsent(splitInfo);
+                    if (remaining == 0) {
+                        //We finished, exit
+                        return;
+                    }
+                    acceptNeeded(getNeededHandler(i), splitInfo, remaining);
+                }
+            }
+        }
+    }
+
+    /**
+     * Calculates how much each handler can take of toSend. If the amount requested is less than the amount per handler/target in splitInfo it immediately sends the
+     * requested amount to the handler via {@link #acceptNeeded(HANDLER, SplitInfo, long)}
+     *
+     * @param toSend    The total amount getting sent.
+     * @param splitInfo Information about current overall split.
+     */
+    public void sendPossible(EXTRA toSend, SPLIT_INFO splitInfo) {
+        //Clear anything that may be left over from a previous distribution using this target
+        truncateNeeded(0);
+        if (getShareAmount(splitInfo) == 0) {
+            //We are all remainder, just calculate how much each can accept
+            for (HANDLER entry : handlers) {
+                long amountNeeded = simulateNeeded(entry, toSend);
+                if (amountNeeded != 0) {
+                    addNeeded(entry, amountNeeded);
+                }
+            }
+        } else {
+            for (HANDLER entry : handlers) {
+                long amountNeeded = simulateNeeded(entry, toSend);
+                if (amountNeeded <= getShareAmount(splitInfo)) {
+                    //Add the amount, in case something changed from simulation only mark actual sent amount
+                    // in split info
+                    if (amountNeeded != 0) {
+                        //Note: We can skip actually running it if it doesn't need anything
+                        acceptNeeded(entry, splitInfo, amountNeeded);
+                    }
+                } else {
+                    addNeeded(entry, amountNeeded);
+                }
+            }
+        }
+    }
+
+    /**
+     * Rechecks to see if any of the needed amounts is able to fit under the new split and if so gives them the requested amount.
+     *
+     * @param splitInfo The new split to (re)check.
+     */
+    public void shiftNeeded(SPLIT_INFO splitInfo) {
+        if (getShareAmount(splitInfo) == 0) {
+            return;
+        }
+        int kept = 0;
+        for (int index = 0; index < neededCount; index++) {
+            long amountNeeded = getNeededAmount(index);
+            if (amountNeeded <= getShareAmount(splitInfo)) {
+                //Remove it as it has now been sent
+                acceptNeeded(getNeededHandler(index), splitInfo, amountNeeded);
+            } else {
+                keepNeeded(index, kept++);
+            }
+        }
+        truncateNeeded(kept);
+    }
+}
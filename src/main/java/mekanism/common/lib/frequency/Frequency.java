@@ -52,6 +52,11 @@ public abstract class Frequency implements IFrequency {
     private SecurityMode securityMode;
 
     private final FrequencyType<?> frequencyType;
+    /**
+     * The manager this frequency is stored in, used to let the manager know when this frequency has work to do. Note: This will be null on the client side.
+     */
+    @Nullable
+    private FrequencyManager<?> manager;
 
     /**
      * @param owner Should only be null if we have incomplete data that we are loading
@@ -72,12 +77,68 @@ public abstract class Frequency implements IFrequency {
     }
 
     /**
+     * Called by the manager every tick while {@link #needsTicking()} returns {@code true}.
+     *
      * @return {@code true} if persistent data was changed and the frequency needs to be saved.
      */
     public boolean tick() {
+        boolean wasDirty = dirty;
+        dirty = false;
+        return wasDirty;
+    }
+
+    /**
+     * @return {@code true} if this frequency has work that needs to be done on the next tick. Frequencies that don't are skipped by their manager until they are marked
+     * as active again via {@link #markActive()}.
+     */
+    public boolean needsTicking() {
         return dirty;
     }
 
+    /**
+     * Called by the manager once every {@link mekanism.common.config.GeneralConfig#frequencyPeriodicTickInterval} ticks while {@link #needsPeriodicTicking()} returns
+     * {@code true}, for work that doesn't need to happen every tick.
+     *
+     * @return {@code true} if persistent data was changed and the frequency needs to be saved.
+     */
+    public boolean tickPeriodic() {
+        return false;
+    }
+
+    /**
+     * @return {@code true} if this frequency should stay scheduled for {@link #tickPeriodic()} after being scheduled via {@link #schedulePeriodic()}.
+     */
+    public boolean needsPeriodicTicking() {
+        return false;
+    }
+
+    /**
+     * Lets the manager know that this frequency needs to be ticked until {@link #needsTicking()} returns {@code false}.
+     */
+    protected final void markActive() {
+        if (manager != null) {
+            manager.activate(this);
+        }
+    }
+
+    /**
+     * Lets the manager know that this frequency has periodic work to do until {@link #needsPeriodicTicking()} returns {@code false}.
+     */
+    protected final void schedulePeriodic() {
+        if (manager != null) {
+            manager.schedulePeriodic(this);
+        }
+    }
+
+    protected void markDirty() {
+        dirty = true;
+        markActive();
+    }
+
+    void setManager(@Nullable FrequencyManager<?> manager) {
+        this.manager = manager;
+    }
+
     public void onRemove() {
         removed = true;
     }
@@ -116,7 +177,7 @@ public abstract class Frequency implements IFrequency {
     public void setSecurityMode(SecurityMode securityMode) {
         if (this.securityMode != securityMode) {
             this.securityMode = securityMode;
-            dirty = true;
+            markDirty();
         }
     }
 
@@ -2,6 +2,10 @@ package mekanism.common.lib.frequency;
 
 import com.mojang.serialization.Codec;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashMap;
@@ -11,6 +15,8 @@ import java.util.Set;
 import java.util.UUID;
 import mekanism.api.NBTConstants;
 import mekanism.api.security.SecurityMode;
+import mekanism.common.CommonWorldTickHandler;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.lib.MekanismSavedData;
 import mekanism.common.lib.collection.HashList;
 import mekanism.common.lib.frequency.Frequency.FrequencyIdentity;
@@ -35,6 +41,22 @@ public class FrequencyManager<FREQ extends Frequency> {
     private static final Set<FrequencyManager<?>> managers = new ObjectOpenHashSet<>();
 
     private final Map<Object, FREQ> frequencies = new LinkedHashMap<>();
+    /**
+     * Frequencies that need to be ticked every tick, see {@link Frequency#needsTicking()}.
+     */
+    private final Set<FREQ> activeFrequencies = new ReferenceLinkedOpenHashSet<>();
+    /**
+     * Time wheel of frequencies that need to be periodically ticked, see {@link Frequency#needsPeriodicTicking()}. Each tick the wheel advances by one slot, so each
+     * frequency gets ticked once per rotation, and the frequencies are spread out evenly across the slots so that they don't all get ticked at once.
+     */
+    private final List<Set<FREQ>> periodicWheel = new ArrayList<>();
+    private final Reference2IntMap<FREQ> periodicSlots = new Reference2IntOpenHashMap<>();
+    private int wheelPosition;
+    private int nextSlot;
+    /**
+     * Reused list of the frequencies being ticked, so that frequencies can be activated or deactivated while ticking.
+     */
+    private final List<FREQ> ticking = new ArrayList<>();
 
     /**
      * Note: This can and will be null on the client side
@@ -49,6 +71,7 @@ public class FrequencyManager<FREQ extends Frequency> {
 
     public FrequencyManager(FrequencyType<FREQ> frequencyType) {
         this.frequencyType = frequencyType;
+        periodicSlots.defaultReturnValue(-1);
         managers.add(this);
     }
 
@@ -82,7 +105,13 @@ public class FrequencyManager<FREQ extends Frequency> {
 
     public static void reset() {
         for (FrequencyManager<?> manager : managers) {
+            for (Frequency freq : manager.frequencies.values()) {
+                freq.setManager(null);
+            }
             manager.frequencies.clear();
+            manager.activeFrequencies.clear();
+            manager.periodicWheel.clear();
+            manager.periodicSlots.clear();
             manager.dataHandler = null;
         }
         loaded = false;
@@ -93,6 +122,7 @@ public class FrequencyManager<FREQ extends Frequency> {
         if (freq != null && freq.ownerMatches(ownerUUID)) {
             freq.onRemove();
             frequencies.remove(key);
+            untrack(freq);
             markDirty();
             return true;
         }
@@ -110,7 +140,7 @@ public class FrequencyManager<FREQ extends Frequency> {
         if (storedFreq == null) {
             freq.setValid(true);
             markDirty();
-            frequencies.put(freq.getKey(), freq);
+            track(freq);
             storedFreq = freq;
         }
         if (storedFreq.update(tile)) {
@@ -158,17 +188,85 @@ public class FrequencyManager<FREQ extends Frequency> {
         FREQ freq = frequencies.get(identity.key());
         if (freq == null) {
             freq = frequencyType.create(identity.key(), ownerUUID, identity.securityMode());
-            frequencies.put(identity.key(), freq);
+            track(freq);
             markDirty();
         }
         return freq;
     }
 
     public void addFrequency(FREQ freq) {
-        frequencies.put(freq.getKey(), freq);
+        track(freq);
         markDirty();
     }
 
+    private void track(FREQ freq) {
+        FREQ previous = frequencies.put(freq.getKey(), freq);
+        if (previous != null && previous != freq) {
+            untrack(previous);
+        }
+        freq.setManager(this);
+        if (freq.needsTicking()) {
+            activeFrequencies.add(freq);
+        }
+        if (freq.needsPeriodicTicking()) {
+            schedulePeriodic(freq);
+        }
+    }
+
+    private void untrack(FREQ freq) {
+        freq.setManager(null);
+        activeFrequencies.remove(freq);
+        unschedulePeriodic(freq);
+    }
+
+    @SuppressWarnings("unchecked")
+    void activate(Frequency freq) {
+        activeFrequencies.add((FREQ) freq);
+    }
+
+    @SuppressWarnings("unchecked")
+    void schedulePeriodic(Frequency freq) {
+        FREQ frequency = (FREQ) freq;
+        if (!periodicSlots.containsKey(frequency)) {
+            int slots = resizeWheel();
+            int slot = nextSlot % slots;
+            nextSlot = (slot + 1) % slots;
+            periodicSlots.put(frequency, slot);
+            periodicWheel.get(slot).add(frequency);
+        }
+    }
+
+    private void unschedulePeriodic(FREQ freq) {
+        int slot = periodicSlots.removeInt(freq);
+        if (slot != -1) {
+            periodicWheel.get(slot).remove(freq);
+        }
+    }
+
+    /**
+     * Ensures the time wheel matches the configured interval, redistributing the scheduled frequencies if the interval changed.
+     *
+     * @return The number of slots in the time wheel.
+     */
+    private int resizeWheel() {
+        int interval = MekanismConfig.general.frequencyPeriodicTickInterval.get();
+        if (periodicWheel.size() != interval) {
+            periodicWheel.clear();
+            for (int i = 0; i < interval; i++) {
+                periodicWheel.add(new ReferenceOpenHashSet<>());
+            }
+            wheelPosition = 0;
+            nextSlot = 0;
+            for (Reference2IntMap.Entry<FREQ> entry : periodicSlots.reference2IntEntrySet()) {
+                int slot = nextSlot;
+                nextSlot = (slot + 1) % interval;
+                entry.setValue(slot);
+                periodicWheel.get(slot).add(entry.getKey());
+            }
+        }
+        return interval;
+    }
+
     protected void markDirty() {
         if (dataHandler != null) {
             dataHandler.setDirty();
@@ -181,8 +279,39 @@ public class FrequencyManager<FREQ extends Frequency> {
 
     private void tickSelf() {
         boolean dirty = false;
-        for (FREQ freq : frequencies.values()) {
-            dirty |= freq.tick();
+        if (CommonWorldTickHandler.flushTagAndRecipeCaches) {
+            //Tick all our frequencies so that any that cache tags or recipes can refresh them
+            ticking.addAll(frequencies.values());
+        } else {
+            ticking.addAll(activeFrequencies);
+        }
+        if (!ticking.isEmpty()) {
+            for (FREQ freq : ticking) {
+                if (!freq.isRemoved()) {
+                    dirty |= freq.tick();
+                    if (!freq.needsTicking()) {
+                        activeFrequencies.remove(freq);
+                    }
+                }
+            }
+            ticking.clear();
+        }
+        if (!periodicSlots.isEmpty()) {
+            int slots = resizeWheel();
+            wheelPosition = (wheelPosition + 1) % slots;
+            Set<FREQ> due = periodicWheel.get(wheelPosition);
+            if (!due.isEmpty()) {
+                ticking.addAll(due);
+                for (FREQ freq : ticking) {
+                    if (!freq.isRemoved()) {
+                        dirty |= freq.tickPeriodic();
+                    }
+                    if (freq.isRemoved() || !freq.needsPeriodicTicking()) {
+                        unschedulePeriodic(freq);
+                    }
+                }
+                ticking.clear();
+            }
         }
         if (dirty) {
             markDirty();
@@ -205,7 +334,7 @@ public class FrequencyManager<FREQ extends Frequency> {
         public void syncManager() {
             if (loadedFrequencies != null) {
                 for (FREQ freq : loadedFrequencies) {
-                    frequencies.put(freq.getKey(), freq);
+                    track(freq);
                 }
                 ownerUUID = loadedOwner;
             }
@@ -0,0 +1,117 @@
+package mekanism.common.lib.math.voxel;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import mekanism.common.util.WorldUtils;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.chunk.status.ChunkStatus;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Caches the chunks and chunk sections looked up while accessing lots of positions in the same general area, such as during flood fills. On top of caching all the
+ * chunks that have been looked up like {@link WorldUtils#getTileEntity(Class, net.minecraft.world.level.LevelAccessor, Long2ObjectMap, BlockPos)} does, the most recently
+ * used chunk and section are remembered, as consecutive lookups are almost always in the same chunk, which lets most lookups skip the map entirely.
+ *
+ * @apiNote Chunks that are not loaded are never loaded, and lookups in them behave as if there is nothing there.
+ */
+public class ChunkSectionCache {
+
+    private final Level level;
+    private final Long2ObjectMap<ChunkAccess> chunkMap;
+
+    private long lastChunkPos = Long.MAX_VALUE;
+    @Nullable
+    private ChunkAccess lastChunk;
+    //Note: The section is only cached when the chunk it is in is loaded
+    private long lastSectionPos = Long.MAX_VALUE;
+    private LevelChunkSection lastSection;
+
+    public ChunkSectionCache(Level level) {
+        this(level, new Long2ObjectOpenHashMap<>());
+    }
+
+    /**
+     * @param chunkMap Cached chunk map to share with other lookups.
+     */
+    public ChunkSectionCache(Level level, Long2ObjectMap<ChunkAccess> chunkMap) {
+        this.level = level;
+        this.chunkMap = chunkMap;
+    }
+
+    public Level getLevel() {
+        return level;
+    }
+
+    public Long2ObjectMap<ChunkAccess> getChunkMap() {
+        return chunkMap;
+    }
+
+    /**
+     * @return The chunk containing the given position, or {@code null} if the position is out of bounds or the chunk isn't loaded.
+     */
+    @Nullable
+    public ChunkAccess getChunk(BlockPos pos) {
+        if (!level.isInWorldBounds(pos)) {
+            return null;
+        }
+        int chunkX = SectionPos.blockToSectionCoord(pos.getX());
+        int chunkZ = SectionPos.blockToSectionCoord(pos.getZ());
+        long combinedChunk = ChunkPos.asLong(chunkX, chunkZ);
+        if (combinedChunk != lastChunkPos) {
+            ChunkAccess chunk = chunkMap.get(combinedChunk);
+            if (chunk == null) {
+                //Get the chunk but don't force load it
+                chunk = level.getChunk(chunkX, chunkZ, ChunkStatus.FULL, false);
+                if (chunk != null) {
+                    chunkMap.put(combinedChunk, chunk);
+                }
+            }
+            //Note: We also remember when the chunk isn't loaded so that we don't keep checking it for every position in it
+            lastChunkPos = combinedChunk;
+            lastChunk = chunk;
+        }
+        return lastChunk;
+    }
+
+    /**
+     * @return The tile at the given position, or {@code null} if there is no tile or the position isn't loaded.
+     */
+    @Nullable
+    public BlockEntity getTileEntity(BlockPos pos) {
+        ChunkAccess chunk = getChunk(pos);
+        return chunk == null ? null : WorldUtils.getTileEntity(chunk, pos);
+    }
+
+    /**
+     * @return The tile at the given position, or {@code null} if there is no tile of the given type or the position isn't loaded.
+     */
+    @Nullable
+    public <T extends BlockEntity> T getTileEntity(Class<T> clazz, BlockPos pos) {
+        ChunkAccess chunk = getChunk(pos);
+        return chunk == null ? null : WorldUtils.getTileEntity(clazz, chunk, pos);
+    }
+
+    /**
+     * @return The block state at the given position, or {@code null} if the position isn't loaded.
+     */
+    @Nullable
+    public BlockState getBlockState(BlockPos pos) {
+        long sectionPos = SectionPos.asLong(pos);
+        if (sectionPos != lastSectionPos) {
+            ChunkAccess chunk = getChunk(pos);
+            if (chunk == null) {
+                return null;
+            }
+            lastSectionPos = sectionPos;
+            lastSection = chunk.getSection(chunk.getSectionIndex(pos.getY()));
+        }
+        return lastSection.getBlockState(SectionPos.sectionRelative(pos.getX()), SectionPos.sectionRelative(pos.getY()), SectionPos.sectionRelative(pos.getZ()));
+    }
+}
@@ -0,0 +1,142 @@
+package mekanism.common.lib.math.voxel;
+
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import java.util.NoSuchElementException;
+import mekanism.common.util.EnumUtils;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+
+/**
+ * Breadth first flood fill over block positions. Positions are stored packed into longs, both in the set of visited positions and in the queue of positions to visit, so
+ * that filling large areas doesn't have to create a {@link BlockPos} or queue node for every position.
+ */
+public class FloodFill {
+
+    private final LongSet visited;
+    private long[] queue;
+    private int head;
+    private int size;
+
+    public FloodFill() {
+        this(16);
+    }
+
+    /**
+     * @param expectedSize Roughly how many positions are expected to be visited.
+     */
+    public FloodFill(int expectedSize) {
+        visited = new LongOpenHashSet(expectedSize);
+        //Keep the queue capacity a power of two so wrapping around is a simple mask
+        queue = new long[Math.max(16, Integer.highestOneBit(Math.max(1, expectedSize / 4) - 1) << 1)];
+    }
+
+    /**
+     * Marks the given position as visited.
+     *
+     * @return {@code true} if the position had not been visited yet.
+     */
+    public boolean visit(long pos) {
+        return visited.add(pos);
+    }
+
+    public boolean isVisited(long pos) {
+        return visited.contains(pos);
+    }
+
+    public boolean isVisited(BlockPos pos) {
+        return visited.contains(pos.asLong());
+    }
+
+    /**
+     * @return How many positions have been visited.
+     */
+    public int visitedCount() {
+        return visited.size();
+    }
+
+    /**
+     * Adds the given position to the end of the queue of positions to visit.
+     */
+    public void enqueue(long pos) {
+        if (size == queue.length) {
+            long[] grown = new long[queue.length << 1];
+            //Unwrap the queue while copying it, so that the head ends up at the start of the new array
+            int firstPart = queue.length - head;
+            System.arraycopy(queue, head, grown, 0, firstPart);
+            System.arraycopy(queue, 0, grown, firstPart, head);
+            queue = grown;
+            head = 0;
+        }
+        queue[(head + size) & (queue.length - 1)] = pos;
+        size++;
+    }
+
+    public boolean hasQueued() {
+        return size > 0;
+    }
+
+    /**
+     * Removes and returns the position at the front of the queue.
+     *
+     * @throws NoSuchElementException if the queue is empty.
+     */
+    public long poll() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        long pos = queue[head];
+        head = (head + 1) & (queue.length - 1);
+        size--;
+        return pos;
+    }
+
+    /**
+     * Resets this flood fill so that it can be reused.
+     */
+    public void clear() {
+        visited.clear();
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Visits every position connected to the start position that passes the given check, stopping once the given number of positions have been visited. Positions that
+     * fail the check are not marked as visited, so they will be checked again if they are adjacent to multiple visited positions.
+     *
+     * @param start    Starting position, it is expected to have been checked already.
+     * @param maxCount Maximum number of positions to visit.
+     * @param checker  Checks if a position should be visited, the position passed to the checker is mutable and must not be stored.
+     *
+     * @return Number of positions visited, including the start position.
+     */
+    public int fill(BlockPos start, int maxCount, PositionChecker checker) {
+        long startPos = start.asLong();
+        visit(startPos);
+        enqueue(startPos);
+        BlockPos.MutableBlockPos from = new BlockPos.MutableBlockPos();
+        BlockPos.MutableBlockPos mutable = new BlockPos.MutableBlockPos();
+        while (hasQueued()) {
+            int visitedCount = visitedCount();
+            if (visitedCount >= maxCount) {
+                return visitedCount;
+            }
+            from.set(poll());
+            for (Direction side : EnumUtils.DIRECTIONS) {
+                mutable.setWithOffset(from, side);
+                long pos = mutable.asLong();
+                if (!isVisited(pos) && checker.check(mutable)) {
+                    visit(pos);
+                    enqueue(pos);
+                }
+            }
+        }
+        return visitedCount();
+    }
+
+    @FunctionalInterface
+    public interface PositionChecker {
+
+        boolean check(BlockPos pos);
+    }
+}
@@ -0,0 +1,204 @@
+package mekanism.common.lib.math.voxel;
+
+import java.util.AbstractSet;
+import java.util.BitSet;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Consumer;
+import net.minecraft.core.BlockPos;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Set of block positions within a fixed cuboid, stored as one bit per position in the cuboid instead of as boxed {@link BlockPos} objects. This makes contains checks
+ * simple index calculations, and keeps even the largest multiblocks at a few hundred bytes.
+ *
+ * @apiNote Positions outside the bounds the set was created with cannot be added, and are never contained.
+ */
+public class VoxelBitSet extends AbstractSet<BlockPos> {
+
+    private final int minX, minY, minZ;
+    private final int length, height, width;
+    private final BitSet bits;
+    private int size;
+    private int modCount;
+
+    public VoxelBitSet(VoxelCuboid bounds) {
+        BlockPos min = bounds.getMinPos();
+        //Copy the bounds as the cuboid is mutable
+        minX = min.getX();
+        minY = min.getY();
+        minZ = min.getZ();
+        length = bounds.length();
+        height = bounds.height();
+        width = bounds.width();
+        bits = new BitSet(length * height * width);
+    }
+
+    private int index(int x, int y, int z) {
+        int relX = x - minX, relY = y - minY, relZ = z - minZ;
+        if (relX < 0 || relX >= length || relY < 0 || relY >= height || relZ < 0 || relZ >= width) {
+            return -1;
+        }
+        return (relY * width + relZ) * length + relX;
+    }
+
+    private int index(BlockPos pos) {
+        return index(pos.getX(), pos.getY(), pos.getZ());
+    }
+
+    private BlockPos.MutableBlockPos setPos(BlockPos.MutableBlockPos pos, int index) {
+        int relX = index % length;
+        int rest = index / length;
+        return pos.set(minX + relX, minY + rest / width, minZ + rest % width);
+    }
+
+    @Override
+    public boolean add(BlockPos pos) {
+        int index = index(pos);
+        if (index == -1) {
+            throw new IllegalArgumentException("Position " + pos + " is outside of the bounds of this set");
+        } else if (bits.get(index)) {
+            return false;
+        }
+        bits.set(index);
+        size++;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (o instanceof BlockPos pos) {
+            int index = index(pos);
+            return index != -1 && bits.get(index);
+        }
+        return false;
+    }
+
+    /**
+     * Checks if the given position is contained in this set, without requiring a {@link BlockPos}.
+     */
+    public boolean contains(int x, int y, int z) {
+        int index = index(x, y, z);
+        return index != -1 && bits.get(index);
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (o instanceof BlockPos pos) {
+            int index = index(pos);
+            if (index != -1 && bits.get(index)) {
+                bits.clear(index);
+                size--;
+                modCount++;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void clear() {
+        if (size > 0) {
+            bits.clear();
+            size = 0;
+            modCount++;
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Iterates the positions in this set, reusing a single mutable position.
+     *
+     * @apiNote The position passed to the consumer must not be stored, and this set must not be modified while iterating.
+     */
+    public void forEachMutable(Consumer<? super BlockPos.MutableBlockPos> action) {
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        for (int index = bits.nextSetBit(0); index >= 0; index = bits.nextSetBit(index + 1)) {
+            action.accept(setPos(pos, index));
+        }
+    }
+
+    /**
+     * Iterates the given positions, without creating a position per element if the positions are stored in a {@link VoxelBitSet}.
+     *
+     * @apiNote The position passed to the consumer must not be stored, as it may be mutable.
+     */
+    public static void forEachPosition(Set<BlockPos> positions, Consumer<? super BlockPos> action) {
+        if (positions instanceof VoxelBitSet bitSet) {
+            bitSet.forEachMutable(action);
+        } else {
+            positions.forEach(action);
+        }
+    }
+
+    @NotNull
+    @Override
+    public Iterator<BlockPos> iterator() {
+        return new Iterator<>() {
+            //Note: As sets may be copied from, the returned positions have to be immutable, but we can at least reuse the position we calculate them with
+            private final BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+            private int next = bits.nextSetBit(0);
+            private int last = -1;
+            private int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return next >= 0;
+            }
+
+            @Override
+            public BlockPos next() {
+                if (next < 0) {
+                    throw new NoSuchElementException();
+                } else if (expectedModCount != modCount) {
+                    throw new ConcurrentModificationException();
+                }
+                last = next;
+                next = bits.nextSetBit(next + 1);
+                return setPos(cursor, last).immutable();
+            }
+
+            @Override
+            public void remove() {
+                if (last < 0) {
+                    throw new IllegalStateException();
+                } else if (expectedModCount != modCount) {
+                    throw new ConcurrentModificationException();
+                }
+                bits.clear(last);
+                size--;
+                last = -1;
+                expectedModCount = ++modCount;
+            }
+        };
+    }
+
+    @Override
+    public int hashCode() {
+        //Matches the hash code of any other set containing the same positions, without having to create the positions
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        int hash = 0;
+        for (int index = bits.nextSetBit(0); index >= 0; index = bits.nextSetBit(index + 1)) {
+            hash += setPos(pos, index).hashCode();
+        }
+        return hash;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        } else if (o instanceof VoxelBitSet other && minX == other.minX && minY == other.minY && minZ == other.minZ && length == other.length &&
+                   height == other.height && width == other.width) {
+            return bits.equals(other.bits);
+        }
+        return super.equals(o);
+    }
+}
@@ -1,9 +1,9 @@
 package mekanism.common.lib.multiblock;
 
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
-import java.util.Optional;
 import java.util.UUID;
 import mekanism.common.MekanismLang;
+import mekanism.common.lib.math.voxel.ChunkSectionCache;
 import mekanism.common.lib.math.voxel.IShape;
 import mekanism.common.lib.math.voxel.VoxelCuboid;
 import mekanism.common.lib.math.voxel.VoxelCuboid.WallRelative;
@@ -11,7 +11,6 @@ import mekanism.common.lib.multiblock.FormationProtocol.CasingType;
 import mekanism.common.lib.multiblock.FormationProtocol.FormationResult;
 import mekanism.common.lib.multiblock.FormationProtocol.StructureRequirement;
 import mekanism.common.lib.multiblock.IValveHandler.ValveData;
-import mekanism.common.util.WorldUtils;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.world.level.Level;
@@ -50,11 +49,12 @@ public abstract class CuboidStructureValidator<T extends MultiblockData> impleme
     public FormationResult validate(FormationProtocol<T> ctx, Long2ObjectMap<ChunkAccess> chunkMap) {
         BlockPos min = cuboid.getMinPos(), max = cuboid.getMaxPos();
         BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos();
+        ChunkSectionCache chunkCache = new ChunkSectionCache(world, chunkMap);
         for (int x = min.getX(); x <= max.getX(); x++) {
             for (int y = min.getY(); y <= max.getY(); y++) {
                 for (int z = min.getZ(); z <= max.getZ(); z++) {
                     mutablePos.set(x, y, z);
-                    FormationResult ret = validateNode(ctx, chunkMap, mutablePos);
+                    FormationResult ret = validateNode(ctx, chunkCache, mutablePos);
                     if (!ret.isFormed()) {
                         return ret;
                     }
@@ -64,16 +64,40 @@ public abstract class CuboidStructureValidator<T extends MultiblockData> impleme
         return FormationResult.SUCCESS;
     }
 
+    /**
+     * Whether this validator can reform a previously formed structure by only validating the inner positions that changed, see
+     * {@link FormationProtocol#doIncrementalUpdate}. This is only safe if the validator doesn't gather any information while validating the casing or the unchanged
+     * inner nodes, and instead gets everything it needs in {@link #postcheck(MultiblockData, Long2ObjectMap)} from the formed structure.
+     */
+    public boolean supportsIncrementalRebuild() {
+        return false;
+    }
+
+    /**
+     * Validates only the given positions, skipping any that are part of the casing of the structure.
+     */
+    public FormationResult validateInnerNodes(FormationProtocol<T> ctx, Long2ObjectMap<ChunkAccess> chunkMap, Iterable<BlockPos> positions) {
+        ChunkSectionCache chunkCache = new ChunkSectionCache(world, chunkMap);
+        for (BlockPos pos : positions) {
+            if (!getStructureRequirement(pos).isCasing()) {
+                FormationResult ret = validateNode(ctx, chunkCache, pos);
+                if (!ret.isFormed()) {
+                    return ret;
+                }
+            }
+        }
+        return FormationResult.SUCCESS;
+    }
+
     /**
      * @param pos Mutable BlockPos
      */
-    protected FormationResult validateNode(FormationProtocol<T> ctx, Long2ObjectMap<ChunkAccess> chunkMap, BlockPos pos) {
-        Optional<BlockState> optionalState = WorldUtils.getBlockState(world, chunkMap, pos);
-        if (optionalState.isEmpty()) {
+    protected FormationResult validateNode(FormationProtocol<T> ctx, ChunkSectionCache chunkCache, BlockPos pos) {
+        BlockState state = chunkCache.getBlockState(pos);
+        if (state == null) {
             //If the position is not in a loaded chunk or out of bounds of the world, fail
             return FormationResult.FAIL;
         }
-        BlockState state = optionalState.get();
         StructureRequirement requirement = getStructureRequirement(pos);
         if (requirement.isCasing()) {
             CasingType type = getCasingType(state);
@@ -81,7 +105,7 @@ public abstract class CuboidStructureValidator<T extends MultiblockData> impleme
             if ((requirement != StructureRequirement.IGNORED || ret.isNoIgnore()) && !ret.isFormed()) {
                 return ret;
             }
-        } else if (!validateInner(state, chunkMap, pos)) {
+        } else if (!validateInner(state, chunkCache.getChunkMap(), pos)) {
             return FormationResult.fail(MekanismLang.MULTIBLOCK_INVALID_INNER, pos);
         } else if (!state.isAir()) {
             //Make sure the position is immutable before we store it
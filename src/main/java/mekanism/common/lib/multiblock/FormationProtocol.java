@@ -3,10 +3,9 @@ package mekanism.common.lib.multiblock;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.Map;
-import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
 import mekanism.api.chemical.gas.GasStack;
@@ -15,11 +14,13 @@ import mekanism.api.radiation.IRadiationManager;
 import mekanism.api.text.EnumColor;
 import mekanism.api.text.ILangEntry;
 import mekanism.common.MekanismLang;
+import mekanism.common.lib.math.voxel.ChunkSectionCache;
+import mekanism.common.lib.math.voxel.FloodFill;
+import mekanism.common.lib.math.voxel.VoxelBitSet;
+import mekanism.common.lib.math.voxel.VoxelCuboid.CuboidRelative;
 import mekanism.common.lib.multiblock.IValveHandler.ValveData;
 import mekanism.common.lib.multiblock.MultiblockCache.RejectContents;
-import mekanism.common.util.EnumUtils;
 import net.minecraft.core.BlockPos;
-import net.minecraft.core.Direction;
 import net.minecraft.core.GlobalPos;
 import net.minecraft.network.chat.Component;
 import net.minecraft.world.entity.item.ItemEntity;
@@ -28,6 +29,7 @@ import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.chunk.ChunkAccess;
 import net.minecraft.world.phys.Vec3;
+import org.jetbrains.annotations.Nullable;
 
 public class FormationProtocol<T extends MultiblockData> {
 
@@ -40,8 +42,14 @@ public class FormationProtocol<T extends MultiblockData> {
     private final Structure structure;
     private final MultiblockManager<T> manager;
 
-    public final Set<BlockPos> locations = new ObjectOpenHashSet<>();
-    public final Set<BlockPos> internalLocations = new ObjectOpenHashSet<>();
+    /**
+     * Positions of the casing blocks of the structure. Only initialized once the bounds of the structure are known, right before validation.
+     */
+    public Set<BlockPos> locations = Collections.emptySet();
+    /**
+     * Positions of the non-air inner blocks of the structure. Only initialized once the bounds of the structure are known, right before validation.
+     */
+    public Set<BlockPos> internalLocations = Collections.emptySet();
     public final Set<ValveData> valves = new ObjectOpenHashSet<>();
     public final Map<UUID, MultiblockCache<T>> idsFound = new HashMap<>();
 
@@ -57,8 +65,44 @@ public class FormationProtocol<T extends MultiblockData> {
             return fail(FormationResult.FAIL);
         }
 
+        //Store the positions relative to the bounds of the structure, rather than as boxed positions
+        locations = new VoxelBitSet(structure.getBounds());
+        internalLocations = new VoxelBitSet(structure.getBounds());
         Long2ObjectMap<ChunkAccess> chunkMap = new Long2ObjectOpenHashMap<>();
-        FormationResult result = validator.validate(this, chunkMap);
+        return finishStructure(structure, validator, chunkMap, validator.validate(this, chunkMap));
+    }
+
+    private StructureResult<T> rebuildStructure(CuboidStructureValidator<T> validator, MultiblockData previous, @Nullable UUID previousID,
+          Set<BlockPos> changedPositions) {
+        T structure = pointer.createMultiblock();
+        if (!structure.setShape(validator.getShape())) {
+            return fail(FormationResult.FAIL);
+        }
+
+        locations = previous.locations;
+        valves.addAll(previous.valves);
+        if (previousID != null) {
+            MultiblockCache<T> cache = manager.getCache(previousID);
+            if (cache != null) {
+                idsFound.put(previousID, cache);
+            }
+        }
+        //Start with the inner blocks we had before, and only recheck the positions that changed. Any changed position that is still
+        // a valid non-air inner block gets added back when it is validated
+        internalLocations = new VoxelBitSet(structure.getBounds());
+        internalLocations.addAll(previous.internalLocations);
+        VoxelBitSet toCheck = new VoxelBitSet(structure.getBounds());
+        for (BlockPos changedPosition : changedPositions) {
+            if (structure.getBounds().getRelativeLocation(changedPosition) != CuboidRelative.OUTSIDE) {
+                toCheck.add(changedPosition);
+                internalLocations.remove(changedPosition);
+            }
+        }
+        Long2ObjectMap<ChunkAccess> chunkMap = new Long2ObjectOpenHashMap<>();
+        return finishStructure(structure, validator, chunkMap, validator.validateInnerNodes(this, chunkMap, toCheck));
+    }
+
+    private StructureResult<T> finishStructure(T structure, IStructureValidator<T> validator, Long2ObjectMap<ChunkAccess> chunkMap, FormationResult result) {
         if (!result.isFormed()) {
             return fail(result);
         }
@@ -75,12 +119,37 @@ public class FormationProtocol<T extends MultiblockData> {
      */
     public FormationResult doUpdate() {
         IStructureValidator<T> validator = manager.createValidator();
-        Level world = pointer.getLevel();
-        validator.init(world, manager, structure);
+        validator.init(pointer.getLevel(), manager, structure);
         if (!validator.precheck()) {
             return FormationResult.FAIL;
         }
-        StructureResult<T> result = buildStructure(validator);
+        return applyResult(buildStructure(validator));
+    }
+
+    /**
+     * Reforms a structure that was formed before some of the blocks inside it changed, only rechecking the inner positions that changed instead of every position in
+     * the structure. Validators that don't {@link CuboidStructureValidator#supportsIncrementalRebuild() support} this fully rebuild the structure instead.
+     *
+     * @param previous         The previously formed multiblock.
+     * @param previousID       The inventory id of the previously formed multiblock.
+     * @param changedPositions Positions inside the structure that changed since it was formed.
+     *
+     * @implNote The casing of the structure can't have changed, as removing any part of it invalidates the structure, so the bounds, casing locations, and valves of the
+     * previous multiblock are reused.
+     */
+    public FormationResult doIncrementalUpdate(MultiblockData previous, @Nullable UUID previousID, Set<BlockPos> changedPositions) {
+        IStructureValidator<T> validator = manager.createValidator();
+        if (!(validator instanceof CuboidStructureValidator<T> cuboidValidator) || !cuboidValidator.supportsIncrementalRebuild()) {
+            //Validators we don't know the shape of, or that gather information while validating every node, always have to fully rebuild the structure
+            return doUpdate();
+        }
+        validator.init(pointer.getLevel(), manager, structure);
+        cuboidValidator.loadCuboid(previous.getBounds());
+        return applyResult(rebuildStructure(cuboidValidator, previous, previousID, changedPositions));
+    }
+
+    private FormationResult applyResult(StructureResult<T> result) {
+        Level world = pointer.getLevel();
         T structureFound = result.structureFound;
 
         BlockPos pointerPos = pointer.getBlockPos();
@@ -160,39 +229,18 @@ public class FormationProtocol<T extends MultiblockData> {
     @FunctionalInterface
     public interface FormationChecker<NODE> {
 
-        boolean check(Level level, Long2ObjectMap<ChunkAccess> chunkMap, BlockPos start, NODE node, BlockPos toCheck);
+        boolean check(ChunkSectionCache chunkCache, BlockPos start, NODE node, BlockPos toCheck);
     }
 
-    public static <NODE> int explore(Level level, Long2ObjectMap<ChunkAccess> chunkMap, BlockPos start, NODE node, FormationChecker<NODE> checker) {
-        return explore(level, chunkMap, start, node, checker, MAX_SIZE * MAX_SIZE * MAX_SIZE);
+    public static <NODE> int explore(ChunkSectionCache chunkCache, BlockPos start, NODE node, FormationChecker<NODE> checker) {
+        return explore(chunkCache, start, node, checker, MAX_SIZE * MAX_SIZE * MAX_SIZE);
     }
 
-    public static <NODE> int explore(Level level, Long2ObjectMap<ChunkAccess> chunkMap, BlockPos start, NODE node, FormationChecker<NODE> checker, int maxCount) {
-        if (!checker.check(level, chunkMap, start, node, start)) {
+    public static <NODE> int explore(ChunkSectionCache chunkCache, BlockPos start, NODE node, FormationChecker<NODE> checker, int maxCount) {
+        if (!checker.check(chunkCache, start, node, start)) {
             return 0;
         }
-
-        BlockPos.MutableBlockPos mutable = new BlockPos.MutableBlockPos();
-        Queue<BlockPos> openSet = new LinkedList<>();
-        Set<BlockPos> traversed = new ObjectOpenHashSet<>();
-        openSet.add(start);
-        traversed.add(start);
-        while (!openSet.isEmpty()) {
-            BlockPos ptr = openSet.poll();
-            int traversedSize = traversed.size();
-            if (traversedSize >= maxCount) {
-                return traversedSize;
-            }
-            for (Direction side : EnumUtils.DIRECTIONS) {
-                mutable.setWithOffset(ptr, side);
-                if (!traversed.contains(mutable) && checker.check(level, chunkMap, start, node, mutable)) {
-                    BlockPos offset = mutable.immutable();
-                    openSet.add(offset);
-                    traversed.add(offset);
-                }
-            }
-        }
-        return traversed.size();
+        return new FloodFill().fill(start, maxCount, pos -> checker.check(chunkCache, start, node, pos));
     }
 
     public static class FormationResult {
@@ -37,6 +37,7 @@ import mekanism.common.integration.computer.annotation.ComputerMethod;
 import mekanism.common.integration.energy.BlockEnergyCapabilityCache;
 import mekanism.common.inventory.container.sync.dynamic.ContainerSync;
 import mekanism.common.lib.math.voxel.IShape;
+import mekanism.common.lib.math.voxel.VoxelBitSet;
 import mekanism.common.lib.math.voxel.VoxelCuboid;
 import mekanism.common.lib.math.voxel.VoxelCuboid.CuboidRelative;
 import mekanism.common.lib.multiblock.FormationProtocol.StructureRequirement;
@@ -211,18 +212,18 @@ public class MultiblockData implements IMekanismInventory, IMekanismFluidHandler
     }
 
     public void onCreated(Level world) {
-        for (BlockPos pos : internalLocations) {
+        VoxelBitSet.forEachPosition(internalLocations, pos -> {
             BlockEntity tile = WorldUtils.getTileEntity(world, pos);
             if (tile instanceof IInternalMultiblock internalMultiblock) {
                 internalMultiblock.setMultiblock(this);
             }
-        }
-        for (BlockPos pos : locations) {
+        });
+        VoxelBitSet.forEachPosition(locations, pos -> {
             BlockEntity tile = WorldUtils.getTileEntity(world, pos);
             if (tile instanceof IStructuralMultiblock structuralMultiblock) {
                 structuralMultiblock.multiblockFormed(this);
             }
-        }
+        });
 
         if (shouldCap(CacheSubstance.FLUID)) {
             for (IExtendedFluidTank tank : getFluidTanks(null)) {
@@ -274,18 +275,18 @@ public class MultiblockData implements IMekanismInventory, IMekanismFluidHandler
     }
 
     public void remove(Level world, Structure oldStructure) {
-        for (BlockPos pos : internalLocations) {
+        VoxelBitSet.forEachPosition(internalLocations, pos -> {
             BlockEntity tile = WorldUtils.getTileEntity(world, pos);
             if (tile instanceof IInternalMultiblock internalMultiblock) {
                 internalMultiblock.setMultiblock(null);
             }
-        }
-        for (BlockPos pos : locations) {
+        });
+        VoxelBitSet.forEachPosition(locations, pos -> {
             BlockEntity tile = WorldUtils.getTileEntity(world, pos);
             if (tile instanceof IStructuralMultiblock structuralMultiblock) {
                 structuralMultiblock.multiblockUnformed(oldStructure);
             }
-        }
+        });
         inventoryID = null;
         formed = false;
         recheckStructure = false;
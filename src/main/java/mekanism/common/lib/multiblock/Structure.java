@@ -3,25 +3,25 @@ package mekanism.common.lib.multiblock;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectRBTreeMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectSortedMap;
-import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
-import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.UUID;
 import java.util.function.ToIntFunction;
 import mekanism.common.lib.math.voxel.BlockPosBuilder;
+import mekanism.common.lib.math.voxel.ChunkSectionCache;
 import mekanism.common.lib.math.voxel.VoxelPlane;
 import mekanism.common.lib.multiblock.FormationProtocol.FormationResult;
-import mekanism.common.util.WorldUtils;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.Vec3i;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
-import net.minecraft.world.level.chunk.ChunkAccess;
+import org.jetbrains.annotations.Nullable;
 
 public class Structure {
 
@@ -40,6 +40,15 @@ public class Structure {
     private MultiblockData multiblockData;
     private IMultiblock<?> controller;
 
+    /**
+     * The multiblock this structure formed before blocks inside it changed, used to only revalidate the inside of the structure.
+     */
+    @Nullable
+    private MultiblockData previousData;
+    @Nullable
+    private UUID previousInventoryID;
+    private final Set<BlockPos> changedInnerPositions = new ObjectOpenHashSet<>();
+
     private Structure() {
     }
 
@@ -97,6 +106,7 @@ public class Structure {
     public void markForUpdate(Level world, boolean invalidate) {
         updateTimestamp = world.getGameTime();
         didUpdate = false;
+        clearInnerChanges();
         if (invalidate) {
             invalidate(world);
         } else {
@@ -104,6 +114,31 @@ public class Structure {
         }
     }
 
+    /**
+     * Marks that a block inside this structure changed. Unlike {@link #markForUpdate(Level, boolean)} this keeps the nodes of the structure, and if the structure was
+     * formed, only the inside of the structure gets revalidated, as the shape of the structure can't have changed.
+     */
+    public void markInnerForUpdate(Level world, BlockPos pos) {
+        updateTimestamp = world.getGameTime();
+        didUpdate = false;
+        if (multiblockData != null && multiblockData.isFormed()) {
+            changedInnerPositions.clear();
+            previousData = multiblockData;
+            //Capture the id before removing the multiblock, as removing it clears the id
+            previousInventoryID = multiblockData.inventoryID;
+            removeMultiblock(world);
+        }
+        if (previousData != null) {
+            changedInnerPositions.add(pos.immutable());
+        }
+    }
+
+    private void clearInnerChanges() {
+        previousData = null;
+        previousInventoryID = null;
+        changedInnerPositions.clear();
+    }
+
     public <TILE extends BlockEntity & IMultiblockBase> void doImmediateUpdate(TILE tile, boolean tryValidate) {
         //Pretend it got marked for update last tick so that when we call tick it will update
         updateTimestamp = tile.getLevel().getGameTime() - 1;
@@ -118,14 +153,23 @@ public class Structure {
             runUpdate(tile);
         }
         if (tryValidate && !isValid()) {
-            validate(tile, new Long2ObjectOpenHashMap<>());
+            validate(tile, new ChunkSectionCache(tile.getLevel()));
         }
     }
 
     public <TILE extends BlockEntity & IMultiblockBase> FormationResult runUpdate(TILE tile) {
         if (getController() != null && multiblockData == null) {
-            return getController().createFormationProtocol().doUpdate();
+            FormationProtocol<?> protocol = getController().createFormationProtocol();
+            if (previousData != null) {
+                MultiblockData previous = previousData;
+                UUID previousID = previousInventoryID;
+                Set<BlockPos> changed = new ObjectOpenHashSet<>(changedInnerPositions);
+                clearInnerChanges();
+                return protocol.doIncrementalUpdate(previous, previousID, changed);
+            }
+            return protocol.doUpdate();
         }
+        clearInnerChanges();
         removeMultiblock(tile.getLevel());
         return FormationResult.FAIL;
     }
@@ -210,6 +254,7 @@ public class Structure {
     }
 
     public void invalidate(Level world) {
+        clearInnerChanges();
         removeMultiblock(world);
         valid = false;
     }
@@ -229,7 +274,7 @@ public class Structure {
         return nodes.size();
     }
 
-    private static void validate(IMultiblockBase node, Long2ObjectMap<ChunkAccess> chunkMap) {
+    private static void validate(IMultiblockBase node, ChunkSectionCache chunkCache) {
         if (node instanceof IMultiblock<?> multiblock) {
             if (!multiblock.getStructure().isValid()) {
                 // only validate if necessary; this will already be valid if we recursively call validate()
@@ -239,11 +284,11 @@ public class Structure {
         } else if (node instanceof IStructuralMultiblock) {
             node.resetStructure(null);
         }
-        FormationProtocol.explore(node.getLevel(), chunkMap, node.getBlockPos(), node, (level, chunks, start, n, pos) -> {
+        FormationProtocol.explore(chunkCache, node.getBlockPos(), node, (cache, start, n, pos) -> {
             if (pos.equals(start)) {
                 return true;
             }
-            BlockEntity tile = WorldUtils.getTileEntity(level, chunks, pos);
+            BlockEntity tile = cache.getTileEntity(pos);
             if (tile instanceof IMultiblockBase adj && isCompatible(n, adj)) {
                 boolean didMerge = false;
                 if (n instanceof IStructuralMultiblock structuralN && adj instanceof IStructuralMultiblock structuralAdj) {
@@ -256,7 +301,7 @@ public class Structure {
                 } else if (n instanceof IStructuralMultiblock) {
                     // validate from the perspective of the IMultiblock
                     if (!hasStructure(n, (IMultiblock<?>) adj)) {
-                        validate(adj, chunks);
+                        validate(adj, cache);
                     }
                     return false;
                 } else if (adj instanceof IStructuralMultiblock) {
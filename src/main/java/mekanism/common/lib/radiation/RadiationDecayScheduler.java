@@ -0,0 +1,67 @@
+package mekanism.common.lib.radiation;
+
+import java.util.ArrayList;
+import java.util.List;
+import mekanism.api.annotations.NothingNullByDefault;
+import net.minecraft.SharedConstants;
+
+/**
+ * Spreads decaying radiation sources out across the ticks of a second. Each source is assigned to one bucket per tick based on its position, and each tick only the
+ * sources in the next bucket decay. This means every source still decays once a second, but without having to process all the sources in a single tick.
+ */
+@NothingNullByDefault
+class RadiationDecayScheduler {
+
+    private static final int BUCKETS = SharedConstants.TICKS_PER_SECOND;
+
+    private final List<List<RadiationSource>> buckets = new ArrayList<>(BUCKETS);
+    private int nextBucket;
+
+    RadiationDecayScheduler() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets.add(new ArrayList<>());
+        }
+    }
+
+    void add(RadiationSource source) {
+        getBucket(source).add(source);
+    }
+
+    void remove(RadiationSource source) {
+        List<RadiationSource> bucket = getBucket(source);
+        //Note: We compare by identity as radiation sources compare their magnitudes when checking equality
+        for (int i = 0, size = bucket.size(); i < size; i++) {
+            if (bucket.get(i) == source) {
+                bucket.remove(i);
+                break;
+            }
+        }
+    }
+
+    void clear() {
+        for (List<RadiationSource> bucket : buckets) {
+            bucket.clear();
+        }
+        nextBucket = 0;
+    }
+
+    /**
+     * Gets the sources that should decay this tick and advances to the next bucket. Sources that get removed should be removed from the returned list directly.
+     */
+    List<RadiationSource> nextBucket() {
+        List<RadiationSource> bucket = buckets.get(nextBucket);
+        nextBucket = (nextBucket + 1) % BUCKETS;
+        return bucket;
+    }
+
+    /**
+     * @return {@code true} if all the buckets have been processed since the last time the scheduler wrapped around.
+     */
+    boolean finishedCycle() {
+        return nextBucket == 0;
+    }
+
+    private List<RadiationSource> getBucket(RadiationSource source) {
+        return buckets.get(Math.floorMod(source.getPos().hashCode(), BUCKETS));
+    }
+}
@@ -3,9 +3,11 @@ package mekanism.common.lib.radiation;
 import com.google.common.collect.HashBasedTable;
 import com.google.common.collect.Table;
 import com.google.common.collect.Tables;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -33,6 +35,7 @@ import mekanism.common.capabilities.Capabilities;
 import mekanism.common.config.MekanismConfig;
 import mekanism.common.lib.MekanismSavedData;
 import mekanism.common.lib.collection.HashList;
+import mekanism.common.lib.radiation.RadiationSourceIndex.SourceChunk;
 import mekanism.common.network.to_client.radiation.PacketEnvironmentalRadiationData;
 import mekanism.common.network.to_client.radiation.PacketPlayerRadiationData;
 import mekanism.common.registries.MekanismDamageTypes;
@@ -65,6 +68,7 @@ import net.minecraft.world.entity.EquipmentSlot;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.neoforge.event.tick.EntityTickEvent;
@@ -107,7 +111,6 @@ public class RadiationManager implements IRadiationManager {
     }
 
     private static final String DATA_HANDLER_NAME = "radiation_manager";
-    private static final RandomSource RAND = RandomSource.create();
 
     public static final double BASELINE = 0.000_000_100; // 100 nSv/h
     public static final double MIN_MAGNITUDE = 0.000_010; // 10 uSv/h
@@ -116,6 +119,20 @@ public class RadiationManager implements IRadiationManager {
 
     private final Table<Chunk3D, GlobalPos, RadiationSource> radiationTable = HashBasedTable.create();
     private final Table<Chunk3D, GlobalPos, IRadiationSource> radiationView = Tables.unmodifiableTable(radiationTable);
+    /**
+     * Index of the sources in {@link #radiationTable} by the chunks they can expose. Must be kept in sync with the table whenever sources are added or removed.
+     */
+    private final RadiationSourceIndex sourceIndex = new RadiationSourceIndex();
+    private final RadiationDecayScheduler decayScheduler = new RadiationDecayScheduler();
+    /**
+     * Chunks where sources were added, removed, or changed magnitude since the last tick, and that should be synced to nearby players at the end of the tick.
+     */
+    private final Map<ResourceKey<Level>, LongSet> changedChunks = new Object2ObjectOpenHashMap<>();
+    /**
+     * Chunks where sources decayed since the last time all the sources finished decaying. As sources decay a tiny bit at a time, we only sync these once a second.
+     */
+    private final Map<ResourceKey<Level>, LongSet> decayedChunks = new Object2ObjectOpenHashMap<>();
+    private RadiationTickMetrics lastTickMetrics = RadiationTickMetrics.NONE;
     private final Map<ResourceLocation, List<Meltdown>> meltdowns = new Object2ObjectOpenHashMap<>();
 
     private final Map<UUID, PreviousRadiationData> playerEnvironmentalExposureMap = new Object2ObjectOpenHashMap<>();
@@ -188,19 +205,21 @@ public class RadiationManager implements IRadiationManager {
     public void removeRadiationSources(Chunk3D chunk) {
         Map<GlobalPos, RadiationSource> chunkSources = radiationTable.row(chunk);
         if (!chunkSources.isEmpty()) {
+            for (RadiationSource source : chunkSources.values()) {
+                onSourceRemoved(source);
+            }
             chunkSources.clear();
             markDirty();
-            updateClientRadiationForAll(chunk.dimension);
         }
     }
 
     @Override
     public void removeRadiationSource(GlobalPos pos) {
         Chunk3D chunk = new Chunk3D(pos);
-        if (radiationTable.contains(chunk, pos)) {
-            radiationTable.remove(chunk, pos);
+        RadiationSource source = radiationTable.remove(chunk, pos);
+        if (source != null) {
+            onSourceRemoved(source);
             markDirty();
-            updateClientRadiationForAll(pos.dimension());
         }
     }
 
@@ -225,30 +244,37 @@ public class RadiationManager implements IRadiationManager {
         }
         double level = BASELINE;
         double maxMagnitude = BASELINE;
-        Chunk3D center = new Chunk3D(pos);
-        int radius = MekanismConfig.general.radiationChunkCheckRadius.get();
+        int radius = validateSourceIndex();
         // we only compute exposure when within the MAX_RANGE bounds
         double maxRange = Mth.square(radius * 16);
-        int minX = center.x - radius;
-        int maxX = center.x + radius;
-        int minZ = center.z - radius;
-        int maxZ = center.z + radius;
-        //Note: We inline the logic from Chunk3D#expand to avoid allocating a new hash set each time
-        for (int i = minX; i <= maxX; i++) {
-            for (int j = minZ; j <= maxZ; j++) {
-                Chunk3D chunk = new Chunk3D(center.dimension, i, j);
-                for (Map.Entry<GlobalPos, RadiationSource> entry : radiationTable.row(chunk).entrySet()) {
-                    if (entry.getKey().pos().distSqr(pos.pos()) <= maxRange) {
-                        RadiationSource source = entry.getValue();
-                        level += computeExposure(pos, source);
-                        maxMagnitude = Math.max(maxMagnitude, source.getMagnitude());
-                    }
+        //Note: The index only contains the chunks with sources that are within the check radius of the chunk the position is in
+        List<SourceChunk> exposingChunks = sourceIndex.getExposingChunks(pos);
+        for (int i = 0, chunks = exposingChunks.size(); i < chunks; i++) {
+            List<RadiationSource> sources = exposingChunks.get(i).sources();
+            for (int j = 0, size = sources.size(); j < size; j++) {
+                RadiationSource source = sources.get(j);
+                if (source.getPos().pos().distSqr(pos.pos()) <= maxRange) {
+                    level += computeExposure(pos, source);
+                    maxMagnitude = Math.max(maxMagnitude, source.getMagnitude());
                 }
             }
         }
         return new LevelAndMaxMagnitude(level, maxMagnitude);
     }
 
+    /**
+     * Rebuilds the source index if the radius that sources are checked in has changed since it was built.
+     *
+     * @return The current check radius.
+     */
+    private int validateSourceIndex() {
+        int radius = MekanismConfig.general.radiationChunkCheckRadius.get();
+        if (sourceIndex.getRadius() != radius) {
+            sourceIndex.rebuild(radius, radiationTable.values());
+        }
+        return radius;
+    }
+
     @Override
     public void radiate(GlobalPos pos, double magnitude) {
         if (!isRadiationEnabled()) {
@@ -257,13 +283,35 @@ public class RadiationManager implements IRadiationManager {
         Map<GlobalPos, RadiationSource> radiationSourceMap = radiationTable.row(new Chunk3D(pos));
         RadiationSource src = radiationSourceMap.get(pos);
         if (src == null) {
-            radiationSourceMap.put(pos, new RadiationSource(pos, magnitude));
+            //Make sure the index is up to date before adding the source, so that we don't add it twice if the index needs to be rebuilt
+            validateSourceIndex();
+            src = new RadiationSource(pos, magnitude);
+            radiationSourceMap.put(pos, src);
+            onSourceAdded(src);
         } else {
             src.radiate(magnitude);
+            //Update radiation levels for players nearby at the end of the tick
+            markChunkChanged(changedChunks, pos);
         }
         markDirty();
-        //Update radiation levels immediately
-        updateClientRadiationForAll(pos.dimension());
+    }
+
+    private void onSourceAdded(RadiationSource source) {
+        sourceIndex.add(source);
+        decayScheduler.add(source);
+        //Update radiation levels for players nearby at the end of the tick
+        markChunkChanged(changedChunks, source.getPos());
+    }
+
+    private void onSourceRemoved(RadiationSource source) {
+        sourceIndex.remove(source);
+        decayScheduler.remove(source);
+        //Update radiation levels for players nearby at the end of the tick
+        markChunkChanged(changedChunks, source.getPos());
+    }
+
+    private static void markChunkChanged(Map<ResourceKey<Level>, LongSet> chunks, GlobalPos pos) {
+        chunks.computeIfAbsent(pos.dimension(), dimension -> new LongOpenHashSet()).add(ChunkPos.asLong(pos.pos()));
     }
 
     @Override
@@ -319,6 +367,10 @@ public class RadiationManager implements IRadiationManager {
     public void clearSources() {
         if (!radiationTable.isEmpty()) {
             radiationTable.clear();
+            sourceIndex.clear();
+            decayScheduler.clear();
+            changedChunks.clear();
+            decayedChunks.clear();
             markDirty();
             updateClientRadiationForAll();
         }
@@ -342,26 +394,70 @@ public class RadiationManager implements IRadiationManager {
         return resistance;
     }
 
-    private void updateClientRadiationForAll(ResourceKey<Level> dimension) {
+    private void updateClientRadiationForAll() {
         MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
         if (server != null) {
             //Validate it is not null in case we somehow are being called from the client or at some other unexpected time
             for (ServerPlayer player : server.getPlayerList().getPlayers()) {
-                if (player.level().dimension() == dimension) {
-                    updateClientRadiation(player);
-                }
+                updateClientRadiation(player);
             }
         }
     }
 
-    private void updateClientRadiationForAll() {
+    /**
+     * Updates the environmental radiation of any players that are close enough to be affected by chunks where radiation changed.
+     *
+     * @param syncDecayed {@code true} if all sources have finished decaying since the last time this was called with {@code true}, and players near the decayed
+     *                    sources should also be updated.
+     *
+     * @return The number of players that were updated.
+     */
+    private int updateChangedClientRadiation(boolean syncDecayed) {
+        if (changedChunks.isEmpty() && !syncDecayed) {
+            return 0;
+        }
+        int updated = 0;
         MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
         if (server != null) {
             //Validate it is not null in case we somehow are being called from the client or at some other unexpected time
+            int radius = MekanismConfig.general.radiationChunkCheckRadius.get();
             for (ServerPlayer player : server.getPlayerList().getPlayers()) {
-                updateClientRadiation(player);
+                if (needsClientRadiationUpdate(player, radius, syncDecayed)) {
+                    updateClientRadiation(player);
+                    updated++;
+                }
+            }
+        }
+        changedChunks.clear();
+        if (syncDecayed) {
+            decayedChunks.clear();
+        }
+        return updated;
+    }
+
+    private boolean needsClientRadiationUpdate(ServerPlayer player, int radius, boolean syncDecayed) {
+        ResourceKey<Level> dimension = player.level().dimension();
+        ChunkPos chunk = player.chunkPosition();
+        if (isNearChunk(changedChunks.get(dimension), chunk, radius)) {
+            return true;
+        } else if (syncDecayed) {
+            //Players that were exposed to radiation may have moved away from the sources, so we also update them to make sure they don't keep seeing stale levels
+            PreviousRadiationData previousRadiationData = playerEnvironmentalExposureMap.get(player.getUUID());
+            return (previousRadiationData != null && previousRadiationData.magnitude() > BASELINE) || isNearChunk(decayedChunks.get(dimension), chunk, radius);
+        }
+        return false;
+    }
+
+    private static boolean isNearChunk(@Nullable LongSet chunks, ChunkPos center, int radius) {
+        if (chunks != null) {
+            for (LongIterator iterator = chunks.iterator(); iterator.hasNext(); ) {
+                long chunk = iterator.nextLong();
+                if (Math.abs(ChunkPos.getX(chunk) - center.x) <= radius && Math.abs(ChunkPos.getZ(chunk) - center.z) <= radius) {
+                    return true;
+                }
             }
         }
+        return false;
     }
 
     public void updateClientRadiation(ServerPlayer player) {
@@ -474,22 +570,44 @@ public class RadiationManager implements IRadiationManager {
     }
 
     public void tickServer() {
-        // terminate early if we're disabled or there is no radiation spots
-        if (!isRadiationEnabled() || radiationTable.isEmpty()) {
+        // terminate early if we're disabled
+        if (!isRadiationEnabled()) {
             return;
         }
-        // each tick, there's a 1/20 chance we'll decay radiation sources (averages to 1 decay operation per second)
-        if (RAND.nextInt(SharedConstants.TICKS_PER_SECOND) == 0) {
-            Collection<RadiationSource> sources = radiationTable.values();
+        int sourcesProcessed = 0;
+        boolean syncDecayed = false;
+        if (!radiationTable.isEmpty()) {
+            // each tick we decay a different slice of the radiation sources, so that each source decays once per second
+            List<RadiationSource> sources = decayScheduler.nextBucket();
             if (!sources.isEmpty()) {
-                // remove if source gets too low
-                sources.removeIf(RadiationSource::decay);
-                //Mark dirty regardless if we have any sources as magnitude changes or radiation sources change
+                sourcesProcessed = sources.size();
+                for (Iterator<RadiationSource> iterator = sources.iterator(); iterator.hasNext(); ) {
+                    RadiationSource source = iterator.next();
+                    if (source.decay()) {
+                        // remove if source gets too low
+                        iterator.remove();
+                        radiationTable.remove(new Chunk3D(source.getPos()), source.getPos());
+                        sourceIndex.remove(source);
+                        markChunkChanged(changedChunks, source.getPos());
+                    } else {
+                        markChunkChanged(decayedChunks, source.getPos());
+                    }
+                }
+                //Mark dirty regardless of if any sources were removed as the magnitudes changed
                 markDirty();
-                //Update radiation levels for any players where it has changed
-                updateClientRadiationForAll();
             }
+            syncDecayed = decayScheduler.finishedCycle();
         }
+        //Update radiation levels for any players near where it has changed
+        int playersUpdated = updateChangedClientRadiation(syncDecayed);
+        lastTickMetrics = new RadiationTickMetrics(sourcesProcessed, playersUpdated);
+    }
+
+    /**
+     * {@return how many sources decayed and how many players had their environmental radiation recalculated during the last server tick}
+     */
+    public RadiationTickMetrics getLastTickMetrics() {
+        return lastTickMetrics;
     }
 
     /**
@@ -509,6 +627,11 @@ public class RadiationManager implements IRadiationManager {
     public void reset() {
         //Clear the table directly instead of via the method, so it doesn't mark it as dirty
         radiationTable.clear();
+        sourceIndex.clear();
+        decayScheduler.clear();
+        changedChunks.clear();
+        decayedChunks.clear();
+        lastTickMetrics = RadiationTickMetrics.NONE;
         playerEnvironmentalExposureMap.clear();
         playerExposureMap.clear();
         meltdowns.clear();
@@ -538,6 +661,15 @@ public class RadiationManager implements IRadiationManager {
         private static final LevelAndMaxMagnitude BASELINE = new LevelAndMaxMagnitude(RadiationManager.BASELINE, RadiationManager.BASELINE);
     }
 
+    /**
+     * @param sourcesProcessed The number of radiation sources that decayed.
+     * @param playersUpdated   The number of players whose environmental radiation was recalculated.
+     */
+    public record RadiationTickMetrics(int sourcesProcessed, int playersUpdated) {
+
+        private static final RadiationTickMetrics NONE = new RadiationTickMetrics(0, 0);
+    }
+
     public enum RadiationScale {
         NONE,
         LOW,
@@ -653,7 +785,11 @@ public class RadiationManager implements IRadiationManager {
             // don't sync the manager if radiation has been disabled
             if (IRadiationManager.INSTANCE.isRadiationEnabled()) {
                 for (RadiationSource source : loadedSources) {
-                    manager.radiationTable.put(new Chunk3D(source.getPos()), source.getPos(), source);
+                    RadiationSource replaced = manager.radiationTable.put(new Chunk3D(source.getPos()), source.getPos(), source);
+                    if (replaced != null) {
+                        manager.onSourceRemoved(replaced);
+                    }
+                    manager.onSourceAdded(source);
                 }
                 for (Map.Entry<ResourceLocation, List<Meltdown>> entry : savedMeltdowns.entrySet()) {
                     List<Meltdown> meltdowns = manager.meltdowns.get(entry.getKey());
@@ -0,0 +1,134 @@
+package mekanism.common.lib.radiation;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import mekanism.api.annotations.NothingNullByDefault;
+import net.minecraft.core.GlobalPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+
+/**
+ * Per dimension spatial index of radiation sources. In addition to the sources in each chunk, it keeps track of which chunks with sources are within the check radius
+ * of every chunk. This means that finding the sources that may expose a position only requires looking up the chunk the position is in, instead of scanning every
+ * chunk in range.
+ *
+ * @implNote The exposure is tracked per chunk that has sources rather than per source, so that adding more sources to a chunk that already has some doesn't require
+ * updating the chunks around it. As the index holds the actual sources, changes to the magnitude of a source are reflected without having to update the index.
+ */
+@NothingNullByDefault
+class RadiationSourceIndex {
+
+    private final Map<ResourceKey<Level>, DimensionIndex> dimensions = new Object2ObjectOpenHashMap<>();
+    /**
+     * The radius in chunks that sources can expose positions in. Starts out invalid so that the index gets built with the configured radius the first time it is
+     * validated, as the config may not be loaded yet when this is created.
+     */
+    private int radius = -1;
+
+    int getRadius() {
+        return radius;
+    }
+
+    /**
+     * Clears the index and rebuilds it for the given sources using a new radius.
+     */
+    void rebuild(int radius, Iterable<RadiationSource> sources) {
+        clear();
+        this.radius = radius;
+        for (RadiationSource source : sources) {
+            add(source);
+        }
+    }
+
+    void clear() {
+        dimensions.clear();
+    }
+
+    void add(RadiationSource source) {
+        GlobalPos pos = source.getPos();
+        DimensionIndex index = dimensions.computeIfAbsent(pos.dimension(), dimension -> new DimensionIndex());
+        long chunk = ChunkPos.asLong(pos.pos());
+        SourceChunk sourceChunk = index.sourceChunks.get(chunk);
+        if (sourceChunk == null) {
+            //First source in this chunk, mark it as exposing all the chunks in range of it
+            sourceChunk = new SourceChunk(new ArrayList<>());
+            index.sourceChunks.put(chunk, sourceChunk);
+            int chunkX = ChunkPos.getX(chunk);
+            int chunkZ = ChunkPos.getZ(chunk);
+            for (int x = chunkX - radius; x <= chunkX + radius; x++) {
+                for (int z = chunkZ - radius; z <= chunkZ + radius; z++) {
+                    index.exposedChunks.computeIfAbsent(ChunkPos.asLong(x, z), c -> new ArrayList<>()).add(sourceChunk);
+                }
+            }
+        }
+        sourceChunk.sources.add(source);
+    }
+
+    void remove(RadiationSource source) {
+        GlobalPos pos = source.getPos();
+        DimensionIndex index = dimensions.get(pos.dimension());
+        if (index == null) {
+            return;
+        }
+        long chunk = ChunkPos.asLong(pos.pos());
+        SourceChunk sourceChunk = index.sourceChunks.get(chunk);
+        if (sourceChunk == null || !removeInstance(sourceChunk.sources, source) || !sourceChunk.sources.isEmpty()) {
+            return;
+        }
+        //Last source in this chunk was removed, stop exposing the chunks in range of it
+        index.sourceChunks.remove(chunk);
+        int chunkX = ChunkPos.getX(chunk);
+        int chunkZ = ChunkPos.getZ(chunk);
+        for (int x = chunkX - radius; x <= chunkX + radius; x++) {
+            for (int z = chunkZ - radius; z <= chunkZ + radius; z++) {
+                long exposedChunk = ChunkPos.asLong(x, z);
+                List<SourceChunk> exposing = index.exposedChunks.get(exposedChunk);
+                if (exposing != null && removeInstance(exposing, sourceChunk) && exposing.isEmpty()) {
+                    index.exposedChunks.remove(exposedChunk);
+                }
+            }
+        }
+        if (index.sourceChunks.isEmpty()) {
+            dimensions.remove(pos.dimension());
+        }
+    }
+
+    /**
+     * Gets the chunks that have sources within range of the given position.
+     */
+    List<SourceChunk> getExposingChunks(GlobalPos pos) {
+        DimensionIndex index = dimensions.get(pos.dimension());
+        if (index == null) {
+            return Collections.emptyList();
+        }
+        long chunk = ChunkPos.asLong(SectionPos.blockToSectionCoord(pos.pos().getX()), SectionPos.blockToSectionCoord(pos.pos().getZ()));
+        return index.exposedChunks.getOrDefault(chunk, Collections.emptyList());
+    }
+
+    private static <T> boolean removeInstance(List<T> list, T element) {
+        //Note: We compare by identity as radiation sources compare their magnitudes when checking equality
+        for (int i = 0, size = list.size(); i < size; i++) {
+            if (list.get(i) == element) {
+                list.remove(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static class DimensionIndex {
+
+        private final Long2ObjectMap<SourceChunk> sourceChunks = new Long2ObjectOpenHashMap<>();
+        private final Long2ObjectMap<List<SourceChunk>> exposedChunks = new Long2ObjectOpenHashMap<>();
+    }
+
+    record SourceChunk(List<RadiationSource> sources) {
+    }
+}
@@ -85,7 +85,7 @@ public class SecurityFrequency extends Frequency {
     public void setOverridden(boolean override) {
         if (this.override != override) {
             this.override = override;
-            this.dirty = true;
+            markDirty();
         }
     }
 
@@ -109,7 +109,7 @@ public class SecurityFrequency extends Frequency {
     public void addTrusted(UUID uuid, String name) {
         if (!trusted.contains(uuid)) {
             addTrustedRaw(uuid, name);
-            this.dirty = true;
+            markDirty();
         }
     }
 
@@ -124,7 +124,7 @@ public class SecurityFrequency extends Frequency {
         UUID uuid = null;
         if (index >= 0 && index < trusted.size()) {
             uuid = trusted.remove(index);
-            this.dirty = true;
+            markDirty();
         }
         if (index >= 0 && index < trustedCache.size()) {
             trustedCache.remove(index);
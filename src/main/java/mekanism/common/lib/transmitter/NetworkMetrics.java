@@ -0,0 +1,255 @@
+package mekanism.common.lib.transmitter;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import mekanism.api.Chunk3D;
+import mekanism.api.MekanismAPI;
+import net.minecraft.SharedConstants;
+import net.minecraft.core.GlobalPos;
+
+/**
+ * Keeps track of how expensive the {@link TransmitterNetworkRegistry} is to tick, and how much network churn there is, over a rolling window. The metrics are grouped into
+ * one second samples, and the most recent five minutes of samples are kept.
+ */
+public class NetworkMetrics {
+
+    private static final int SAMPLE_TICKS = SharedConstants.TICKS_PER_SECOND;
+    private static final int MAX_SAMPLES = 5 * 60;
+
+    private final Sample[] samples = new Sample[MAX_SAMPLES];
+    private int nextSample;
+    private int storedSamples;
+    private Sample current = new Sample();
+
+    /**
+     * Adds the time since the given start time to the given phase of the current tick.
+     *
+     * @return The current time, so that it can be used as the start of the next phase.
+     */
+    long endPhase(Phase phase, long start) {
+        long now = System.nanoTime();
+        current.currentTickNanos[phase.ordinal()] += now - start;
+        return now;
+    }
+
+    void endTick() {
+        current.endTick();
+        if (current.ticks == SAMPLE_TICKS) {
+            samples[nextSample] = current;
+            nextSample = (nextSample + 1) % MAX_SAMPLES;
+            if (storedSamples < MAX_SAMPLES) {
+                storedSamples++;
+            }
+            current = new Sample();
+        }
+    }
+
+    void invalidTransmitters(int count) {
+        current.invalidTransmitters += count;
+    }
+
+    /**
+     * Called when the transmitters of a network that was invalidated end up in more than one network once they are reformed.
+     */
+    void networkSplit() {
+        current.networksSplit++;
+    }
+
+    void orphan(GlobalPos pos) {
+        current.orphans++;
+        if (MekanismAPI.debug) {
+            //Only keep track of which chunks the orphans are in while debug mode is enabled, so that we don't have to create a chunk for every orphan
+            current.orphanChunks.mergeInt(new Chunk3D(pos), 1, Integer::sum);
+        }
+    }
+
+    /**
+     * @param networksFound How many existing networks the orphans were connected to.
+     * @param visited       How many positions the path finder visited.
+     */
+    void pathFound(int networksFound, int visited) {
+        if (networksFound == 0) {
+            current.networksFormed++;
+        } else if (networksFound > 1) {
+            current.networksMerged += networksFound;
+        }
+        current.nodesVisited += visited;
+    }
+
+    public void reset() {
+        Arrays.fill(samples, null);
+        nextSample = 0;
+        storedSamples = 0;
+        current = new Sample();
+    }
+
+    /**
+     * @return A summary of all the samples currently in the rolling window.
+     *
+     * @apiNote The orphan hotspots only include orphans from while debug mode was enabled.
+     */
+    public Summary summarize() {
+        Sample total = new Sample();
+        for (int i = 0; i < storedSamples; i++) {
+            total.add(samples[i]);
+        }
+        List<Object2IntMap.Entry<Chunk3D>> hotspots = new ArrayList<>(total.orphanChunks.object2IntEntrySet());
+        hotspots.sort((a, b) -> Integer.compare(b.getIntValue(), a.getIntValue()));
+        return new Summary(total, hotspots.size() > 5 ? hotspots.subList(0, 5) : hotspots);
+    }
+
+    /**
+     * @return A JSON report of the samples in the rolling window, from oldest to newest.
+     */
+    public JsonObject toJson() {
+        JsonObject report = new JsonObject();
+        report.addProperty("sample_ticks", SAMPLE_TICKS);
+        JsonArray sampleArray = new JsonArray();
+        int start = storedSamples < MAX_SAMPLES ? 0 : nextSample;
+        for (int i = 0; i < storedSamples; i++) {
+            sampleArray.add(samples[(start + i) % MAX_SAMPLES].toJson());
+        }
+        report.add("samples", sampleArray);
+        return report;
+    }
+
+    public enum Phase {
+        CHANGED_CHUNKS,
+        INVALID_TRANSMITTERS,
+        ORPHANS,
+        COMMIT,
+        UPDATE;
+
+        private static final Phase[] PHASES = values();
+
+        public String getSerializedName() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    public record Summary(Sample total, List<Object2IntMap.Entry<Chunk3D>> hotspots) {
+    }
+
+    public static class Sample {
+
+        private final long[] phaseNanos = new long[Phase.PHASES.length];
+        private final long[] maxPhaseNanos = new long[Phase.PHASES.length];
+        private final long[] currentTickNanos = new long[Phase.PHASES.length];
+        private final Object2IntMap<Chunk3D> orphanChunks = new Object2IntOpenHashMap<>();
+        private final long createdAt = System.currentTimeMillis();
+        private int ticks;
+        private long invalidTransmitters;
+        private long orphans;
+        private long networksFormed;
+        private long networksMerged;
+        private long networksSplit;
+        private long nodesVisited;
+
+        private void endTick() {
+            for (int i = 0; i < phaseNanos.length; i++) {
+                long tickTime = currentTickNanos[i];
+                phaseNanos[i] += tickTime;
+                maxPhaseNanos[i] = Math.max(maxPhaseNanos[i], tickTime);
+                currentTickNanos[i] = 0;
+            }
+            ticks++;
+        }
+
+        private void add(Sample other) {
+            for (int i = 0; i < phaseNanos.length; i++) {
+                phaseNanos[i] += other.phaseNanos[i];
+                maxPhaseNanos[i] = Math.max(maxPhaseNanos[i], other.maxPhaseNanos[i]);
+            }
+            for (Object2IntMap.Entry<Chunk3D> entry : other.orphanChunks.object2IntEntrySet()) {
+                orphanChunks.mergeInt(entry.getKey(), entry.getIntValue(), Integer::sum);
+            }
+            ticks += other.ticks;
+            invalidTransmitters += other.invalidTransmitters;
+            orphans += other.orphans;
+            networksFormed += other.networksFormed;
+            networksMerged += other.networksMerged;
+            networksSplit += other.networksSplit;
+            nodesVisited += other.nodesVisited;
+        }
+
+        public int getTicks() {
+            return ticks;
+        }
+
+        /**
+         * @return Average time spent in the given phase per tick, in milliseconds.
+         */
+        public double getAverageMillis(Phase phase) {
+            return ticks == 0 ? 0 : phaseNanos[phase.ordinal()] / (1_000_000D * ticks);
+        }
+
+        /**
+         * @return Longest time spent in the given phase in a single tick, in milliseconds.
+         */
+        public double getMaxMillis(Phase phase) {
+            return maxPhaseNanos[phase.ordinal()] / 1_000_000D;
+        }
+
+        public long getInvalidTransmitters() {
+            return invalidTransmitters;
+        }
+
+        public long getOrphans() {
+            return orphans;
+        }
+
+        public long getNetworksFormed() {
+            return networksFormed;
+        }
+
+        public long getNetworksMerged() {
+            return networksMerged;
+        }
+
+        public long getNetworksSplit() {
+            return networksSplit;
+        }
+
+        public long getNodesVisited() {
+            return nodesVisited;
+        }
+
+        private JsonObject toJson() {
+            JsonObject json = new JsonObject();
+            json.addProperty("timestamp", createdAt);
+            json.addProperty("ticks", ticks);
+            JsonObject phases = new JsonObject();
+            for (Phase phase : Phase.PHASES) {
+                JsonObject phaseJson = new JsonObject();
+                phaseJson.addProperty("average_ms", getAverageMillis(phase));
+                phaseJson.addProperty("max_ms", getMaxMillis(phase));
+                phases.add(phase.getSerializedName(), phaseJson);
+            }
+            json.add("phases", phases);
+            json.addProperty("invalid_transmitters", invalidTransmitters);
+            json.addProperty("orphans", orphans);
+            json.addProperty("networks_formed", networksFormed);
+            json.addProperty("networks_merged", networksMerged);
+            json.addProperty("networks_split", networksSplit);
+            json.addProperty("nodes_visited", nodesVisited);
+            JsonArray chunks = new JsonArray();
+            for (Object2IntMap.Entry<Chunk3D> entry : orphanChunks.object2IntEntrySet()) {
+                Chunk3D chunk = entry.getKey();
+                JsonObject chunkJson = new JsonObject();
+                chunkJson.addProperty("dimension", chunk.dimension.location().toString());
+                chunkJson.addProperty("x", chunk.x);
+                chunkJson.addProperty("z", chunk.z);
+                chunkJson.addProperty("orphans", entry.getIntValue());
+                chunks.add(chunkJson);
+            }
+            json.add("orphan_chunks", chunks);
+            return json;
+        }
+    }
+}
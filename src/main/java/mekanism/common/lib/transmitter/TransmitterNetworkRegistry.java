@@ -2,15 +2,16 @@ package mekanism.common.lib.transmitter;
 
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Multimap;
-import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
-import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2BooleanMap;
 import it.unimi.dsi.fastutil.objects.Object2BooleanOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import java.util.Collection;
-import java.util.Deque;
-import java.util.LinkedList;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
@@ -18,16 +19,17 @@ import mekanism.api.Chunk3D;
 import mekanism.api.MekanismAPI;
 import mekanism.common.Mekanism;
 import mekanism.common.content.network.transmitter.Transmitter;
+import mekanism.common.lib.math.voxel.ChunkSectionCache;
+import mekanism.common.lib.math.voxel.FloodFill;
+import mekanism.common.lib.transmitter.NetworkMetrics.Phase;
 import mekanism.common.tile.transmitter.TileEntityTransmitter;
 import mekanism.common.util.EnumUtils;
-import mekanism.common.util.WorldUtils;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.GlobalPos;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ChunkMap;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.level.chunk.ChunkAccess;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.neoforge.common.NeoForge;
 import net.neoforged.neoforge.event.level.ChunkTicketLevelUpdatedEvent;
@@ -45,6 +47,13 @@ public class TransmitterNetworkRegistry {
     private Map<GlobalPos, Transmitter<?, ?, ?>> newOrphanTransmitters = new Object2ObjectOpenHashMap<>();
     private Set<Transmitter<?, ?, ?>> invalidTransmitters = new ObjectOpenHashSet<>();
     private Set<DynamicNetwork<?, ?, ?>> networksToChange = new ObjectOpenHashSet<>();
+    private final NetworkMetrics metrics = new NetworkMetrics();
+    /**
+     * The network each transmitter that was orphaned by invalidating a network this tick came from, so that we can tell if reforming the network split it.
+     */
+    private final Reference2ObjectMap<Transmitter<?, ?, ?>, DynamicNetwork<?, ?, ?>> orphanSources = new Reference2ObjectOpenHashMap<>();
+    @Nullable
+    private DynamicNetwork<?, ?, ?> invalidatingNetwork;
 
     public void addClientNetwork(UUID networkID, DynamicNetwork<?, ?, ?> network) {
         if (!clientNetworks.containsKey(networkID)) {
@@ -79,6 +88,8 @@ public class TransmitterNetworkRegistry {
         getInstance().newOrphanTransmitters.clear();
         getInstance().transmitters.clear();
         getInstance().changedTicketChunks.clear();
+        getInstance().orphanSources.clear();
+        getInstance().metrics.reset();
     }
 
     public static void trackTransmitter(Transmitter<?, ?, ?> transmitter) {
@@ -98,11 +109,15 @@ public class TransmitterNetworkRegistry {
             //If we weren't an invalid transmitter, then we need to add it as a new orphan, otherwise removing it is good enough
             // as if it was an orphan before it still will be one, and if it wasn't then it still will be part of the network it
             // was in.
+            TransmitterNetworkRegistry registry = getInstance();
             GlobalPos pos = transmitter.getTileGlobalPos();
-            Transmitter<?, ?, ?> previous = getInstance().newOrphanTransmitters.put(pos, transmitter);
+            Transmitter<?, ?, ?> previous = registry.newOrphanTransmitters.put(pos, transmitter);
             if (previous != null && previous != transmitter) {
                 Mekanism.logger.error("Different orphan transmitter was already registered at location! {}", pos);
             }
+            if (registry.invalidatingNetwork != null) {
+                registry.orphanSources.put(transmitter, registry.invalidatingNetwork);
+            }
         }
     }
 
@@ -114,6 +129,10 @@ public class TransmitterNetworkRegistry {
         return INSTANCE;
     }
 
+    public NetworkMetrics getMetrics() {
+        return metrics;
+    }
+
     public void registerNetwork(DynamicNetwork<?, ?, ?> network) {
         networks.add(network);
     }
@@ -125,13 +144,20 @@ public class TransmitterNetworkRegistry {
 
     @SubscribeEvent
     public void onTick(ServerTickEvent.Post event) {
+        long start = System.nanoTime();
         handleChangedChunks();
+        start = metrics.endPhase(Phase.CHANGED_CHUNKS, start);
         removeInvalidTransmitters();
+        start = metrics.endPhase(Phase.INVALID_TRANSMITTERS, start);
         assignOrphans();
+        start = metrics.endPhase(Phase.ORPHANS, start);
         commitChanges();
+        start = metrics.endPhase(Phase.COMMIT, start);
         for (DynamicNetwork<?, ?, ?> net : networks) {
             net.onUpdate();
         }
+        metrics.endPhase(Phase.UPDATE, start);
+        metrics.endTick();
     }
 
     @SubscribeEvent
@@ -196,6 +222,7 @@ public class TransmitterNetworkRegistry {
             if (MekanismAPI.debug) {
                 Mekanism.logger.info("Dealing with {} invalid Transmitters", toInvalidate.size());
             }
+            metrics.invalidTransmitters(toInvalidate.size());
             for (Transmitter<?, ?, ?> invalid : toInvalidate) {
                 removeInvalidTransmitter(invalid);
             }
@@ -207,7 +234,10 @@ public class TransmitterNetworkRegistry {
         if (!invalid.isOrphan() || !invalid.isValid()) {
             NETWORK n = invalid.getTransmitterNetwork();
             if (n != null) {
+                //Keep track of which network the transmitters that get orphaned came from, so that once they are reformed we can tell if the network split
+                invalidatingNetwork = n;
                 n.invalidate((TRANSMITTER) invalid);
+                invalidatingNetwork = null;
                 if (!invalid.isValid()) {
                     //If the transmitter isn't valid, then we need to make sure we clear the network from it
                     // after invalidating the network, so that we can make sure that if this transmitter somehow
@@ -226,13 +256,35 @@ public class TransmitterNetworkRegistry {
                 Mekanism.logger.info("Dealing with {} orphan Transmitters", orphanTransmitters.size());
             }
 
-            for (Transmitter<?, ?, ?> orphanTransmitter : orphanTransmitters.values()) {
+            //How many networks the orphans of each invalidated network ended up in
+            Reference2IntMap<DynamicNetwork<?, ?, ?>> networksFormed = new Reference2IntOpenHashMap<>();
+            Set<DynamicNetwork<?, ?, ?>> sources = new ReferenceOpenHashSet<>();
+            for (Map.Entry<GlobalPos, Transmitter<?, ?, ?>> entry : orphanTransmitters.entrySet()) {
+                metrics.orphan(entry.getKey());
+                Transmitter<?, ?, ?> orphanTransmitter = entry.getValue();
                 if (orphanTransmitter.isValid() && orphanTransmitter.isOrphan()) {
                     OrphanPathFinder<?, ?, ?> finder = new OrphanPathFinder<>(orphanTransmitter);
                     networksToChange.add(finder.getNetworkFromOrphan(orphanTransmitters));
+                    metrics.pathFound(finder.networksFound.size(), finder.fill.visitedCount());
+                    if (!orphanSources.isEmpty()) {
+                        sources.clear();
+                        for (Transmitter<?, ?, ?> transmitter : finder.connectedTransmitters) {
+                            DynamicNetwork<?, ?, ?> source = orphanSources.get(transmitter);
+                            if (source != null && sources.add(source)) {
+                                networksFormed.mergeInt(source, 1, Integer::sum);
+                            }
+                        }
+                    }
+                }
+            }
+            for (Reference2IntMap.Entry<DynamicNetwork<?, ?, ?>> entry : networksFormed.reference2IntEntrySet()) {
+                if (entry.getIntValue() > 1) {
+                    //Only count the network as being split if its transmitters actually ended up in more than one network
+                    metrics.networkSplit();
                 }
             }
         }
+        orphanSources.clear();
     }
 
     private void commitChanges() {
@@ -264,28 +316,33 @@ public class TransmitterNetworkRegistry {
 
         private final CompatibleTransmitterValidator<ACCEPTOR, NETWORK, TRANSMITTER> transmitterValidator;
         private final Set<TRANSMITTER> connectedTransmitters = new ObjectOpenHashSet<>();
-        private final Long2ObjectMap<ChunkAccess> chunkMap = new Long2ObjectOpenHashMap<>();
         private final Set<NETWORK> networksFound = new ObjectOpenHashSet<>();
-        private final Set<BlockPos> iterated = new ObjectOpenHashSet<>();
-        private final Deque<BlockPos> queue = new LinkedList<>();
+        private final FloodFill fill = new FloodFill();
         private final TRANSMITTER startPoint;
         private final Level world;
+        private final ChunkSectionCache chunkCache;
 
         OrphanPathFinder(Transmitter<ACCEPTOR, NETWORK, TRANSMITTER> start) {
             startPoint = (TRANSMITTER) start;
             world = startPoint.getLevel();
+            chunkCache = new ChunkSectionCache(world);
             transmitterValidator = startPoint.getNewOrphanValidator();
         }
 
         NETWORK getNetworkFromOrphan(Map<GlobalPos, Transmitter<?, ?, ?>> orphanTransmitters) {
             //Calculate the network
-            if (queue.peek() != null) {
+            if (fill.hasQueued()) {
                 Mekanism.logger.error("OrphanPathFinder queue was not empty?!");
-                queue.clear();
+                fill.clear();
             }
-            queue.push(startPoint.getBlockPos());
-            while (queue.peek() != null) {
-                iterate(orphanTransmitters, queue.removeFirst());
+            fill.enqueue(startPoint.getBlockPos().asLong());
+            BlockPos.MutableBlockPos from = new BlockPos.MutableBlockPos();
+            BlockPos.MutableBlockPos directionPos = new BlockPos.MutableBlockPos();
+            while (fill.hasQueued()) {
+                long pos = fill.poll();
+                if (fill.visit(pos)) {
+                    iterate(orphanTransmitters, from.set(pos), directionPos);
+                }
             }
             //Create the network or grab the found ones
             NETWORK network;
@@ -309,34 +366,32 @@ public class TransmitterNetworkRegistry {
             return network;
         }
 
-        private void iterate(Map<GlobalPos, Transmitter<?, ?, ?>> orphanTransmitters, BlockPos from) {
-            if (iterated.add(from)) {
-                GlobalPos fromCoord = GlobalPos.of(world.dimension(), from);
-                Transmitter<?, ?, ?> transmitter = orphanTransmitters.get(fromCoord);
-                if (transmitter != null) {
-                    if (transmitter.isValid() && transmitter.isOrphan() && startPoint.supportsTransmissionType(transmitter) &&
-                        transmitterValidator.isTransmitterCompatible(transmitter)) {
-                        connectedTransmitters.add((TRANSMITTER) transmitter);
-                        transmitter.setOrphan(false);
-                        BlockPos.MutableBlockPos directionPos = new BlockPos.MutableBlockPos();
-                        for (Direction direction : EnumUtils.DIRECTIONS) {
-                            directionPos.setWithOffset(from, direction);
-                            if (!iterated.contains(directionPos)) {
-                                TileEntityTransmitter tile = WorldUtils.getTileEntity(TileEntityTransmitter.class, world, chunkMap, directionPos);
-                                if (tile != null && transmitter.isValidTransmitterBasic(tile, direction)) {
-                                    queue.addLast(directionPos.immutable());
-                                }
+        private void iterate(Map<GlobalPos, Transmitter<?, ?, ?>> orphanTransmitters, BlockPos from, BlockPos.MutableBlockPos directionPos) {
+            //Note: The global pos is only used for the lookup, so it is fine for it to wrap the mutable position
+            Transmitter<?, ?, ?> transmitter = orphanTransmitters.get(GlobalPos.of(world.dimension(), from));
+            if (transmitter != null) {
+                if (transmitter.isValid() && transmitter.isOrphan() && startPoint.supportsTransmissionType(transmitter) &&
+                    transmitterValidator.isTransmitterCompatible(transmitter)) {
+                    connectedTransmitters.add((TRANSMITTER) transmitter);
+                    transmitter.setOrphan(false);
+                    for (Direction direction : EnumUtils.DIRECTIONS) {
+                        directionPos.setWithOffset(from, direction);
+                        long pos = directionPos.asLong();
+                        if (!fill.isVisited(pos)) {
+                            TileEntityTransmitter tile = chunkCache.getTileEntity(TileEntityTransmitter.class, directionPos);
+                            if (tile != null && transmitter.isValidTransmitterBasic(tile, direction)) {
+                                fill.enqueue(pos);
                             }
                         }
                     }
-                } else {
-                    TileEntityTransmitter tile = WorldUtils.getTileEntity(TileEntityTransmitter.class, world, chunkMap, from);
-                    if (tile != null && startPoint.supportsTransmissionType(tile)) {
-                        NETWORK net = (NETWORK) tile.getTransmitter().getTransmitterNetwork();
-                        //Make sure that there is an external network
-                        if (net != null && transmitterValidator.isNetworkCompatible(net)) {
-                            networksFound.add(net);
-                        }
+                }
+            } else {
+                TileEntityTransmitter tile = chunkCache.getTileEntity(TileEntityTransmitter.class, from);
+                if (tile != null && startPoint.supportsTransmissionType(tile)) {
+                    NETWORK net = (NETWORK) tile.getTransmitter().getTransmitterNetwork();
+                    //Make sure that there is an external network
+                    if (net != null && transmitterValidator.isNetworkCompatible(net)) {
+                        networksFound.add(net);
                     }
                 }
             }
@@ -1,10 +1,12 @@
 package mekanism.common.lib.transmitter.acceptor;
 
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumMap;
 import java.util.EnumSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -18,6 +20,13 @@ public class NetworkAcceptorCache<ACCEPTOR> {
 
     private final Map<BlockPos, Map<Direction, ACCEPTOR>> cachedAcceptors = new Object2ObjectOpenHashMap<>();
     private final Map<Transmitter<ACCEPTOR, ?, ?>, Set<Direction>> changedAcceptors = new Object2ObjectOpenHashMap<>();
+    /**
+     * Flattened view of all the cached acceptors, so that networks emitting every tick don't have to walk the nested maps. Only rebuilt when the cached acceptors
+     * change.
+     */
+    private final List<ACCEPTOR> acceptorList = new ArrayList<>();
+    private final List<ACCEPTOR> readOnlyAcceptorList = Collections.unmodifiableList(acceptorList);
+    private boolean acceptorListDirty;
 
     public void updateTransmitterOnSide(Transmitter<ACCEPTOR, ?, ?> transmitter, Direction side) {
         transmitter.refreshAcceptorConnections(side);
@@ -25,18 +34,21 @@ public class NetworkAcceptorCache<ACCEPTOR> {
         BlockPos acceptorPos = transmitter.getBlockPos().relative(side);
         if (acceptor == null) {
             Map<Direction, ACCEPTOR> cached = cachedAcceptors.get(acceptorPos);
-            if (cached != null) {
-                cached.remove(side.getOpposite());
+            if (cached != null && cached.remove(side.getOpposite()) != null) {
+                acceptorListDirty = true;
                 if (cached.isEmpty()) {
                     cachedAcceptors.remove(acceptorPos);
                 }
             }
-        } else {
-            cachedAcceptors.computeIfAbsent(acceptorPos, pos -> new EnumMap<>(Direction.class)).put(side.getOpposite(), acceptor);
+        } else if (cachedAcceptors.computeIfAbsent(acceptorPos, pos -> new EnumMap<>(Direction.class)).put(side.getOpposite(), acceptor) != acceptor) {
+            acceptorListDirty = true;
         }
     }
 
     public void adoptAcceptors(NetworkAcceptorCache<ACCEPTOR> other) {
+        if (!other.cachedAcceptors.isEmpty()) {
+            acceptorListDirty = true;
+        }
         for (Entry<BlockPos, Map<Direction, ACCEPTOR>> entry : other.cachedAcceptors.entrySet()) {
             BlockPos pos = entry.getKey();
             if (cachedAcceptors.containsKey(pos)) {
@@ -60,6 +72,13 @@ public class NetworkAcceptorCache<ACCEPTOR> {
         TransmitterNetworkRegistry.registerChangedNetwork(transmitter.getTransmitterNetwork());
     }
 
+    /**
+     * @return The transmitters that have acceptor changes waiting to be committed.
+     */
+    public Set<Transmitter<ACCEPTOR, ?, ?>> getChangedTransmitters() {
+        return changedAcceptors.keySet();
+    }
+
     public void commit() {
         if (!changedAcceptors.isEmpty()) {
             for (Entry<Transmitter<ACCEPTOR, ?, ?>, Set<Direction>> entry : changedAcceptors.entrySet()) {
@@ -78,6 +97,8 @@ public class NetworkAcceptorCache<ACCEPTOR> {
     public void deregister() {
         cachedAcceptors.clear();
         changedAcceptors.clear();
+        acceptorList.clear();
+        acceptorListDirty = false;
     }
 
     /**
@@ -94,6 +115,23 @@ public class NetworkAcceptorCache<ACCEPTOR> {
         return cachedAcceptors.values();
     }
 
+    /**
+     * Gets all the cached acceptors as a flat list, counting multiple connections to the same position as multiple acceptors. The list is only rebuilt when the cached
+     * acceptors change, so it is cheap to call every tick.
+     *
+     * @apiNote The returned list is a read only view that will be updated as the acceptors change, and should not be held onto.
+     */
+    public List<ACCEPTOR> getAcceptorList() {
+        if (acceptorListDirty) {
+            acceptorListDirty = false;
+            acceptorList.clear();
+            for (Map<Direction, ACCEPTOR> acceptors : cachedAcceptors.values()) {
+                acceptorList.addAll(acceptors.values());
+            }
+        }
+        return readOnlyAcceptorList;
+    }
+
     public int getAcceptorCount() {
         //Count multiple connections to the same position as multiple acceptors
         return cachedAcceptors.values().stream().mapToInt(Map::size).sum();
@@ -1,9 +1,9 @@
 package mekanism.common.network.to_client.qio;
 
-import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import java.util.List;
 import mekanism.common.Mekanism;
 import mekanism.common.inventory.container.QIOItemViewerContainer;
-import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
 import net.minecraft.network.RegistryFriendlyByteBuf;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
@@ -15,8 +15,8 @@ public class PacketBatchItemViewerSync extends PacketQIOItemViewerGuiSync {
     public static final CustomPacketPayload.Type<PacketBatchItemViewerSync> TYPE = new CustomPacketPayload.Type<>(Mekanism.rl("batch_qio_sync"));
     public static final StreamCodec<RegistryFriendlyByteBuf, PacketBatchItemViewerSync> STREAM_CODEC = streamCodec(PacketBatchItemViewerSync::new);
 
-    public PacketBatchItemViewerSync(long countCapacity, int typeCapacity, Object2LongMap<UUIDAwareHashedItem> itemMap) {
-        super(countCapacity, typeCapacity, itemMap);
+    public PacketBatchItemViewerSync(long countCapacity, int typeCapacity, List<TypeDefinition> types, Int2LongMap counts) {
+        super(countCapacity, typeCapacity, types, counts);
     }
 
     @NotNull
@@ -28,7 +28,7 @@ public class PacketBatchItemViewerSync extends PacketQIOItemViewerGuiSync {
     @Override
     public void handle(IPayloadContext context) {
         if (context.player().containerMenu instanceof QIOItemViewerContainer container) {
-            container.handleBatchUpdate(itemMap, countCapacity, typeCapacity);
+            container.handleBatchUpdate(types, counts, countCapacity, typeCapacity);
         }
     }
 }
\ No newline at end of file
@@ -1,10 +1,12 @@
 package mekanism.common.network.to_client.qio;
 
-import com.mojang.datafixers.util.Function3;
-import it.unimi.dsi.fastutil.objects.Object2LongMap;
-import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import com.mojang.datafixers.util.Function4;
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
-import mekanism.common.lib.inventory.HashedItem;
+import java.util.UUID;
 import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
 import mekanism.common.network.IMekanismPacket;
 import net.minecraft.core.UUIDUtil;
@@ -12,37 +14,75 @@ import net.minecraft.network.RegistryFriendlyByteBuf;
 import net.minecraft.network.codec.ByteBufCodecs;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.world.item.ItemStack;
+import org.jetbrains.annotations.Nullable;
 
+/**
+ * Syncs the contents of a QIO frequency to a player viewing it. To keep the packets small, item types are assigned small ids per viewer, and the full item type is only
+ * sent the first time the viewer is told about a type. After that the type's count is sent using just its id.
+ */
 //TODO - 1.19: Split implementations of this packet as it is possible for it to technically become too large and cause a crash
-// Also ideally we only would sync the hashed item for types we haven't sent a given client yet so that then
-// we can also send a smaller packet to each client until they disconnect and then we clear what packets they know
 public abstract class PacketQIOItemViewerGuiSync implements IMekanismPacket {
 
-    private static final StreamCodec<RegistryFriendlyByteBuf, Object2LongMap<UUIDAwareHashedItem>> ITEM_MAP_CODEC = ByteBufCodecs.map(Object2LongOpenHashMap::new,
-          StreamCodec.composite(
-                ItemStack.STREAM_CODEC, HashedItem::getInternalStack,
-                ByteBufCodecs.optional(UUIDUtil.STREAM_CODEC), item -> Optional.ofNullable(item.getUUID()),
-                (stack, uuid) -> new UUIDAwareHashedItem(stack, uuid.orElse(null))
-          ), ByteBufCodecs.VAR_LONG
+    private static final StreamCodec<RegistryFriendlyByteBuf, Int2LongMap> COUNT_MAP_CODEC = StreamCodec.of(
+          (buffer, counts) -> {
+              buffer.writeVarInt(counts.size());
+              for (Int2LongMap.Entry entry : counts.int2LongEntrySet()) {
+                  buffer.writeVarInt(entry.getIntKey());
+                  buffer.writeVarLong(entry.getLongValue());
+              }
+          }, buffer -> {
+              int size = buffer.readVarInt();
+              Int2LongMap counts = new Int2LongOpenHashMap(size);
+              for (int i = 0; i < size; i++) {
+                  counts.put(buffer.readVarInt(), buffer.readVarLong());
+              }
+              return counts;
+          }
     );
 
     protected static <PKT extends PacketQIOItemViewerGuiSync> StreamCodec<RegistryFriendlyByteBuf, PKT> streamCodec(
-          Function3<Long, Integer, Object2LongMap<UUIDAwareHashedItem>, PKT> constructor) {
+          Function4<Long, Integer, List<TypeDefinition>, Int2LongMap, PKT> constructor) {
         return StreamCodec.composite(
               ByteBufCodecs.VAR_LONG, pkt -> pkt.countCapacity,
               ByteBufCodecs.VAR_INT, pkt -> pkt.typeCapacity,
-              ITEM_MAP_CODEC, pkt -> pkt.itemMap,
+              TypeDefinition.STREAM_CODEC.apply(ByteBufCodecs.collection(ArrayList::new)), pkt -> pkt.types,
+              COUNT_MAP_CODEC, pkt -> pkt.counts,
               constructor
         );
     }
 
-    protected final Object2LongMap<UUIDAwareHashedItem> itemMap;
+    protected final List<TypeDefinition> types;
+    protected final Int2LongMap counts;
     protected final long countCapacity;
     protected final int typeCapacity;
 
-    protected PacketQIOItemViewerGuiSync(long countCapacity, int typeCapacity, Object2LongMap<UUIDAwareHashedItem> itemMap) {
-        this.itemMap = itemMap;
+    /**
+     * @param types  Item types the viewer has not been told about yet.
+     * @param counts Map of type ids to the current count of that type. A count of zero means that the type has been removed.
+     */
+    protected PacketQIOItemViewerGuiSync(long countCapacity, int typeCapacity, List<TypeDefinition> types, Int2LongMap counts) {
+        this.types = types;
+        this.counts = counts;
         this.countCapacity = countCapacity;
         this.typeCapacity = typeCapacity;
     }
+
+    /**
+     * Assigns an id to an item type for a specific viewer.
+     *
+     * @param uuid Should not be null unless something went wrong reading the packet.
+     */
+    public record TypeDefinition(int id, ItemStack stack, @Nullable UUID uuid) {
+
+        public static final StreamCodec<RegistryFriendlyByteBuf, TypeDefinition> STREAM_CODEC = StreamCodec.composite(
+              ByteBufCodecs.VAR_INT, TypeDefinition::id,
+              ItemStack.STREAM_CODEC, TypeDefinition::stack,
+              ByteBufCodecs.optional(UUIDUtil.STREAM_CODEC), definition -> Optional.ofNullable(definition.uuid()),
+              (id, stack, uuid) -> new TypeDefinition(id, stack, uuid.orElse(null))
+        );
+
+        public UUIDAwareHashedItem createType() {
+            return new UUIDAwareHashedItem(stack, uuid);
+        }
+    }
 }
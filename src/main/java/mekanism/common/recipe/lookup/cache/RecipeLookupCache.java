@@ -0,0 +1,116 @@
+package mekanism.common.recipe.lookup.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import mekanism.api.recipes.MekanismRecipe;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Remembers the results of recent recipe lookups keyed by the type of the input (see {@link mekanism.common.recipe.lookup.cache.type.IInputCache#createLookupKey}), so
+ * that looking up the same input repeatedly, for example a junk item sitting in a factory slot, doesn't require scanning all the complex recipes every time.
+ * <ul>
+ * <li>Misses are only remembered if no recipe accepts the type of the input, so they hold regardless of the amount of the input.</li>
+ * <li>Matches are only remembered if no recipe before the matched one accepts the type of the input, so if the remembered recipe accepts the input it is also the
+ * recipe a full lookup would find.</li>
+ * </ul>
+ * The cache is cleared along with the rest of the input cache whenever recipes or tags get reloaded.
+ *
+ * @implNote Lookups happen from both the client and the integrated server thread (for example slot validators checking {@code containsInput}) against the same cache, so
+ * all access is synchronized, and the maps are insertion ordered so that reads never change their structure. This means the oldest entry is evicted first rather than the
+ * least recently used one, which is fine as the cache is only meant to catch inputs that are looked up over and over again.
+ * <br>
+ * This is only used by {@link SingleInputRecipeCache}, as the result of a lookup for recipes with multiple inputs depends on the combination of inputs, so keying by the
+ * type of each input would have to remember every combination that is looked up, and the checks those caches perform per input are already direct map lookups.
+ */
+public class RecipeLookupCache<RECIPE extends MekanismRecipe> {
+
+    private static final int MAX_ENTRIES = 256;
+
+    private final Map<Object, RECIPE> matches = createBoundedMap();
+    private final Map<Object, Boolean> misses = createBoundedMap();
+    private long lookups;
+    private long matchHits;
+    private long missHits;
+
+    private static <V> Map<Object, V> createBoundedMap() {
+        return new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, V> eldest) {
+                return size() > MAX_ENTRIES;
+            }
+        };
+    }
+
+    /**
+     * Marks that a lookup is being performed.
+     */
+    public synchronized void onLookup() {
+        lookups++;
+    }
+
+    /**
+     * @return {@code true} if the given key is known to not be accepted by any recipe.
+     */
+    public synchronized boolean isKnownMiss(Object key) {
+        if (misses.get(key) != null) {
+            missHits++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Gets the last recipe that matched an input with the given key.
+     *
+     * @apiNote Callers must still validate the recipe accepts the input, and call {@link #onMatchHit()} if it does.
+     */
+    @Nullable
+    public synchronized RECIPE getLastMatch(Object key) {
+        return matches.get(key);
+    }
+
+    public synchronized void onMatchHit() {
+        matchHits++;
+    }
+
+    /**
+     * @param key Key that must not be backed by the input as it will be stored.
+     */
+    public synchronized void recordMatch(Object key, RECIPE recipe) {
+        matches.put(key, recipe);
+    }
+
+    /**
+     * @param key Key that must not be backed by the input as it will be stored.
+     */
+    public synchronized void recordMiss(Object key) {
+        misses.put(key, Boolean.TRUE);
+    }
+
+    /**
+     * Clears the remembered results, but not the hit counters.
+     */
+    public synchronized void clear() {
+        matches.clear();
+        misses.clear();
+    }
+
+    public synchronized LookupStats getStats() {
+        return new LookupStats(lookups, matchHits, missHits);
+    }
+
+    /**
+     * @param lookups   Total number of lookups.
+     * @param matchHits Number of lookups that were answered by a remembered match.
+     * @param missHits  Number of lookups that were answered by a remembered miss.
+     */
+    public record LookupStats(long lookups, long matchHits, long missHits) {
+
+        /**
+         * @return The fraction of lookups that didn't require scanning the recipes.
+         */
+        public double hitRate() {
+            return lookups == 0 ? 0 : (matchHits + missHits) / (double) lookups;
+        }
+    }
+}
@@ -22,6 +22,7 @@ public abstract class SingleInputRecipeCache<INPUT, INGREDIENT extends InputIngr
       CACHE extends IInputCache<INPUT, INGREDIENT, RECIPE>> extends AbstractInputRecipeCache<RECIPE> {
 
     private final Set<RECIPE> complexRecipes = new HashSet<>();
+    private final RecipeLookupCache<RECIPE> lookupCache = new RecipeLookupCache<>();
     private final Function<RECIPE, INGREDIENT> inputExtractor;
     private final CACHE cache;
 
@@ -36,6 +37,14 @@ public abstract class SingleInputRecipeCache<INPUT, INGREDIENT extends InputIngr
         super.clear();
         cache.clear();
         complexRecipes.clear();
+        lookupCache.clear();
+    }
+
+    /**
+     * @return Statistics about how many lookups were able to use previously remembered results instead of having to check the recipes.
+     */
+    public RecipeLookupCache.LookupStats getLookupStats() {
+        return lookupCache.getStats();
     }
 
     /**
@@ -47,6 +56,20 @@ public abstract class SingleInputRecipeCache<INPUT, INGREDIENT extends InputIngr
      * @return {@code true} if there is a match, {@code false} if there isn't.
      */
     public boolean containsInput(@Nullable Level world, INPUT input) {
+        if (cache.isEmpty(input)) {
+            //Don't allow empty inputs
+            return false;
+        }
+        initCacheIfNeeded(world);
+        lookupCache.onLookup();
+        Object key = cache.createLookupKey(input, false);
+        if (lookupCache.isKnownMiss(key)) {
+            return false;
+        } else if (lookupCache.getLastMatch(key) != null) {
+            //We know there is a recipe that accepts this type of input
+            lookupCache.onMatchHit();
+            return true;
+        }
         return containsInput(world, input, inputExtractor, cache, complexRecipes);
     }
 
@@ -65,18 +88,46 @@ public abstract class SingleInputRecipeCache<INPUT, INGREDIENT extends InputIngr
             return null;
         }
         initCacheIfNeeded(world);
-        RECIPE recipe = findFirstRecipe(input, cache.getRecipes(input));
-        return recipe == null ? findFirstRecipe(input, complexRecipes) : recipe;
-    }
-
-    @Nullable
-    private RECIPE findFirstRecipe(INPUT input, Iterable<RECIPE> recipes) {
-        for (RECIPE recipe : recipes) {
+        lookupCache.onLookup();
+        Object key = cache.createLookupKey(input, false);
+        if (lookupCache.isKnownMiss(key)) {
+            return null;
+        }
+        RECIPE lastMatch = lookupCache.getLastMatch(key);
+        if (lastMatch != null && lastMatch.test(input)) {
+            lookupCache.onMatchHit();
+            return lastMatch;
+        }
+        //Keep track of whether any recipe we check accepts the type of input, as if none do, the result of the lookup only depends on the type
+        // and not the amount, which means we can remember it
+        boolean typeMatched = false;
+        RECIPE found = null;
+        for (RECIPE recipe : cache.getRecipes(input)) {
             if (recipe.test(input)) {
-                return recipe;
+                found = recipe;
+                break;
             }
+            //Note: All the recipes in the basic cache accept the type of the input
+            typeMatched = true;
         }
-        return null;
+        if (found == null) {
+            for (RECIPE recipe : complexRecipes) {
+                if (recipe.test(input)) {
+                    found = recipe;
+                    break;
+                } else if (!typeMatched && inputExtractor.apply(recipe).testType(input)) {
+                    typeMatched = true;
+                }
+            }
+        }
+        if (!typeMatched) {
+            if (found == null) {
+                lookupCache.recordMiss(cache.createLookupKey(input, true));
+            } else {
+                lookupCache.recordMatch(cache.createLookupKey(input, true), found);
+            }
+        }
+        return found;
     }
 
     /**
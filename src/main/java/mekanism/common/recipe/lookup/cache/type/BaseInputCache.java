@@ -59,6 +59,16 @@ public abstract class BaseInputCache<KEY, INPUT, INGREDIENT extends InputIngredi
         return inputCache.getOrDefault(createKey(input), Collections.emptySet());
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote Defaults to the basic key, which is only valid if the basic key fully represents the type of the input.
+     */
+    @Override
+    public Object createLookupKey(INPUT input, boolean persist) {
+        return createKey(input);
+    }
+
     /**
      * Creates a key for the given input for use in querying our input cache.
      *
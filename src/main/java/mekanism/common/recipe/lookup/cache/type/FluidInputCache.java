@@ -44,6 +44,11 @@ public class FluidInputCache<RECIPE extends MekanismRecipe> extends NBTSensitive
         return stack;
     }
 
+    @Override
+    protected FluidStack createPersistentNbtKey(FluidStack stack) {
+        return stack.copyWithAmount(1);
+    }
+
     @Override
     public boolean isEmpty(FluidStack input) {
         return input.isEmpty();
@@ -78,6 +78,17 @@ public interface IInputCache<INPUT, INGREDIENT extends InputIngredient<INPUT>, R
         return multi.forEachIngredient(recipe, this::mapInputs);
     }
 
+    /**
+     * Creates a key representing the type of the given input, including any data components it may have but ignoring the amount, for use in remembering the results of
+     * recipe lookups.
+     *
+     * @param input   Input to create a key for.
+     * @param persist {@code true} if the key will be stored and must therefore not be backed by the given input, {@code false} if it is only used for querying.
+     *
+     * @return Key representing the type of the given input.
+     */
+    Object createLookupKey(INPUT input, boolean persist);
+
     /**
      * Clears this {@link IInputCache}
      */
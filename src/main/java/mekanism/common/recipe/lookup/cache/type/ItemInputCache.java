@@ -68,6 +68,11 @@ public class ItemInputCache<RECIPE extends MekanismRecipe> extends NBTSensitiveI
         return HashedItem.raw(stack);
     }
 
+    @Override
+    protected HashedItem createPersistentNbtKey(ItemStack stack) {
+        return HashedItem.create(stack);
+    }
+
     @Override
     public boolean isEmpty(ItemStack input) {
         return input.isEmpty();
@@ -57,6 +57,16 @@ public abstract class NBTSensitiveInputCache<KEY, NBT_KEY, INPUT, INGREDIENT ext
         return Iterables.concat(nbtRecipes, basicRecipes);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @implNote Uses the NBT based key as the basic key does not represent any NBT data the input has.
+     */
+    @Override
+    public Object createLookupKey(INPUT input, boolean persist) {
+        return persist ? createPersistentNbtKey(input) : createNbtKey(input);
+    }
+
     /**
      * Creates a key for the given input including NBT for use in querying our input cache.
      *
@@ -68,6 +78,15 @@ public abstract class NBTSensitiveInputCache<KEY, NBT_KEY, INPUT, INGREDIENT ext
      */
     protected abstract NBT_KEY createNbtKey(INPUT input);
 
+    /**
+     * Creates a key for the given input including NBT that is safe to store.
+     *
+     * @param input Input to convert into an NBT based key.
+     *
+     * @return Key representing the given input including any NBT data that is not backed by the given input.
+     */
+    protected abstract NBT_KEY createPersistentNbtKey(INPUT input);
+
     /**
      * Adds a given recipe to the input cache using the corresponding NBT based key.
      *
@@ -14,7 +14,21 @@ import org.jetbrains.annotations.Nullable;
 
 public class RecipeCacheLookupMonitor<RECIPE extends MekanismRecipe> implements ICachedRecipeHolder<RECIPE>, IContentsListener {
 
+    /**
+     * Incremented to wake all dormant monitors, for changes that contents listeners don't know about.
+     */
+    private static volatile int wakeGeneration;
+
+    /**
+     * Wakes all monitors whose recipes are dormant, so that they recheck whether they can process. This is used when something that isn't tracked by contents
+     * listeners changes, such as the config.
+     */
+    public static void wakeAll() {
+        wakeGeneration++;
+    }
+
     private final IRecipeLookupHandler<RECIPE> handler;
+    private int knownWakeGeneration = wakeGeneration;
     protected final int cacheIndex;
     protected CachedRecipe<RECIPE> cachedRecipe;
     protected boolean hasNoRecipe;
@@ -64,7 +78,25 @@ public class RecipeCacheLookupMonitor<RECIPE extends MekanismRecipe> implements
         return FloatingLong.ZERO;
     }
 
+    /**
+     * A monitor is dormant when its recipe is paused due to errors, and nothing that might resolve those errors has changed since then. Dormant monitors skip looking up
+     * and validating their recipe until one of the contents listeners they are attached to fires, they are unpaused, or all monitors are {@link #wakeAll() woken}.
+     */
+    public boolean isDormant() {
+        return cachedRecipe != null && !shouldUnpause && cachedRecipe.isPausedForErrors() && !invalidateCache();
+    }
+
     public boolean updateAndProcess() {
+        int generation = wakeGeneration;
+        if (knownWakeGeneration != generation) {
+            knownWakeGeneration = generation;
+            unpause();
+        }
+        if (isDormant()) {
+            //Note: Paused recipes don't do any checks while processing, they just mark the holder as inactive
+            cachedRecipe.process();
+            return true;
+        }
         CachedRecipe<RECIPE> oldCache = cachedRecipe;
         cachedRecipe = getUpdatedCache(cacheIndex);
         if (cachedRecipe != oldCache) {
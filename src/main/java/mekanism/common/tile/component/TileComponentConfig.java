@@ -74,10 +74,10 @@ public class TileComponentConfig implements ITileComponent, ISpecificContainerTr
     }
 
     public void addConfigChangeListener(TransmissionType transmissionType, Consumer<Direction> listener) {
-        //Note: We set the initial capacity to one as currently the only place that really uses this is ConfigHolders
-        // and each tile should really only have one holder per transmission type, but we have this as a list for
+        //Note: We set the initial capacity to two as currently the only places that really use this are ConfigHolders and
+        // the ejector, and each tile should really only have one of each per transmission type, but we have this as a list for
         // expandability and in case any of the tiles end up needing to make use of this
-        configChangeListeners.computeIfAbsent(transmissionType, type -> new ArrayList<>(1)).add(listener);
+        configChangeListeners.computeIfAbsent(transmissionType, type -> new ArrayList<>(2)).add(listener);
     }
 
     public void sideChanged(TransmissionType transmissionType, RelativeSide side) {
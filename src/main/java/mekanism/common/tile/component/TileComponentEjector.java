@@ -48,6 +48,7 @@ import mekanism.common.tile.component.config.DataType;
 import mekanism.common.tile.component.config.slot.ChemicalSlotInfo;
 import mekanism.common.tile.component.config.slot.EnergySlotInfo;
 import mekanism.common.tile.component.config.slot.FluidSlotInfo;
+import mekanism.common.tile.component.config.slot.IProxiedSlotInfo;
 import mekanism.common.tile.component.config.slot.ISlotInfo;
 import mekanism.common.tile.component.config.slot.InventorySlotInfo;
 import mekanism.common.util.CableUtils;
@@ -58,7 +59,6 @@ import mekanism.common.util.InventoryUtils;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.NBTUtils;
 import mekanism.common.util.TransporterUtils;
-import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.core.component.DataComponentMap;
@@ -80,6 +80,7 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
 
     private final Map<TransmissionType, Map<Direction, BlockCapabilityCache<?, @Nullable Direction>>> capabilityCaches = new EnumMap<>(TransmissionType.class);
     private final Map<Direction, BlockEnergyCapabilityCache> energyCapabilityCache = new EnumMap<>(Direction.class);
+    private final Map<TransmissionType, EjectPlan> ejectPlans = new EnumMap<>(TransmissionType.class);
 
     private final Function<LogisticalTransporterBase, EnumColor> outputColorFunction;
     private final EnumColor[] inputColors = new EnumColor[EnumUtils.SIDES.length];
@@ -125,6 +126,7 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
             ConfigInfo info = config.getConfig(type);
             if (info != null) {
                 configInfo.put(type, info);
+                config.addConfigChangeListener(type, direction -> invalidatePlan(type));
             }
         }
         return this;
@@ -152,17 +154,64 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
             if (isEjecting(info, type)) {
                 if (type == TransmissionType.ITEM) {
                     if (tickDelay == 0) {
-                        outputItems(facing.get(), info);
+                        outputItems(getPlan(type, facing.get(), info));
                     } else {
                         tickDelay--;
                     }
                 } else if (type != TransmissionType.HEAT) {
-                    eject(type, facing.get(), info);
+                    eject(type, getPlan(type, facing.get(), info));
                 }
             }
         }
     }
 
+    private void invalidatePlan(TransmissionType type) {
+        ejectPlans.remove(type);
+    }
+
+    /**
+     * Gets the output plan for the given type, rebuilding it if it was invalidated or the tile has been rotated since it was built.
+     */
+    private EjectPlan getPlan(TransmissionType type, Direction facing, ConfigInfo info) {
+        EjectPlan plan = ejectPlans.get(type);
+        if (plan == null || plan.facing != facing) {
+            plan = new EjectPlan(facing);
+            boolean proxied = false;
+            for (DataType dataType : info.getSupportedDataTypes()) {
+                if (dataType.canOutput()) {
+                    ISlotInfo slotInfo = info.getSlotInfo(dataType);
+                    if (slotInfo != null) {
+                        Set<Direction> outputSides = getSidesForData(info, facing, dataType);
+                        if (!outputSides.isEmpty()) {
+                            plan.slotOutputs.add(new SlotOutput(slotInfo, outputSides));
+                            proxied |= slotInfo instanceof IProxiedSlotInfo;
+                        }
+                    }
+                }
+            }
+            //Note: Proxied slots may change which containers they provide, so we can only resolve the containers ahead of time if none of the slots are proxied.
+            // Items are not resolved ahead of time as ejecting them works per data type rather than per container
+            if (!proxied && type != TransmissionType.ITEM) {
+                Map<Object, Set<Direction>> outputData = getOutputData(type, plan.slotOutputs, false);
+                if (outputData != null) {
+                    List<EjectTarget> targets = new ArrayList<>(outputData.size());
+                    for (Map.Entry<Object, Set<Direction>> entry : outputData.entrySet()) {
+                        //Skip sides that currently don't have a target, if one gets added the cache will be invalidated and the plan will be rebuilt
+                        List<?> caches = getCapabilityCaches(type, entry.getKey(), entry.getValue(), true);
+                        if (!caches.isEmpty()) {
+                            targets.add(new EjectTarget(entry.getKey(), caches));
+                        }
+                    }
+                    plan.targets = targets;
+                } else {
+                    plan.targets = Collections.emptyList();
+                }
+            }
+            ejectPlans.put(type, plan);
+        }
+        return plan;
+    }
+
     private void addData(Map<Object, Set<Direction>> outputData, Object container, Set<Direction> outputSides) {
         Set<Direction> directions = outputData.get(container);
         if (directions == null) {
@@ -174,153 +223,171 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
     }
 
     /**
-     * @apiNote Ensure that it can eject before calling this method.
+     * Collects the containers of the given slots and what sides each of them output to.
+     *
+     * @param onlyEjectable {@code true} to skip any containers that can't currently eject anything.
+     *
+     * @return Containers mapped to their output sides, or {@code null} if there are none.
      */
-    private void eject(TransmissionType type, Direction facing, ConfigInfo info) {
+    @Nullable
+    private Map<Object, Set<Direction>> getOutputData(TransmissionType type, List<SlotOutput> slotOutputs, boolean onlyEjectable) {
         //Used to keep track of tanks to what sides they output to
         Map<Object, Set<Direction>> outputData = null;
-        for (DataType dataType : info.getSupportedDataTypes()) {
-            if (dataType.canOutput()) {
-                ISlotInfo slotInfo = info.getSlotInfo(dataType);
-                if (slotInfo != null) {
-                    Set<Direction> outputSides = getSidesForData(info, facing, dataType);
-                    if (!outputSides.isEmpty()) {
-                        if (outputData == null) {
-                            //Lazy init outputData, we use an identity hashmap to allow for cheaper compare checks
-                            outputData = new IdentityHashMap<>();
-                        }
-                        switch (slotInfo) {
-                            case ChemicalSlotInfo<?, ?, ?> chemicalSlotInfo when type.isChemical() -> {
-                                for (IChemicalTank<?, ?> tank : chemicalSlotInfo.getTanks()) {
-                                    if (!tank.isEmpty() && (canTankEject == null || canTankEject.test(tank))) {
-                                        addData(outputData, tank, outputSides);
-                                    }
-                                }
-                            }
-                            case FluidSlotInfo fluidSlotInfo when type == TransmissionType.FLUID -> {
-                                for (IExtendedFluidTank tank : fluidSlotInfo.getTanks()) {
-                                    if (!tank.isEmpty()) {
-                                        addData(outputData, tank, outputSides);
-                                    }
-                                }
-                            }
-                            case EnergySlotInfo energySlotInfo when type == TransmissionType.ENERGY -> {
-                                for (IEnergyContainer container : energySlotInfo.getContainers()) {
-                                    if (!container.isEmpty()) {
-                                        addData(outputData, container, outputSides);
-                                    }
-                                }
-                            }
-                            default -> {
-                            }
-                        }
+        for (SlotOutput slotOutput : slotOutputs) {
+            List<?> containers = switch (slotOutput.slotInfo()) {
+                case ChemicalSlotInfo<?, ?, ?> chemicalSlotInfo when type.isChemical() -> chemicalSlotInfo.getTanks();
+                case FluidSlotInfo fluidSlotInfo when type == TransmissionType.FLUID -> fluidSlotInfo.getTanks();
+                case EnergySlotInfo energySlotInfo when type == TransmissionType.ENERGY -> energySlotInfo.getContainers();
+                default -> Collections.emptyList();
+            };
+            for (Object container : containers) {
+                if (!onlyEjectable || canEject(container)) {
+                    if (outputData == null) {
+                        //Lazy init outputData, we use an identity hashmap to allow for cheaper compare checks
+                        outputData = new IdentityHashMap<>();
                     }
+                    addData(outputData, container, slotOutput.sides());
                 }
             }
         }
-        if (outputData != null && !outputData.isEmpty()) {
-            ServerLevel level = (ServerLevel) tile.getLevel();
-            BlockPos pos = tile.getBlockPos();
-            Map<Direction, BlockCapabilityCache<?, @Nullable Direction>> typeCapabilityCaches = capabilityCaches.computeIfAbsent(type, t -> new EnumMap<>(Direction.class));
-            for (Map.Entry<Object, Set<Direction>> entry : outputData.entrySet()) {
-                Set<Direction> sides = entry.getValue();
-                if (type.isChemical()) {
-                    emit(level, pos, typeCapabilityCaches, sides, (IChemicalTank<?, ?>) entry.getKey());
-                } else if (type == TransmissionType.FLUID) {
-                    List<BlockCapabilityCache<IFluidHandler, @Nullable Direction>> caches = getCapabilityCaches(level, pos, typeCapabilityCaches, sides, Capabilities.FLUID);
-                    FluidUtils.emit(caches, (IExtendedFluidTank) entry.getKey(), fluidEjectRate.getAsInt());
-                } else if (type == TransmissionType.ENERGY) {
-                    IEnergyContainer container = (IEnergyContainer) entry.getKey();
-                    List<BlockEnergyCapabilityCache> caches = new ArrayList<>(sides.size());
-                    for (Direction side : sides) {
-                        BlockEnergyCapabilityCache cache = energyCapabilityCache.get(side);
-                        if (cache == null) {
-                            cache = BlockEnergyCapabilityCache.create(level, pos.relative(side), side.getOpposite());
-                            energyCapabilityCache.put(side, cache);
-                        }
-                        caches.add(cache);
-                    }
-                    CableUtils.emit(caches, container, energyEjectRate == null ? container.getMaxEnergy() : energyEjectRate.get());
+        return outputData;
+    }
+
+    private boolean canEject(Object container) {
+        return switch (container) {
+            case IChemicalTank<?, ?> tank -> !tank.isEmpty() && (canTankEject == null || canTankEject.test(tank));
+            case IExtendedFluidTank tank -> !tank.isEmpty();
+            case IEnergyContainer energyContainer -> !energyContainer.isEmpty();
+            default -> false;
+        };
+    }
+
+    /**
+     * @apiNote Ensure that it can eject before calling this method.
+     */
+    private void eject(TransmissionType type, EjectPlan plan) {
+        if (plan.targets == null) {
+            //Some of the slots are proxied, look up the containers and their targets again
+            Map<Object, Set<Direction>> outputData = getOutputData(type, plan.slotOutputs, true);
+            if (outputData != null) {
+                for (Map.Entry<Object, Set<Direction>> entry : outputData.entrySet()) {
+                    emit(type, entry.getKey(), getCapabilityCaches(type, entry.getKey(), entry.getValue(), false));
+                }
+            }
+        } else {
+            for (EjectTarget target : plan.targets) {
+                if (canEject(target.container())) {
+                    emit(type, target.container(), target.caches());
                 }
             }
         }
     }
 
-    private <CHEMICAL extends Chemical<CHEMICAL>, STACK extends ChemicalStack<CHEMICAL>, HANDLER extends IChemicalHandler<CHEMICAL, STACK>> void emit(ServerLevel level,
-          BlockPos pos, Map<Direction, BlockCapabilityCache<?, @Nullable Direction>> typeCapabilityCaches, Set<Direction> sides, IChemicalTank<CHEMICAL, STACK> tank) {
-        List<BlockCapabilityCache<HANDLER, @Nullable Direction>> caches = getCapabilityCaches(level, pos, typeCapabilityCaches, sides, ChemicalUtil.getCapabilityForChemical(tank));
-        ChemicalUtil.emit(caches, tank, chemicalEjectRate.getAsLong());
+    @SuppressWarnings("unchecked")
+    private void emit(TransmissionType type, Object container, List<?> caches) {
+        if (type.isChemical()) {
+            emit((IChemicalTank<?, ?>) container, caches);
+        } else if (type == TransmissionType.FLUID) {
+            FluidUtils.emit((List<BlockCapabilityCache<IFluidHandler, @Nullable Direction>>) caches, (IExtendedFluidTank) container, fluidEjectRate.getAsInt());
+        } else if (type == TransmissionType.ENERGY) {
+            IEnergyContainer energyContainer = (IEnergyContainer) container;
+            CableUtils.emit((List<BlockEnergyCapabilityCache>) caches, energyContainer, energyEjectRate == null ? energyContainer.getMaxEnergy() : energyEjectRate.get());
+        }
     }
 
     @SuppressWarnings("unchecked")
-    private static <HANDLER> List<BlockCapabilityCache<HANDLER, @Nullable Direction>> getCapabilityCaches(ServerLevel level, BlockPos pos,
-          Map<Direction, BlockCapabilityCache<?, @Nullable Direction>> typeCapabilityCaches, Set<Direction> sides, IMultiTypeCapability<HANDLER, ?> capability) {
-        List<BlockCapabilityCache<HANDLER, @Nullable Direction>> caches = new ArrayList<>(sides.size());
+    private <CHEMICAL extends Chemical<CHEMICAL>, STACK extends ChemicalStack<CHEMICAL>, HANDLER extends IChemicalHandler<CHEMICAL, STACK>> void emit(
+          IChemicalTank<CHEMICAL, STACK> tank, List<?> caches) {
+        ChemicalUtil.emit((List<BlockCapabilityCache<HANDLER, @Nullable Direction>>) caches, tank, chemicalEjectRate.getAsLong());
+    }
+
+    /**
+     * @param onlyPresent {@code true} to skip any sides that don't currently have a capability to eject to.
+     */
+    private List<?> getCapabilityCaches(TransmissionType type, Object container, Set<Direction> sides, boolean onlyPresent) {
+        List<Object> caches = new ArrayList<>(sides.size());
         for (Direction side : sides) {
-            BlockCapabilityCache<HANDLER, @Nullable Direction> cache = (BlockCapabilityCache<HANDLER, @Nullable Direction>) typeCapabilityCaches.get(side);
-            if (cache == null) {
-                cache = capability.createCache(level, pos.relative(side), side.getOpposite());
-                typeCapabilityCaches.put(side, cache);
+            if (type == TransmissionType.ENERGY) {
+                BlockEnergyCapabilityCache cache = getEnergyCapabilityCache(side);
+                if (!onlyPresent || cache.getCapability() != null) {
+                    caches.add(cache);
+                }
+            } else {
+                BlockCapabilityCache<?, @Nullable Direction> cache;
+                if (type.isChemical()) {
+                    cache = getCapabilityCache(type, ChemicalUtil.getCapabilityForChemical((IChemicalTank<?, ?>) container), side);
+                } else {
+                    cache = getCapabilityCache(type, Capabilities.FLUID, side);
+                }
+                if (!onlyPresent || cache.getCapability() != null) {
+                    caches.add(cache);
+                }
             }
-            caches.add(cache);
         }
         return caches;
     }
 
+    @SuppressWarnings("unchecked")
+    private <HANDLER> BlockCapabilityCache<HANDLER, @Nullable Direction> getCapabilityCache(TransmissionType type, IMultiTypeCapability<HANDLER, ?> capability,
+          Direction side) {
+        Map<Direction, BlockCapabilityCache<?, @Nullable Direction>> typeCapabilityCaches = capabilityCaches.computeIfAbsent(type, t -> new EnumMap<>(Direction.class));
+        BlockCapabilityCache<HANDLER, @Nullable Direction> cache = (BlockCapabilityCache<HANDLER, @Nullable Direction>) typeCapabilityCaches.get(side);
+        if (cache == null) {
+            //Rebuild the plan whenever the target changes, so that sides that didn't have a target when the plan was built get picked up
+            cache = capability.createCache((ServerLevel) tile.getLevel(), tile.getBlockPos().relative(side), side.getOpposite(), () -> !tile.isRemoved(),
+                  () -> invalidatePlan(type));
+            typeCapabilityCaches.put(side, cache);
+        }
+        return cache;
+    }
+
+    private BlockEnergyCapabilityCache getEnergyCapabilityCache(Direction side) {
+        BlockEnergyCapabilityCache cache = energyCapabilityCache.get(side);
+        if (cache == null) {
+            cache = BlockEnergyCapabilityCache.create((ServerLevel) tile.getLevel(), tile.getBlockPos().relative(side), side.getOpposite(), () -> !tile.isRemoved(),
+                  () -> invalidatePlan(TransmissionType.ENERGY));
+            energyCapabilityCache.put(side, cache);
+        }
+        return cache;
+    }
+
     /**
      * @apiNote Ensure that it can eject before calling this method.
      */
-    private void outputItems(Direction facing, ConfigInfo info) {
-        ServerLevel level = (ServerLevel) tile.getLevel();
-        Map<Direction, BlockCapabilityCache<?, @Nullable Direction>> typeCapabilityCaches = null;
-        for (DataType dataType : info.getSupportedDataTypes()) {
-            if (!dataType.canOutput()) {
-                continue;
-            }
-            ISlotInfo slotInfo = info.getSlotInfo(dataType);
-            if (slotInfo instanceof InventorySlotInfo inventorySlotInfo) {
-                //Validate the slot info is of the correct type
-                Set<Direction> outputs = getSidesForData(info, facing, dataType);
-                if (!outputs.isEmpty()) {
-                    EjectTransitRequest ejectMap = null;
-                    if (typeCapabilityCaches == null) {
-                        typeCapabilityCaches = capabilityCaches.computeIfAbsent(TransmissionType.ITEM, t -> new EnumMap<>(Direction.class));
+    private void outputItems(EjectPlan plan) {
+        for (SlotOutput slotOutput : plan.slotOutputs) {
+            //Validate the slot info is of the correct type
+            if (slotOutput.slotInfo() instanceof InventorySlotInfo inventorySlotInfo) {
+                EjectTransitRequest ejectMap = null;
+                for (Direction side : slotOutput.sides()) {
+                    IItemHandler capability = getCapabilityCache(TransmissionType.ITEM, Capabilities.ITEM, side).getCapability();
+                    if (capability == null) {
+                        //Skip sides where there isn't a target
+                        continue;
                     }
-                    for (Direction side : outputs) {
-                        BlockCapabilityCache<IItemHandler, @Nullable Direction> cache = (BlockCapabilityCache<IItemHandler, @Nullable Direction>) typeCapabilityCaches.get(side);
-                        if (cache == null) {
-                            cache = Capabilities.ITEM.createCache(level, tile.getBlockPos().relative(side), side.getOpposite());
-                            typeCapabilityCaches.put(side, cache);
-                        }
-                        IItemHandler capability = cache.getCapability();
-                        if (capability == null) {
-                            //Skip sides where there isn't a target
-                            continue;
-                        }
-                        IItemHandler handler = getHandler(side);
-                        if (ejectMap == null) {
-                            //NOTE: The below logic and the entire concept of EjectTransitRequest relies on the implementation detail that
-                            // per DataType all exposed slots are the same regardless of the actual side. If this ever changes or there are
-                            // cases discovered where this is not the case we will instead need to calculate the eject map for each output side
-                            // instead of only having to do it once per DataType
-                            ejectMap = InventoryUtils.getEjectItemMap(new EjectTransitRequest(handler), inventorySlotInfo.getSlots());
-                            //No items to eject, exit
-                            if (ejectMap.isEmpty()) {
-                                break;
-                            }
-                        } else {
-                            //Update the handler so that if/when the response uses it, it makes sure it is using the correct side's restrictions
-                            ejectMap.handler = handler;
+                    IItemHandler handler = getHandler(side);
+                    if (ejectMap == null) {
+                        //NOTE: The below logic and the entire concept of EjectTransitRequest relies on the implementation detail that
+                        // per DataType all exposed slots are the same regardless of the actual side. If this ever changes or there are
+                        // cases discovered where this is not the case we will instead need to calculate the eject map for each output side
+                        // instead of only having to do it once per DataType
+                        ejectMap = InventoryUtils.getEjectItemMap(new EjectTransitRequest(handler), inventorySlotInfo.getSlots());
+                        //No items to eject, exit
+                        if (ejectMap.isEmpty()) {
+                            break;
                         }
-                        //If the spot is not loaded just skip trying to eject to it
-                        TransitResponse response = ejectMap.eject(tile, capability, 0, this.outputColorFunction);
-                        if (!response.isEmpty()) {
-                            // use the items returned by the TransitResponse; will be visible next loop
-                            response.useAll();
-                            if (ejectMap.isEmpty()) {
-                                //If we are out of items to eject, break
-                                break;
-                            }
+                    } else {
+                        //Update the handler so that if/when the response uses it, it makes sure it is using the correct side's restrictions
+                        ejectMap.handler = handler;
+                    }
+                    //If the spot is not loaded just skip trying to eject to it
+                    TransitResponse response = ejectMap.eject(tile, capability, 0, this.outputColorFunction);
+                    if (!response.isEmpty()) {
+                        // use the items returned by the TransitResponse; will be visible next loop
+                        response.useAll();
+                        if (ejectMap.isEmpty()) {
+                            //If we are out of items to eject, break
+                            break;
                         }
                     }
                 }
@@ -549,6 +616,32 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
     }
     //End computer related methods
 
+    /**
+     * What a transmission type outputs to, resolved from the side config and facing of the tile. Plans are only rebuilt when the side config changes, the tile is
+     * rotated, or the capability at one of the output sides is invalidated, rather than every time we eject.
+     */
+    private static class EjectPlan {
+
+        private final Direction facing;
+        private final List<SlotOutput> slotOutputs = new ArrayList<>();
+        /**
+         * Containers to eject from and the caches of the sides that had a target when the plan was built, or {@code null} if the containers have to be looked up each
+         * time we eject.
+         */
+        @Nullable
+        private List<EjectTarget> targets;
+
+        private EjectPlan(Direction facing) {
+            this.facing = facing;
+        }
+    }
+
+    private record SlotOutput(ISlotInfo slotInfo, Set<Direction> sides) {
+    }
+
+    private record EjectTarget(Object container, List<?> caches) {
+    }
+
     private static class EjectTransitRequest extends HandlerTransitRequest {
 
         public IItemHandler handler;
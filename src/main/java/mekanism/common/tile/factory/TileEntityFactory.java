@@ -430,6 +430,10 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
         if (upgrade == Upgrade.SPEED) {
             ticksRequired = MekanismUtils.getTicks(this, BASE_TICKS_REQUIRED);
         }
+        //Upgrades may change how much energy or time the recipes need, so let them recheck if they can process now
+        for (FactoryRecipeCacheLookupMonitor<RECIPE> cacheLookupMonitor : recipeCacheLookupMonitors) {
+            cacheLookupMonitor.unpause();
+        }
     }
 
     @NotNull
@@ -351,7 +351,7 @@ public abstract class TileEntityMultiblock<T extends MultiblockData> extends Til
                     // then we mark the structure as needing to be re-validated
                     //Note: This isn't a super accurate check as if a node gets replaced by command or mod with say dirt
                     // it won't know to invalidate it but oh well. (See java docs on internalLocations for more caveats)
-                    getStructure().markForUpdate(level, true);
+                    getStructure().markInnerForUpdate(level, neighborPos);
                 }
             }
         }
@@ -6,6 +6,7 @@ import java.util.Set;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.BooleanSupplier;
 import mekanism.api.IContentsListener;
+import mekanism.api.Upgrade;
 import mekanism.api.chemical.gas.Gas;
 import mekanism.api.chemical.gas.GasStack;
 import mekanism.api.chemical.gas.IGasTank;
@@ -109,6 +110,13 @@ public abstract class TileEntityRecipeMachine<RECIPE extends MekanismRecipe> ext
         return recipeCacheUnpauseSaveOnlyListener;
     }
 
+    @Override
+    public void recalculateUpgrades(Upgrade upgrade) {
+        super.recalculateUpgrades(upgrade);
+        //Upgrades may change how much energy or time the recipe needs, so let it recheck if it can process now
+        recipeCacheLookupMonitor.unpause();
+    }
+
     @Override
     public void addContainerTrackers(MekanismContainer container) {
         super.addContainerTrackers(container);
@@ -176,7 +176,7 @@ public abstract class TileEntityStructuralMultiblock extends TileEntityMekanism
                             // then we mark the structure as needing to be re-validated
                             //Note: This isn't a super accurate check as if a node gets replaced by command or mod with say dirt
                             // it won't know to invalidate it but oh well. (See java docs on internalLocations for more caveats)
-                            s.markForUpdate(level, true);
+                            s.markInnerForUpdate(level, neighborPos);
                         }
                     }
                 }
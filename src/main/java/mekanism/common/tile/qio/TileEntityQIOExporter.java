@@ -26,6 +26,7 @@ import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase.PathCalculator;
 import mekanism.common.content.qio.QIOFrequency;
 import mekanism.common.content.qio.QIOFrequency.QIOItemTypeData;
+import mekanism.common.content.qio.QIOTransferBatch;
 import mekanism.common.content.qio.filter.QIOFilter;
 import mekanism.common.content.qio.filter.QIOItemStackFilter;
 import mekanism.common.content.qio.filter.QIOModIDFilter;
@@ -384,11 +385,19 @@ public class TileEntityQIOExporter extends TileEntityQIOFilterHandler implements
                 }
             }
             // actually remove the items from the QIO frequency
-            for (Object2IntMap.Entry<HashedItem> entry : removed.object2IntEntrySet()) {
-                int amount = entry.getIntValue();
-                ItemStack ret = freq.removeByType(entry.getKey(), amount);
-                if (ret.getCount() != amount) {
-                    Mekanism.logger.error("QIO ejection item removal didn't line up with prediction: removed {}, expected {}", ret.getCount(), amount);
+            if (!removed.isEmpty()) {
+                QIOTransferBatch batch = freq.createTransferBatch();
+                for (Object2IntMap.Entry<HashedItem> entry : removed.object2IntEntrySet()) {
+                    batch.queueExtract(entry.getKey(), entry.getIntValue());
+                }
+                long[] extracted = batch.commit();
+                int index = 0;
+                for (Object2IntMap.Entry<HashedItem> entry : removed.object2IntEntrySet()) {
+                    int amount = entry.getIntValue();
+                    if (extracted[index] != amount) {
+                        Mekanism.logger.error("QIO ejection item removal didn't line up with prediction: removed {}, expected {}", extracted[index], amount);
+                    }
+                    index++;
                 }
             }
         }
@@ -97,6 +97,16 @@ public class TileEntityQIOImporter extends TileEntityQIOFilterHandler {
             //If the inventory has no slots just exit early
             return;
         }
+        //Batch the insertions so that the drives are only updated once no matter how many slots we import from
+        freq.startBatch();
+        try {
+            importSlots(freq, inventory, slots, canFilter);
+        } finally {
+            freq.endBatch();
+        }
+    }
+
+    private void importSlots(QIOFrequency freq, IItemHandler inventory, int slots, Predicate<ItemStack> canFilter) {
         Set<HashedItem> typesAdded = new HashSet<>();
         int maxTypes = getMaxTransitTypes(), maxCount = getMaxTransitCount(), countAdded = 0;
 
@@ -2,8 +2,11 @@ package mekanism.common.util;
 
 import mekanism.api.math.FloatingLong;
 import mekanism.common.lib.distribution.FloatingLongSplitInfo;
+import mekanism.common.lib.distribution.IntTarget;
 import mekanism.common.lib.distribution.IntegerSplitInfo;
 import mekanism.common.lib.distribution.LongSplitInfo;
+import mekanism.common.lib.distribution.LongTarget;
+import mekanism.common.lib.distribution.PrimitiveTarget;
 import mekanism.common.lib.distribution.SplitInfo;
 import mekanism.common.lib.distribution.Target;
 
@@ -75,6 +78,73 @@ public class EmitUtils {
         return sendToAcceptors(availableTargets, new LongSplitInfo(amountToSplit, availableTargets.getHandlerCount()), toSend);
     }
 
+    /**
+     * Primitive version of {@link #sendToAcceptors(Target, SplitInfo, Object)} that doesn't box any of the amounts being distributed.
+     *
+     * @param <HANDLER>        The handler of our target.
+     * @param <EXTRA>          Any extra information we may need.
+     * @param <SPLIT_INFO>     The split info of the target.
+     * @param availableTargets The targets to distribute toSend fairly among.
+     * @param splitInfo        Information containing the split.
+     * @param toSend           Any extra information such as gas stack or fluid stack.
+     */
+    private static <HANDLER, EXTRA, SPLIT_INFO extends SplitInfo<?>> void sendToAcceptors(PrimitiveTarget<HANDLER, EXTRA, SPLIT_INFO> availableTargets,
+          SPLIT_INFO splitInfo, EXTRA toSend) {
+        //Simulate addition, sending when the requested amount is less than the amountPer
+        // splitInfo gets adjusted to account for how much is actually sent
+        availableTargets.sendPossible(toSend, splitInfo);
+        //Only run this if we changed the amountPer from when we first/last ran things
+        while (splitInfo.amountPerChanged) {
+            splitInfo.amountPerChanged = false;
+            //splitInfo gets adjusted to account for how much is actually sent,
+            // and if amountPer got changed again, and we need to rerun this
+            availableTargets.shiftNeeded(splitInfo);
+        }
+        //Evenly distribute the remaining amount we have to give between all targets and handlers
+        // splitInfo gets adjusted to account for how much is actually sent
+        availableTargets.sendRemainingSplit(splitInfo);
+    }
+
+    /**
+     * Primitive version of {@link #sendToAcceptors(Target, int, Object)} that doesn't box any of the amounts being distributed.
+     *
+     * @param <HANDLER>        The handler of our target.
+     * @param <EXTRA>          Any extra information we may need
+     * @param availableTargets The targets to distribute toSend fairly among.
+     * @param amountToSplit    The amount to split between all the targets
+     * @param toSend           Any extra information such as gas stack or fluid stack.
+     *
+     * @return The amount that actually got sent.
+     */
+    public static <HANDLER, EXTRA> int sendToAcceptors(IntTarget<HANDLER, EXTRA> availableTargets, int amountToSplit, EXTRA toSend) {
+        if (availableTargets.getHandlerCount() == 0) {
+            return 0;
+        }
+        IntegerSplitInfo splitInfo = new IntegerSplitInfo(amountToSplit, availableTargets.getHandlerCount());
+        sendToAcceptors(availableTargets, splitInfo, toSend);
+        return splitInfo.getTotalSentAsInt();
+    }
+
+    /**
+     * Primitive version of {@link #sendToAcceptors(Target, long, Object)} that doesn't box any of the amounts being distributed.
+     *
+     * @param <HANDLER>        The handler of our target.
+     * @param <EXTRA>          Any extra information we may need
+     * @param availableTargets The targets to distribute toSend fairly among.
+     * @param amountToSplit    The amount to split between all the targets
+     * @param toSend           Any extra information such as gas stack or fluid stack.
+     *
+     * @return The amount that actually got sent.
+     */
+    public static <HANDLER, EXTRA> long sendToAcceptors(LongTarget<HANDLER, EXTRA> availableTargets, long amountToSplit, EXTRA toSend) {
+        if (availableTargets.getHandlerCount() == 0) {
+            return 0;
+        }
+        LongSplitInfo splitInfo = new LongSplitInfo(amountToSplit, availableTargets.getHandlerCount());
+        sendToAcceptors(availableTargets, splitInfo, toSend);
+        return splitInfo.getTotalSentAsLong();
+    }
+
     /**
      * @param availableTargets The EnergyAcceptorWrapper targets to send energy fairly to.
      * @param amountToSplit    The amount of energy to attempt to send
@@ -145,4 +145,62 @@ class FloatingLongPropertyTest implements WithQuickTheories {
               longs().all()
         ).check((a, b) -> a.subtract(b).equals(subtractViaBigDecimal(a, FloatingLong.create(b))));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Test accumulator addition matches FloatingLong addition")
+    void testAccumulatorAddition() {
+        floatingLongPairTheory().check((a, b) -> new FloatingLongAccumulator(a).add(b).valueEquals(a.add(b)));
+    }
+
+    @Test
+    @DisplayName("Test accumulator subtraction matches FloatingLong subtraction")
+    void testAccumulatorSubtraction() {
+        floatingLongPairTheory().check((a, b) -> new FloatingLongAccumulator(a).subtract(b).valueEquals(a.subtract(b)));
+    }
+
+    @Test
+    @DisplayName("Test accumulator multiplication matches FloatingLong multiplication")
+    void testAccumulatorMultiplying() {
+        floatingLongPairTheory().check((a, b) -> new FloatingLongAccumulator(a).multiply(b).valueEquals(a.multiply(b)));
+    }
+
+    @Test
+    @DisplayName("Test accumulator division matches FloatingLong division")
+    void testAccumulatorDivision() {
+        floatingLongPairTheory().check((a, b) -> b.isZero() || new FloatingLongAccumulator(a).divide(b).valueEquals(a.divide(b)));
+    }
+
+    @Test
+    @DisplayName("Test accumulator division by long matches FloatingLong division by long")
+    void testAccumulatorDivisionByLong() {
+        qt().forAll(
+              allFloatingLongs(),
+              longs().all()
+        ).check((a, b) -> b == 0 || new FloatingLongAccumulator(a).divide(b).valueEquals(a.divide(b)));
+    }
+
+    @Test
+    @DisplayName("Test accumulator addition and subtraction by long match FloatingLong")
+    void testAccumulatorLongOperations() {
+        qt().forAll(
+              allFloatingLongs(),
+              longs().all()
+        ).check((a, b) -> new FloatingLongAccumulator(a).add(b).valueEquals(a.add(b)) && new FloatingLongAccumulator(a).subtract(b).valueEquals(a.subtract(b)));
+    }
+
+    @Test
+    @DisplayName("Test accumulator comparisons match FloatingLong comparisons")
+    void testAccumulatorComparison() {
+        floatingLongPairTheory().check((a, b) -> Integer.signum(new FloatingLongAccumulator(a).compareTo(b)) == Integer.signum(a.compareTo(b)));
+    }
+
+    @Test
+    @DisplayName("Test accumulating a sequence of values matches chaining FloatingLong operations")
+    void testAccumulatorSequence() {
+        qt().forAll(
+              allFloatingLongs(),
+              allFloatingLongs(),
+              allFloatingLongs()
+        ).check((a, b, c) -> new FloatingLongAccumulator(a).add(b).subtract(c).valueEquals(a.add(b).subtract(c)));
+    }
+}
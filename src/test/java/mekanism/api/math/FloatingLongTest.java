@@ -155,4 +155,48 @@ class FloatingLongTest {
     void testConvertingStringToDecimal() {
         Assertions.assertEquals("0.00", FloatingLong.create(0, (short) 1).toString(2));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Test accumulator does not modify the values passed to it")
+    void testAccumulatorDoesNotModifyInputs() {
+        FloatingLong a = FloatingLong.create(509_876, (short) 5_555);
+        FloatingLong b = FloatingLong.create(13_479, (short) 6_789);
+        FloatingLongAccumulator accumulator = new FloatingLongAccumulator(a);
+        accumulator.add(b).subtract(FloatingLong.ONE);
+        Assertions.assertEquals(FloatingLong.createConst(509_876, (short) 5_555), a);
+        Assertions.assertEquals(FloatingLong.createConst(13_479, (short) 6_789), b);
+        Assertions.assertEquals(FloatingLong.createConst(523_355.2344), accumulator.toConst());
+    }
+
+    @Test
+    @DisplayName("Test accumulator copies are detached from the accumulator")
+    void testAccumulatorCopiesDetached() {
+        FloatingLongAccumulator accumulator = new FloatingLongAccumulator(FloatingLong.create(10));
+        FloatingLong copy = accumulator.toFloatingLong();
+        FloatingLong constant = accumulator.toConst();
+        accumulator.add(5);
+        Assertions.assertEquals(FloatingLong.createConst(10), copy);
+        Assertions.assertEquals(FloatingLong.createConst(10), constant);
+        Assertions.assertTrue(accumulator.valueEquals(FloatingLong.createConst(15)));
+    }
+
+    @Test
+    @DisplayName("Test accumulator clamping at zero and the max value")
+    void testAccumulatorClamping() {
+        FloatingLongAccumulator accumulator = new FloatingLongAccumulator();
+        Assertions.assertTrue(accumulator.subtract(FloatingLong.ONE).isZero());
+        Assertions.assertSame(FloatingLong.ZERO, accumulator.toConst());
+        accumulator.set(FloatingLong.MAX_VALUE).add(FloatingLong.ONE);
+        Assertions.assertEquals(FloatingLong.MAX_VALUE, accumulator.toConst());
+    }
+
+    @Test
+    @DisplayName("Test accumulator min and max")
+    void testAccumulatorMinMax() {
+        FloatingLongAccumulator accumulator = new FloatingLongAccumulator(FloatingLong.create(10));
+        Assertions.assertTrue(accumulator.min(FloatingLong.create(20)).valueEquals(FloatingLong.createConst(10)));
+        Assertions.assertTrue(accumulator.min(FloatingLong.create(5)).valueEquals(FloatingLong.createConst(5)));
+        Assertions.assertTrue(accumulator.max(FloatingLong.create(3)).valueEquals(FloatingLong.createConst(5)));
+        Assertions.assertTrue(accumulator.max(FloatingLong.create(7.5)).valueEquals(FloatingLong.createConst(7.5)));
+    }
+}
@@ -0,0 +1,65 @@
+package mekanism.common.attachments.qio;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.DecoderException;
+import net.minecraft.network.codec.ByteBufCodecs;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test encoding and decoding QIO drive contents over the network")
+class DriveContentsTest {
+
+    private static DriveContents decode(ByteBuf buffer) {
+        try {
+            return DriveContents.STREAM_CODEC.decode(buffer);
+        } finally {
+            buffer.release();
+        }
+    }
+
+    @Test
+    @DisplayName("Test round trip of drive contents")
+    void testRoundTrip() {
+        //Include counts that take up both the minimum and the maximum number of bytes as a var long
+        DriveContents contents = DriveContents.wrap(new long[]{
+              1, 2, 1,
+              -3, 4, Long.MAX_VALUE,
+              5, -6, 200
+        });
+        ByteBuf buffer = Unpooled.buffer();
+        DriveContents.STREAM_CODEC.encode(buffer, contents);
+        DriveContents decoded = decode(buffer);
+        Assertions.assertEquals(contents, decoded);
+        Assertions.assertEquals(3, decoded.types());
+
+        buffer = Unpooled.buffer();
+        DriveContents.STREAM_CODEC.encode(buffer, DriveContents.EMPTY);
+        Assertions.assertSame(DriveContents.EMPTY, decode(buffer));
+    }
+
+    @Test
+    @DisplayName("Test type counts that are larger than the remaining data are rejected before allocating")
+    void testOversizedCount() {
+        for (int types : new int[]{2, 65_536, Integer.MAX_VALUE / 3 + 1, Integer.MAX_VALUE}) {
+            ByteBuf buffer = Unpooled.buffer();
+            ByteBufCodecs.VAR_INT.encode(buffer, types);
+            //Only write a single entry worth of data
+            buffer.writeLong(1);
+            buffer.writeLong(2);
+            ByteBufCodecs.VAR_LONG.encode(buffer, 3);
+            Assertions.assertThrows(DecoderException.class, () -> decode(buffer), "Types: " + types);
+        }
+    }
+
+    @Test
+    @DisplayName("Test negative type counts are rejected")
+    void testNegativeCount() {
+        for (int types : new int[]{-1, Integer.MIN_VALUE}) {
+            ByteBuf buffer = Unpooled.buffer();
+            ByteBufCodecs.VAR_INT.encode(buffer, types);
+            Assertions.assertThrows(DecoderException.class, () -> decode(buffer), "Types: " + types);
+        }
+    }
+}
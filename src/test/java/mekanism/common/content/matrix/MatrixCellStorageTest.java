@@ -0,0 +1,159 @@
+package mekanism.common.content.matrix;
+
+import java.util.ArrayList;
+import java.util.List;
+import mekanism.api.Action;
+import mekanism.api.AutomationType;
+import mekanism.api.math.FloatingLong;
+import mekanism.common.capabilities.energy.BasicEnergyContainer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test filling and draining induction matrix cells")
+class MatrixCellStorageTest {
+
+    //Interior of the largest induction matrix (18x18x18) completely filled with cells
+    private static final int MAX_CELLS = 16 * 16 * 16;
+    //Capacity of an ultimate induction cell
+    private static final FloatingLong ULTIMATE_CAPACITY = FloatingLong.createConst(4_000_000_000_000L);
+    //Transfer one and a half cells worth of energy per tick, so that transfers regularly straddle cell boundaries
+    private static final FloatingLong PER_TICK = FloatingLong.createConst(6_000_000_000_000L);
+    //At most a partially filled cell, one full cell, and another partially filled cell can change in a single tick
+    private static final int MAX_TOUCHED_PER_TICK = 3;
+
+    private static List<CountingCell> createCells(MatrixCellStorage storage, int count) {
+        List<CountingCell> cells = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            CountingCell cell = new CountingCell();
+            cells.add(cell);
+            storage.add(cell);
+        }
+        return cells;
+    }
+
+    private static int touched(List<CountingCell> cells) {
+        int touched = 0;
+        for (CountingCell cell : cells) {
+            touched += cell.transfers;
+            cell.transfers = 0;
+        }
+        return touched;
+    }
+
+    private static FloatingLong stored(List<CountingCell> cells) {
+        FloatingLong stored = FloatingLong.ZERO;
+        for (CountingCell cell : cells) {
+            stored = stored.plusEqual(cell.getEnergy());
+        }
+        return stored;
+    }
+
+    @Test
+    @DisplayName("Test filling and draining a max size matrix of ultimate cells only touches the cells that change")
+    void testMaxSizeMatrix() {
+        MatrixCellStorage storage = new MatrixCellStorage();
+        List<CountingCell> cells = createCells(storage, MAX_CELLS);
+        FloatingLong capacity = ULTIMATE_CAPACITY.multiply(MAX_CELLS);
+        int ticks = 0;
+        while (!stored(cells).equals(capacity)) {
+            Assertions.assertTrue(ticks++ < 2 * MAX_CELLS, "Matrix never filled up");
+            storage.insert(PER_TICK.copy());
+            Assertions.assertTrue(touched(cells) <= MAX_TOUCHED_PER_TICK);
+        }
+        Assertions.assertTrue(cells.stream().allMatch(cell -> cell.getNeeded().isZero()));
+        //Once full, inserting shouldn't touch any cells
+        Assertions.assertEquals(PER_TICK, storage.insert(PER_TICK.copy()));
+        Assertions.assertEquals(0, touched(cells));
+
+        ticks = 0;
+        while (!stored(cells).isZero()) {
+            Assertions.assertTrue(ticks++ < 2 * MAX_CELLS, "Matrix never emptied");
+            storage.extract(PER_TICK.copy());
+            Assertions.assertTrue(touched(cells) <= MAX_TOUCHED_PER_TICK);
+        }
+        //Once empty, extracting shouldn't touch any cells
+        Assertions.assertEquals(PER_TICK, storage.extract(PER_TICK.copy()));
+        Assertions.assertEquals(0, touched(cells));
+    }
+
+    @Test
+    @DisplayName("Test alternating between filling and draining")
+    void testAlternating() {
+        MatrixCellStorage storage = new MatrixCellStorage();
+        List<CountingCell> cells = createCells(storage, MAX_CELLS);
+        storage.insert(ULTIMATE_CAPACITY.multiply(MAX_CELLS / 2));
+        touched(cells);
+        FloatingLong expected = stored(cells);
+        for (int i = 0; i < 100; i++) {
+            storage.insert(PER_TICK.copy());
+            Assertions.assertTrue(touched(cells) <= MAX_TOUCHED_PER_TICK);
+            storage.extract(PER_TICK.add(FloatingLong.ONE));
+            Assertions.assertTrue(touched(cells) <= MAX_TOUCHED_PER_TICK);
+            expected = expected.minusEqual(FloatingLong.ONE);
+            Assertions.assertEquals(expected, stored(cells));
+        }
+    }
+
+    @Test
+    @DisplayName("Test cells that start out in an arbitrary order")
+    void testUnorderedCells() {
+        MatrixCellStorage storage = new MatrixCellStorage();
+        List<CountingCell> cells = createCells(storage, 64);
+        //Every third cell starts out full, and every other cell starts partially filled
+        for (int i = 0; i < cells.size(); i++) {
+            if (i % 3 == 0) {
+                cells.get(i).setEnergy(ULTIMATE_CAPACITY);
+            } else if (i % 2 == 0) {
+                cells.get(i).setEnergy(FloatingLong.createConst(1_000));
+            }
+        }
+        FloatingLong capacity = ULTIMATE_CAPACITY.multiply(cells.size());
+        FloatingLong needed = capacity.subtract(stored(cells));
+        Assertions.assertEquals(FloatingLong.ONE, storage.insert(needed.add(FloatingLong.ONE)));
+        Assertions.assertEquals(capacity, stored(cells));
+        Assertions.assertEquals(FloatingLong.ONE, storage.extract(capacity.add(FloatingLong.ONE)));
+        Assertions.assertTrue(stored(cells).isZero());
+    }
+
+    @Test
+    @DisplayName("Test removing cells")
+    void testRemove() {
+        MatrixCellStorage storage = new MatrixCellStorage();
+        List<CountingCell> cells = createCells(storage, 8);
+        storage.insert(ULTIMATE_CAPACITY.multiply(4));
+        //Remove two of the full cells, and one of the empty ones
+        storage.removeAll(List.of(cells.get(0), cells.get(2), cells.get(6)));
+        Assertions.assertEquals(5, storage.size());
+        Assertions.assertTrue(storage.extract(ULTIMATE_CAPACITY.multiply(2)).isZero());
+        //Note: The removed cells keep the energy they had
+        Assertions.assertEquals(ULTIMATE_CAPACITY.multiply(2), stored(cells));
+        Assertions.assertTrue(storage.insert(ULTIMATE_CAPACITY.multiply(5)).isZero());
+        Assertions.assertEquals(ULTIMATE_CAPACITY.multiply(7), stored(cells));
+    }
+
+    private static class CountingCell extends BasicEnergyContainer {
+
+        private int transfers;
+
+        private CountingCell() {
+            super(ULTIMATE_CAPACITY, alwaysTrue, alwaysTrue, null);
+        }
+
+        @Override
+        public FloatingLong insert(FloatingLong amount, Action action, AutomationType automationType) {
+            if (action.execute()) {
+                transfers++;
+            }
+            return super.insert(amount, action, automationType);
+        }
+
+        @Override
+        public FloatingLong extract(FloatingLong amount, Action action, AutomationType automationType) {
+            if (action.execute()) {
+                transfers++;
+            }
+            return super.extract(amount, action, automationType);
+        }
+    }
+}
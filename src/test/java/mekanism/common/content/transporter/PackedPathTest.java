@@ -0,0 +1,58 @@
+package mekanism.common.content.transporter;
+
+import java.util.ArrayList;
+import java.util.List;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test encoding and decoding transporter paths")
+class PackedPathTest {
+
+    private static List<BlockPos> createPath(BlockPos start, int steps) {
+        List<BlockPos> path = new ArrayList<>();
+        BlockPos pos = start;
+        path.add(pos);
+        Direction[] directions = Direction.values();
+        for (int i = 0; i < steps; i++) {
+            //Walk in a pattern that uses every direction
+            pos = pos.relative(directions[(i * 5 / 3) % directions.length]);
+            path.add(pos);
+        }
+        return path;
+    }
+
+    @Test
+    @DisplayName("Test round trip of paths that do and don't fill up the packed longs")
+    void testRoundTrip() {
+        BlockPos start = new BlockPos(-1_234, -60, 5_678);
+        for (int steps : new int[]{1, 2, 15, 16, 17, 31, 32, 33, 100}) {
+            List<BlockPos> path = createPath(start, steps);
+            Assertions.assertEquals(path, PackedPath.decode(PackedPath.encode(path)), "Steps: " + steps);
+        }
+    }
+
+    @Test
+    @DisplayName("Test paths that aren't made up of adjacent positions are not encoded")
+    void testNonAdjacent() {
+        List<BlockPos> path = List.of(BlockPos.ZERO, new BlockPos(1, 0, 0), new BlockPos(3, 0, 0));
+        Assertions.assertEquals(0, PackedPath.encode(path).length);
+    }
+
+    @Test
+    @DisplayName("Test malformed paths decode to empty paths")
+    void testMalformed() {
+        long start = BlockPos.ZERO.asLong();
+        //Only a start position
+        Assertions.assertTrue(PackedPath.decode(new long[]{start}).isEmpty());
+        //Invalid direction
+        Assertions.assertTrue(PackedPath.decode(new long[]{start, 0x71}).isEmpty());
+        //Missing the end of the path
+        Assertions.assertTrue(PackedPath.decode(new long[]{start, 0x1111_1111_1111_1111L}).isEmpty());
+        //Steps after the end of the path
+        Assertions.assertTrue(PackedPath.decode(new long[]{start, 0x101}).isEmpty());
+        Assertions.assertTrue(PackedPath.decode(new long[]{start, 0x1, 0x1}).isEmpty());
+    }
+}
@@ -0,0 +1,89 @@
+package mekanism.common.lib.collection;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test LongDoubleMinHeap ordering and growth")
+class LongDoubleMinHeapTest {
+
+    @Test
+    @DisplayName("Test elements are polled in priority order")
+    void testOrdering() {
+        LongDoubleMinHeap heap = new LongDoubleMinHeap();
+        Random random = new Random(42);
+        double[] priorities = new double[500];
+        for (int i = 0; i < priorities.length; i++) {
+            priorities[i] = random.nextDouble() * 100;
+            //Use the index as the element so that we can look up what priority it was added with
+            heap.add(i, priorities[i]);
+        }
+        Assertions.assertEquals(priorities.length, heap.size());
+        double[] sorted = priorities.clone();
+        Arrays.sort(sorted);
+        for (double expected : sorted) {
+            long element = heap.poll();
+            Assertions.assertEquals(expected, heap.lastPriority());
+            Assertions.assertEquals(priorities[(int) element], heap.lastPriority());
+        }
+        Assertions.assertTrue(heap.isEmpty());
+        Assertions.assertThrows(NoSuchElementException.class, heap::poll);
+    }
+
+    @Test
+    @DisplayName("Test adding an element again with a lower priority acts as decrease-key")
+    void testDuplicatePush() {
+        LongDoubleMinHeap heap = new LongDoubleMinHeap();
+        heap.add(1, 10);
+        heap.add(2, 5);
+        heap.add(1, 2);
+        Assertions.assertEquals(3, heap.size());
+        //The cheaper entry comes out first
+        Assertions.assertEquals(1, heap.poll());
+        Assertions.assertEquals(2, heap.lastPriority());
+        Assertions.assertEquals(2, heap.poll());
+        Assertions.assertEquals(5, heap.lastPriority());
+        //And the stale entry is still there for the caller to skip
+        Assertions.assertEquals(1, heap.poll());
+        Assertions.assertEquals(10, heap.lastPriority());
+        Assertions.assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test equal priorities are all returned")
+    void testEqualPriorities() {
+        LongDoubleMinHeap heap = new LongDoubleMinHeap();
+        for (long i = 0; i < 10; i++) {
+            heap.add(i, 1);
+        }
+        long seen = 0;
+        while (!heap.isEmpty()) {
+            seen |= 1L << heap.poll();
+            Assertions.assertEquals(1, heap.lastPriority());
+        }
+        Assertions.assertEquals((1L << 10) - 1, seen);
+    }
+
+    @Test
+    @DisplayName("Test growing past the initial capacity and trimming")
+    void testGrowth() {
+        LongDoubleMinHeap heap = new LongDoubleMinHeap(1);
+        for (int i = 1_000; i > 0; i--) {
+            heap.add(i, i);
+        }
+        Assertions.assertEquals(1_000, heap.size());
+        for (int i = 1; i <= 500; i++) {
+            Assertions.assertEquals(i, heap.poll());
+        }
+        heap.clearAndTrim(8);
+        Assertions.assertTrue(heap.isEmpty());
+        //Make sure it still works after being trimmed
+        heap.add(5, 5);
+        heap.add(3, 3);
+        Assertions.assertEquals(3, heap.poll());
+        Assertions.assertEquals(5, heap.poll());
+    }
+}
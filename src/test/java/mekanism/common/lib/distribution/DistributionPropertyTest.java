@@ -1,6 +1,9 @@
 package mekanism.common.lib.distribution;
 
+import java.util.Iterator;
+import mekanism.common.lib.distribution.handler.IntegerHandler;
 import mekanism.common.lib.distribution.target.IntegerTarget;
+import mekanism.common.lib.distribution.target.PrimitiveIntegerTarget;
 import mekanism.common.util.EmitUtils;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -54,4 +57,24 @@ class DistributionPropertyTest implements WithQuickTheories {
               EmitUtils.sendToAcceptors(availableAcceptors, toSend, toSend) <= toSend
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Test primitive distribution matches boxed distribution")
+    void testPrimitiveDistributionMatches() {
+        qt().forAll(integers().between(0, 100), integers().between(0, 100), integers().between(0, 100), integers().allPositive())
+              .check((infinite, some, none, toSend) -> {
+                  IntegerTarget boxed = DistributionTest.getTargets(infinite, some, none);
+                  PrimitiveIntegerTarget primitive = DistributionTest.getPrimitiveTargets(infinite, some, none);
+                  if (EmitUtils.sendToAcceptors(boxed, toSend, toSend) != EmitUtils.sendToAcceptors(primitive, toSend, toSend)) {
+                      return false;
+                  }
+                  Iterator<IntegerHandler> primitiveHandlers = primitive.handlers.iterator();
+                  for (IntegerHandler handler : boxed.handlers) {
+                      if (handler.getAccepted() != primitiveHandlers.next().getAccepted()) {
+                          return false;
+                      }
+                  }
+                  return true;
+              });
+    }
+}
@@ -8,6 +8,7 @@ import mekanism.common.lib.distribution.handler.LyingAmountIntegerHandler;
 import mekanism.common.lib.distribution.handler.PartialIntegerHandler;
 import mekanism.common.lib.distribution.handler.SpecificAmountIntegerHandler;
 import mekanism.common.lib.distribution.target.IntegerTarget;
+import mekanism.common.lib.distribution.target.PrimitiveIntegerTarget;
 import mekanism.common.util.EmitUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
@@ -24,12 +25,26 @@ class DistributionTest {
         return target;
     }
 
+    public static PrimitiveIntegerTarget getPrimitiveTargets(int infinite, int some, int none) {
+        PrimitiveIntegerTarget target = new PrimitiveIntegerTarget();
+        addTargets(target, InfiniteIntegerHandler::new, infinite);
+        addTargets(target, PartialIntegerHandler::new, some);
+        addTargets(target, () -> new SpecificAmountIntegerHandler(0), none);
+        return target;
+    }
+
     private static void addTargets(IntegerTarget targets, Supplier<IntegerHandler> targetSupplier, int count) {
         for (int i = 0; i < count; i++) {
             targets.addHandler(targetSupplier.get());
         }
     }
 
+    private static void addTargets(PrimitiveIntegerTarget targets, Supplier<IntegerHandler> targetSupplier, int count) {
+        for (int i = 0; i < count; i++) {
+            targets.addHandler(targetSupplier.get());
+        }
+    }
+
     @Test
     @DisplayName("Test sending to targets where the amounts divide evenly")
     void testEvenDistribution() {
@@ -134,4 +149,68 @@ class DistributionTest {
         Assertions.assertEquals(1, lyingHandler.getAccepted());
         Assertions.assertEquals(8, specificHandler.getAccepted());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Test sending to non divisible amounts using the primitive distribution")
+    void testPrimitiveRemainderDistribution() {
+        int toSend = 10;
+        PrimitiveIntegerTarget availableAcceptors = getPrimitiveTargets(7, 0, 0);
+        Assertions.assertEquals(toSend, EmitUtils.sendToAcceptors(availableAcceptors, toSend, toSend));
+        int singleAccepted = 0, twoAccepted = 0;
+        for (IntegerHandler handler : availableAcceptors.handlers) {
+            Assertions.assertTrue(handler.getAccepted() == 1 || handler.getAccepted() == 2);
+            if (handler.getAccepted() == 1) {
+                singleAccepted++;
+            } else {
+                twoAccepted++;
+            }
+        }
+        Assertions.assertEquals(4, singleAccepted);
+        Assertions.assertEquals(3, twoAccepted);
+    }
+
+    @Test
+    @DisplayName("Test to check if the remainder is able to be sent when having to fall back using the primitive distribution")
+    void testPrimitiveCorrectFallbackRemainder() {
+        int toSend = 9;
+        PrimitiveIntegerTarget availableAcceptors = new PrimitiveIntegerTarget();
+        IntegerHandler specificHandler = new SpecificAmountIntegerHandler(8);
+        IntegerHandler lyingHandler = new LyingAmountIntegerHandler(1, 10);
+        availableAcceptors.addHandler(lyingHandler);
+        availableAcceptors.addHandler(specificHandler);
+        Assertions.assertEquals(toSend, EmitUtils.sendToAcceptors(availableAcceptors, toSend, toSend));
+        Assertions.assertEquals(1, lyingHandler.getAccepted());
+        Assertions.assertEquals(8, specificHandler.getAccepted());
+    }
+
+    @Test
+    @DisplayName("Test reusing a primitive target for multiple distributions")
+    void testPrimitiveTargetReuse() {
+        PrimitiveIntegerTarget availableAcceptors = new PrimitiveIntegerTarget();
+        IntegerHandler specificHandler = new SpecificAmountIntegerHandler(2);
+        IntegerHandler infiniteHandler = new InfiniteIntegerHandler();
+        availableAcceptors.addHandler(specificHandler);
+        availableAcceptors.addHandler(infiniteHandler);
+        Assertions.assertEquals(10, EmitUtils.sendToAcceptors(availableAcceptors, 10, 10));
+        Assertions.assertEquals(10, EmitUtils.sendToAcceptors(availableAcceptors, 10, 10));
+        Assertions.assertEquals(2, specificHandler.getAccepted());
+        Assertions.assertEquals(18, infiniteHandler.getAccepted());
+    }
+
+    @Test
+    @DisplayName("Test clearing a target so that it can be reused with different handlers")
+    void testClearedTargetReuse() {
+        IntegerTarget availableAcceptors = new IntegerTarget();
+        IntegerHandler lyingHandler = new LyingAmountIntegerHandler(1, 10);
+        availableAcceptors.addHandler(lyingHandler);
+        availableAcceptors.addHandler(new SpecificAmountIntegerHandler(8));
+        Assertions.assertEquals(9, EmitUtils.sendToAcceptors(availableAcceptors, 9, 9));
+        availableAcceptors.clear();
+        Assertions.assertEquals(0, availableAcceptors.getHandlerCount());
+        IntegerHandler infiniteHandler = new InfiniteIntegerHandler();
+        availableAcceptors.addHandler(infiniteHandler);
+        Assertions.assertEquals(5, EmitUtils.sendToAcceptors(availableAcceptors, 5, 5));
+        Assertions.assertEquals(5, infiniteHandler.getAccepted());
+        Assertions.assertEquals(1, lyingHandler.getAccepted());
+    }
+}
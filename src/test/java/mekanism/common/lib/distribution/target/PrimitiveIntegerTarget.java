@@ -0,0 +1,18 @@
+package mekanism.common.lib.distribution.target;
+
+import mekanism.common.lib.distribution.IntTarget;
+import mekanism.common.lib.distribution.IntegerSplitInfo;
+import mekanism.common.lib.distribution.handler.IntegerHandler;
+
+public final class PrimitiveIntegerTarget extends IntTarget<IntegerHandler, Integer> {
+
+    @Override
+    protected void acceptAmount(IntegerHandler integerHandler, IntegerSplitInfo splitInfo, int amount) {
+        splitInfo.send(integerHandler.perform(amount, false));
+    }
+
+    @Override
+    protected int simulate(IntegerHandler integerHandler, Integer offered) {
+        return integerHandler.perform(offered, true);
+    }
+}
@@ -0,0 +1,47 @@
+package mekanism.common.lib.math.voxel;
+
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test FloodFill queue and visited tracking")
+class FloodFillTest {
+
+    @Test
+    @DisplayName("Test queue keeps insertion order when wrapping and growing")
+    void testQueueOrder() {
+        FloodFill fill = new FloodFill();
+        long next = 0;
+        long expected = 0;
+        //Interleave adding and removing so that the queue wraps around before it has to grow
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 7 * (round + 1); i++) {
+                fill.enqueue(next++);
+            }
+            for (int i = 0; i < 5 * (round + 1); i++) {
+                Assertions.assertEquals(expected++, fill.poll());
+            }
+        }
+        while (fill.hasQueued()) {
+            Assertions.assertEquals(expected++, fill.poll());
+        }
+        Assertions.assertEquals(next, expected);
+        Assertions.assertThrows(NoSuchElementException.class, fill::poll);
+    }
+
+    @Test
+    @DisplayName("Test visiting positions")
+    void testVisit() {
+        FloodFill fill = new FloodFill();
+        Assertions.assertTrue(fill.visit(5));
+        Assertions.assertFalse(fill.visit(5));
+        Assertions.assertTrue(fill.isVisited(5));
+        Assertions.assertFalse(fill.isVisited(6));
+        Assertions.assertEquals(1, fill.visitedCount());
+        fill.enqueue(1);
+        fill.clear();
+        Assertions.assertEquals(0, fill.visitedCount());
+        Assertions.assertFalse(fill.hasQueued());
+    }
+}
@@ -0,0 +1,123 @@
+package mekanism.common.lib.math.voxel;
+
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import net.minecraft.core.BlockPos;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test VoxelBitSet position storage")
+class VoxelBitSetTest {
+
+    private static final BlockPos MIN = new BlockPos(-5, -64, -3);
+    private static final BlockPos MAX = new BlockPos(2, -60, 4);
+
+    private static VoxelBitSet createSet() {
+        return new VoxelBitSet(new VoxelCuboid(MIN, MAX));
+    }
+
+    private static List<BlockPos> allPositions() {
+        List<BlockPos> positions = new ArrayList<>();
+        for (BlockPos pos : BlockPos.betweenClosed(MIN, MAX)) {
+            positions.add(pos.immutable());
+        }
+        return positions;
+    }
+
+    @Test
+    @DisplayName("Test the corners of the bounds are contained and the positions just past them are not")
+    void testBoundsEdges() {
+        VoxelBitSet set = createSet();
+        for (BlockPos corner : List.of(MIN, MAX, new BlockPos(MIN.getX(), MAX.getY(), MIN.getZ()), new BlockPos(MAX.getX(), MIN.getY(), MAX.getZ()))) {
+            Assertions.assertTrue(set.add(corner));
+            Assertions.assertFalse(set.add(corner));
+            Assertions.assertTrue(set.contains(corner));
+        }
+        Assertions.assertEquals(4, set.size());
+        for (BlockPos outside : List.of(MIN.west(), MIN.below(), MIN.north(), MAX.east(), MAX.above(), MAX.south())) {
+            Assertions.assertFalse(set.contains(outside));
+            Assertions.assertFalse(set.contains(outside.getX(), outside.getY(), outside.getZ()));
+            Assertions.assertFalse(set.remove(outside));
+            Assertions.assertThrows(IllegalArgumentException.class, () -> set.add(outside));
+        }
+        Assertions.assertEquals(4, set.size());
+    }
+
+    @Test
+    @DisplayName("Test negative coordinates don't alias each other")
+    void testNegativeCoordinates() {
+        VoxelBitSet set = createSet();
+        BlockPos pos = new BlockPos(-1, -61, -1);
+        set.add(pos);
+        Assertions.assertTrue(set.contains(-1, -61, -1));
+        //Neither the neighbors nor the mirrored position should be contained
+        for (BlockPos neighbor : List.of(pos.east(), pos.west(), pos.above(), pos.below(), pos.north(), pos.south(), new BlockPos(1, 61, 1))) {
+            Assertions.assertFalse(set.contains(neighbor));
+        }
+        Assertions.assertIterableEquals(List.of(pos), set);
+    }
+
+    @Test
+    @DisplayName("Test every position that is added is iterated, and nothing else")
+    void testRoundTrip() {
+        VoxelBitSet set = createSet();
+        Set<BlockPos> expected = new ObjectOpenHashSet<>();
+        List<BlockPos> positions = allPositions();
+        for (int i = 0; i < positions.size(); i++) {
+            //Add an uneven subset so that both set and unset bits end up next to each other
+            if (i % 3 == 0 || i % 7 == 0) {
+                BlockPos pos = positions.get(i);
+                set.add(pos);
+                expected.add(pos);
+            }
+        }
+        Assertions.assertEquals(expected.size(), set.size());
+        for (BlockPos pos : positions) {
+            Assertions.assertEquals(expected.contains(pos), set.contains(pos));
+        }
+
+        Set<BlockPos> iterated = new ObjectOpenHashSet<>();
+        for (BlockPos pos : set) {
+            Assertions.assertFalse(pos instanceof BlockPos.MutableBlockPos);
+            Assertions.assertTrue(iterated.add(pos));
+        }
+        Assertions.assertEquals(expected, iterated);
+
+        Set<BlockPos> mutableIterated = new ObjectOpenHashSet<>();
+        set.forEachMutable(pos -> Assertions.assertTrue(mutableIterated.add(pos.immutable())));
+        Assertions.assertEquals(expected, mutableIterated);
+
+        //Sets with the same positions should be equal regardless of how they are stored
+        Assertions.assertEquals(expected, set);
+        Assertions.assertEquals(set, expected);
+        Assertions.assertEquals(expected.hashCode(), set.hashCode());
+    }
+
+    @Test
+    @DisplayName("Test removing positions while iterating")
+    void testIteratorRemove() {
+        VoxelBitSet set = createSet();
+        set.addAll(allPositions());
+        int total = set.size();
+        Iterator<BlockPos> iterator = set.iterator();
+        int removed = 0;
+        while (iterator.hasNext()) {
+            BlockPos pos = iterator.next();
+            if (pos.getY() == MIN.getY()) {
+                iterator.remove();
+                removed++;
+            }
+        }
+        Assertions.assertEquals(total - removed, set.size());
+        Assertions.assertTrue(set.stream().noneMatch(pos -> pos.getY() == MIN.getY()));
+
+        Iterator<BlockPos> stale = set.iterator();
+        set.add(MIN);
+        Assertions.assertThrows(ConcurrentModificationException.class, stale::next);
+    }
+}